@@ -0,0 +1,433 @@
+import bench.Op;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 게임 객체 준비 (기본 패키지: 게임 클래스와 패키지 전용 메서드에 접근하기 위함).
+ * - 모든 데이터는 고정 seed로 만들어 실행마다 같은 보드/단어 목록이 나온다.
+ * - 보드는 size x size, 단어 목록은 words개의 서로 다른 한글 단어. 칸은 단어 목록에서 무작위로 채운다.
+ * - 각 팩토리는 준비를 모두 끝낸 뒤 측정할 호출 하나만 Op로 감싸 돌려준다.
+ */
+public final class BenchFixtures {
+
+    private static final long SEED = 20240601L;
+    private static final int ROTATE = 1024; // 입력 순환 개수 (2의 거듭제곱)
+
+    private BenchFixtures() { }
+
+    // --- GameModel ---
+
+    /** 상대 칸의 토큰을 입력 → 항상 한 칸이 뒤집힌다 (보드 상태는 계속 바뀜) */
+    public static Op flipHit(int size, int words) {
+        Board board = board(size, words);
+        GameModel model = model(board, words);
+        Random rnd = new Random(SEED);
+        int[] cells = new int[ROTATE];
+        for (int i = 0; i < ROTATE; i++) cells[i] = rnd.nextInt(board.size());
+        int[] next = {0};
+        return () -> {
+            int cell = cells[next[0]++ & (ROTATE - 1)];
+            // 칸 주인의 상대 팀이 입력해야 뒤집힌다
+            return model.flipByInput(board.owner(cell).opponent(), board.token(cell));
+        };
+    }
+
+    /** 보드 어디에도 없는 단어 입력 */
+    public static Op flipMiss(int size, int words) {
+        Board board = board(size, words);
+        GameModel model = model(board, words);
+        String[] inputs = new String[ROTATE];
+        for (int i = 0; i < ROTATE; i++) inputs[i] = "없는단어" + i;
+        int[] next = {0};
+        return () -> model.flipByInput(Team.YELLOW, inputs[next[0]++ & (ROTATE - 1)]);
+    }
+
+    // --- TokenIndex ---
+
+    /** 공백/전각/대소문자가 섞인 입력 정규화 */
+    public static Op norm() {
+        String[] inputs = {" Apple ", "ＡＰＰＬＥ", "사과", "  바나나", "Ｋｉｗｉ ", "포도", "ＭＥＬＯＮ", "수박 "};
+        int[] next = {0};
+        return () -> TokenIndex.norm(inputs[next[0]++ & (inputs.length - 1)]);
+    }
+
+    /** 상대 팀 칸 중 같은 토큰 위치 조회 (보드 토큰 순환) */
+    public static Op positionsOf(int size, int words) {
+        Board board = board(size, words);
+        TokenIndex index = TokenIndex.fromBoard(board);
+        Random rnd = new Random(SEED);
+        String[] inputs = new String[ROTATE];
+        Team[] owners = new Team[ROTATE];
+        for (int i = 0; i < ROTATE; i++) {
+            int cell = rnd.nextInt(board.size());
+            inputs[i] = board.token(cell);
+            owners[i] = board.owner(cell);
+        }
+        int[] next = {0};
+        return () -> {
+            int i = next[0]++ & (ROTATE - 1);
+            return index.positionsOf(owners[i], inputs[i]);
+        };
+    }
+
+    /** 보드 전체로 인덱스 구성 (게임 시작 시 1회) */
+    public static Op indexFromBoard(int size, int words) {
+        Board board = board(size, words);
+        return () -> TokenIndex.fromBoard(board);
+    }
+
+    // --- WordPool ---
+
+    public static Op nextToken(int size, int words) {
+        Board board = board(size, words);
+        WordPool pool = WordPool.fromWords(board, wordList(words));
+        int[] avoid = {board.tokenId(0)};
+        return () -> avoid[0] = pool.nextToken(avoid[0]);
+    }
+
+    /** WordPool.fromBoard가 단어 순서를 정할 때 쓰는 보드 seed 계산 */
+    public static Op computeSeed(int size, int words) {
+        Board board = board(size, words);
+        return () -> WordPool.computeSeed(board);
+    }
+
+    // --- SentencePool ---
+
+    public static Op randomSentences(int sentences, int count) {
+        Random rnd = new Random(SEED);
+        List<String> list = new ArrayList<>(sentences);
+        for (int i = 0; i < sentences; i++) list.add(sentence(rnd));
+        SentencePool pool = new SentencePool(list);
+        return () -> pool.getRandomSentences(count);
+    }
+
+    // --- GameRoom (팀 방 전송) ---
+
+    /**
+     * players명(팀당 players/2) 방에서 상대 칸 단어 입력 → 서버 판정 후 모든 참여자에게 결과 전송.
+     * - 연결은 소켓 없이 송신 큐를 바로 비우는 NullConnection. 입력자는 팀 안에서 돌아가며 고른다.
+     */
+    public static Op roomInputHit(int players) {
+        BenchRoom r = startedRoom(players);
+        GameRoom room = r.room();
+        Board board = r.board();
+        ClientHandler[][] teams = r.teams();
+        Random rnd = new Random(SEED);
+        int[] cells = new int[ROTATE];
+        for (int i = 0; i < ROTATE; i++) cells[i] = rnd.nextInt(board.size());
+        int[] next = {0};
+        return () -> {
+            int i = next[0]++;
+            int cell = cells[i & (ROTATE - 1)];
+            ClientHandler[] typists = teams[board.owner(cell).opponent().ordinal()];
+            room.handleInput(typists[i % typists.length], board.token(cell));
+            return cell;
+        };
+    }
+
+    /** players명 방 전체에 틱 하나 브로드캐스트 (인코딩 1회 + 참여자 수만큼 큐 넣기) */
+    public static Op roomBroadcast(int players) {
+        GameRoom room = startedRoom(players).room();
+        int[] next = {0};
+        return () -> {
+            room.post(() -> room.broadcast(new NetworkProtocol.Msg_S2C_Tick(next[0]++ & 127)));
+            return null;
+        };
+    }
+
+    /** 시작된 방과 그 보드, 팀별 참여자 ([Team.ordinal()][]) */
+    private record BenchRoom(GameRoom room, Board board, ClientHandler[][] teams) { }
+
+    private static BenchRoom startedRoom(int players) {
+        GameServer server = new GameServer(ServerConfig.fromArgs(new String[]{"--match-log-dir=", "--board-pool=0"}));
+        Board board = board(0, 0);
+        GameModel model = new GameModel(board, TokenIndex.fromBoard(board), 1_000_000, 1,
+                WordPool.fromWords(board, wordList(board.size())));
+        // 콜백/방 이벤트를 호출한 스레드에서 바로 실행하는 스케줄러: 측정 스레드가 방 이벤트까지 처리한다
+        GameRoom room = new GameRoom("bench", "", Math.max(1, players / 2), model, server,
+                new SentencePool(List.of("벤치마크 문장")), new RoomScheduler(10, 512, Runnable::run),
+                ServerConfig.FlipSync.SERVER, 0, 0);
+        ClientHandler owner = null;
+        ClientHandler[][] teams = new ClientHandler[Team.values().length][players / 2];
+        for (int i = 0; i < players; i++) {
+            NullConnection conn = new NullConnection("bench-" + i);
+            ClientHandler h = server.createHandler(conn);
+            conn.handler = h;
+            h.handleMessage(new NetworkProtocol.Msg_C2S_Handshake("p" + i, List.of("binary")));
+            // 방장은 노랑, 이후 참여자는 인원이 적은 팀 (노랑/파랑 번갈아)
+            if (i == 0) room.open(h, Team.YELLOW, () -> true);
+            else room.join(h);
+            if (h.getCurrentRoom() != room) {
+                throw new IllegalStateException("방 입장 실패: " + i);
+            }
+            teams[i % 2][i / 2] = h;
+            room.setReady(h, true);
+            if (owner == null) owner = h;
+        }
+        room.startGameBy(owner);
+        if (!room.isPlaying()) throw new IllegalStateException("게임 시작 실패");
+        return new BenchRoom(room, board, teams);
+    }
+
+    // --- 방 생성/삭제 경합 ---
+
+    /** 방 생성/삭제 벤치마크의 모든 스레드가 함께 쓰는 서버 (방 목록 경합을 재기 위해 하나만 둔다) */
+    private static GameServer lifecycleServer;
+    private static java.io.PrintStream savedOut;
+
+    /**
+     * 방 생성/삭제 측정 시작 (벤치마크 공유 상태의 Trial Setup에서 한 번).
+     * 방마다 찍는 접속/생성 로그가 측정을 덮지 않도록 측정 동안만 표준 출력을 버린다. lifecycleEnd가 되돌린다.
+     */
+    public static Op lifecycleBegin() {
+        return () -> {
+            synchronized (BenchFixtures.class) {
+                savedOut = System.out;
+                System.setOut(new java.io.PrintStream(java.io.OutputStream.nullOutputStream(), false));
+                lifecycleServer = new GameServer(ServerConfig.fromArgs(new String[]{"--match-log-dir=", "--board-pool=0"}));
+                return lifecycleServer;
+            }
+        };
+    }
+
+    /** 방 생성/삭제 측정 끝 (Trial TearDown): 표준 출력을 되돌린다 */
+    public static Op lifecycleEnd() {
+        return () -> {
+            synchronized (BenchFixtures.class) {
+                if (savedOut != null) System.setOut(savedOut);
+                savedOut = null;
+                lifecycleServer = null;
+                return null;
+            }
+        };
+    }
+
+    private static synchronized GameServer lifecycleServer() {
+        if (lifecycleServer == null) throw new IllegalStateException("lifecycleBegin이 먼저 실행되어야 합니다");
+        return lifecycleServer;
+    }
+
+    /**
+     * 방 하나를 만들고 방장이 바로 나감 (방이 비어 제거됨). 벤치마크 스레드마다 자기 연결로 호출한다.
+     * - 방 입장은 방 이벤트로 처리되므로 생성 응답(입장 또는 실패) 프레임이 올 때까지 기다린다. 퇴장은 기다리지 않는다.
+     * - names가 0이면 스레드마다 다른 이름, 아니면 모든 스레드가 names개의 이름을 두고 다툰다 (putIfAbsent 실패 포함).
+     */
+    public static Op roomCreateLeave(int names) {
+        GameServer server = lifecycleServer();
+        NullConnection conn = new NullConnection("creator-" + Thread.currentThread().threadId());
+        ClientHandler h = server.createHandler(conn);
+        conn.handler = h;
+        h.handleMessage(new NetworkProtocol.Msg_C2S_Handshake("c" + Thread.currentThread().threadId(), List.of("binary")));
+        String prefix = "room-" + Thread.currentThread().threadId() + "-";
+        int[] next = {0};
+        return () -> {
+            int n = next[0]++;
+            String name = names > 0 ? "room-" + (n % names) : prefix + (n & (ROTATE - 1));
+            long before = conn.received.get();
+            server.handleCreateRoom(h, name, "", 60, Team.YELLOW, 4);
+            while (conn.received.get() == before) Thread.onSpinWait();
+            GameRoom room = h.getCurrentRoom();
+            if (room != null) room.removePlayer(h);
+            return room;
+        };
+    }
+
+    /** 소켓 없이 송신 큐를 바로 비우는 연결 (writer 비용은 제외하고 방 전송 비용만 본다) */
+    private static final class NullConnection implements ClientConnection {
+        private final String id;
+        ClientHandler handler;
+        final java.util.concurrent.atomic.AtomicLong received = new java.util.concurrent.atomic.AtomicLong();
+
+        NullConnection(String id) { this.id = id; }
+
+        @Override public String remoteId() { return id; }
+
+        @Override public void outboundReady() {
+            while (handler.outbound().poll() != null) {
+                received.incrementAndGet();
+            }
+        }
+
+        @Override public void close() { }
+    }
+
+    // --- 보드 그리기 ---
+
+    /**
+     * rowsxcols 보드 패널의 한 프레임을 이미지에 그림 (창 없이 paintComponent 직접 호출).
+     * - animating개 칸은 계속 뒤집히는 중: 애니메이션 시간이 다 지나면 같은 칸을 다시 뒤집어 진행 구간 전체를 고르게 잰다.
+     * - 애니메이션 타이머처럼 뒤집히는 칸 영역(dirtyRegions)만 다시 그린다. 0이면 패널 전체.
+     */
+    public static Op boardPaint(String size, int animating) {
+        String[] rc = size.split("x");
+        int rows = Integer.parseInt(rc[0]);
+        int cols = Integer.parseInt(rc[1]);
+        List<String> words = wordList(rows * cols);
+        Random rnd = new Random(SEED);
+        Board board = new Board(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                board.set(r, c, rnd.nextBoolean() ? Team.YELLOW : Team.BLUE, words.get(rnd.nextInt(words.size())));
+            }
+        }
+        BoardPanel panel = new BoardPanel(model(board, rows * cols));
+        panel.setSize(panel.getPreferredSize());
+        java.awt.image.BufferedImage canvas = new java.awt.image.BufferedImage(
+                panel.getWidth(), panel.getHeight(), java.awt.image.BufferedImage.TYPE_INT_ARGB);
+
+        List<GameModel.FlipResult> flips = new ArrayList<>();
+        for (int i = 0; i < animating; i++) {
+            int cell = rnd.nextInt(board.size());
+            Team to = board.owner(cell);
+            String token = board.token(cell);
+            flips.add(new GameModel.FlipResult(new Pos(cell / cols, cell % cols), to.opponent(), to, token, token));
+        }
+        long[] started = {0};
+        return () -> {
+            long now = System.nanoTime();
+            if (!flips.isEmpty() && now - started[0] > 250_000_000L) {
+                panel.animateFlips(flips);
+                started[0] = now;
+            }
+            List<java.awt.Rectangle> dirty = panel.dirtyRegions();
+            if (dirty.isEmpty()) dirty = List.of(new java.awt.Rectangle(panel.getSize()));
+            for (java.awt.Rectangle region : dirty) {
+                java.awt.Graphics2D g = canvas.createGraphics();
+                try {
+                    g.clip(region);
+                    panel.paintComponent(g);
+                } finally {
+                    g.dispose();
+                }
+            }
+            return canvas;
+        };
+    }
+
+    // --- 코덱 ---
+
+    /** message: NetworkProtocol 메시지 클래스의 단순 이름 (예: Msg_S2C_GameStart) */
+    public static Op encode(String codec, String message) {
+        MessageCodec c = codec(codec);
+        Serializable msg = sample(message);
+        return () -> c.encode(msg);
+    }
+
+    public static Op decode(String codec, String message) throws Exception {
+        MessageCodec c = codec(codec);
+        byte[] payload = c.encode(sample(message));
+        return () -> c.decode(payload, 0, payload.length);
+    }
+
+    private static MessageCodec codec(String name) {
+        MessageCodec c = MessageCodec.byName(name);
+        if (c == null) throw new IllegalArgumentException("없는 코덱: " + name);
+        return c;
+    }
+
+    /** 실제 게임에서 오가는 크기의 메시지 표본 */
+    static Serializable sample(String message) {
+        for (Serializable m : samples()) {
+            if (m.getClass().getSimpleName().equals(message)) return m;
+        }
+        throw new IllegalArgumentException("없는 메시지: " + message);
+    }
+
+    static List<Serializable> samples() {
+        List<NetworkProtocol.RoomInfo> rooms = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rooms.add(new NetworkProtocol.RoomInfo("방" + i, 60, i % 3, 2, i % 4 == 0));
+        }
+        List<NetworkProtocol.PlayerInfo> players = List.of(
+                new NetworkProtocol.PlayerInfo("노랑팀장", Team.YELLOW, true, true),
+                new NetworkProtocol.PlayerInfo("파랑이", Team.BLUE, false, false));
+        Board board = board(0, 0);
+        return List.of(
+                new NetworkProtocol.Msg_C2S_Handshake("플레이어", List.of("binary", "java")),
+                new NetworkProtocol.Msg_C2S_CreateRoom("즐거운 방", "1234", 60, Team.YELLOW, 4),
+                new NetworkProtocol.Msg_C2S_JoinRoom("즐거운 방", "1234"),
+                new NetworkProtocol.Msg_C2S_Spectate("즐거운 방", "1234"),
+                new NetworkProtocol.Msg_C2S_RoomQuery(7, new NetworkProtocol.RoomFilter(true, true, "즐", false), "방10", 50),
+                new NetworkProtocol.Msg_C2S_InputRequest(Team.BLUE, "사과"),
+                new NetworkProtocol.Msg_C2S_ResyncRequest(),
+                new NetworkProtocol.Msg_C2S_LeaveRoom(),
+                new NetworkProtocol.Msg_C2S_StartGame(),
+                new NetworkProtocol.Msg_C2S_ToggleReady(true),
+                new NetworkProtocol.Msg_C2S_WaitingChat("안녕하세요 잘 부탁드립니다"),
+                new NetworkProtocol.Msg_C2S_SentenceInput("빠른 갈색 여우가 게으른 개를 뛰어넘는다", Team.YELLOW),
+                new NetworkProtocol.Msg_S2C_HandshakeAck("binary"),
+                new NetworkProtocol.Msg_S2C_RoomListDelta(42, 43, List.copyOf(rooms.subList(0, 2)), List.of("방19")),
+                new NetworkProtocol.Msg_S2C_RoomPage(7, 43, rooms, true),
+                new NetworkProtocol.Msg_S2C_RoomResponseFailure("비밀번호가 틀렸습니다."),
+                new NetworkProtocol.Msg_S2C_EnterWaitingRoom(rooms.get(0), players, Team.BLUE),
+                new NetworkProtocol.Msg_S2C_PlayerListUpdated(players),
+                new NetworkProtocol.Msg_S2C_WaitingChat("노랑팀장", "준비되면 시작할게요"),
+                new NetworkProtocol.Msg_S2C_GameStart(Team.YELLOW, board, 60, true),
+                new NetworkProtocol.Msg_S2C_BroadcastInput(Team.BLUE, "사과"),
+                new NetworkProtocol.Msg_S2C_FlipResult(Team.BLUE, "사과",
+                        List.of(new NetworkProtocol.CellFlip(37, Team.BLUE, "바나나")), 1200, 1500),
+                new NetworkProtocol.Msg_S2C_Tick(59),
+                new NetworkProtocol.Msg_S2C_BoardHash(board.hash(), 1200, 1500),
+                new NetworkProtocol.Msg_S2C_BoardResync(board, 1200, 1500, 12, 15, 27),
+                new NetworkProtocol.Msg_S2C_SpectateSnapshot(rooms.get(0), players, board, 41, 1200, 1500, 12, 15),
+                new NetworkProtocol.Msg_S2C_GameOver(),
+                new NetworkProtocol.Msg_S2C_OpponentLeft(),
+                new NetworkProtocol.Msg_S2C_ReturnToLobby(),
+                new NetworkProtocol.Msg_S2C_BonusTimeStart(List.of("첫 번째 긴 문장입니다", "두 번째 긴 문장입니다", "세 번째 긴 문장입니다")),
+                new NetworkProtocol.Msg_S2C_BonusSentenceResult(true, "첫 번째 긴 문장입니다", Team.YELLOW),
+                new NetworkProtocol.Msg_S2C_BonusTimeEnd());
+    }
+
+    // --- 데이터 생성 ---
+
+    /** size x size 보드 (size가 0이면 서버 기본 크기 8x12). 팀은 무작위, 토큰은 단어 목록에서 무작위 */
+    static Board board(int size, int words) {
+        int rows = size > 0 ? size : 8;
+        int cols = size > 0 ? size : 12;
+        List<String> list = wordList(words > 0 ? words : rows * cols);
+        Random rnd = new Random(SEED);
+        Board board = new Board(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                Team owner = rnd.nextBoolean() ? Team.YELLOW : Team.BLUE;
+                board.set(r, c, owner, list.get(rnd.nextInt(list.size())));
+            }
+        }
+        return board;
+    }
+
+    static GameModel model(Board board, int words) {
+        TokenIndex index = TokenIndex.fromBoard(board);
+        return new GameModel(board, index, 60, 1, WordPool.fromWords(board, wordList(words)));
+    }
+
+    /** 서로 다른 2~4음절 한글 단어 count개 */
+    static List<String> wordList(int count) {
+        Random rnd = new Random(SEED ^ count);
+        Set<String> set = new LinkedHashSet<>();
+        StringBuilder sb = new StringBuilder();
+        while (set.size() < count) {
+            sb.setLength(0);
+            int len = 2 + rnd.nextInt(3);
+            for (int i = 0; i < len; i++) sb.append((char) ('가' + rnd.nextInt(11172)));
+            set.add(sb.toString());
+        }
+        return new ArrayList<>(set);
+    }
+
+    private static String sentence(Random rnd) {
+        StringBuilder sb = new StringBuilder();
+        int words = 4 + rnd.nextInt(6);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) sb.append(' ');
+            int len = 1 + rnd.nextInt(4);
+            for (int i = 0; i < len; i++) sb.append((char) ('가' + rnd.nextInt(11172)));
+        }
+        return sb.toString();
+    }
+}
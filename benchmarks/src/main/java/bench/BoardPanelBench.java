@@ -0,0 +1,40 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 보드 패널 한 프레임 그리기 비용 (애니메이션 타이머가 16ms마다 부르는 paintComponent).
+ * - 서버 기본 크기 8x12와 큰 보드 32x32
+ * - animating: 뒤집히는 중인 칸 수 (0이면 정지 화면을 다시 그리는 경우)
+ * 창 없이 이미지에 그리므로 화면 전송 비용은 들어가지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BoardPanelBench {
+
+    /** 보드 크기 (행x열) */
+    @Param({"8x12", "32x32"})
+    public String board;
+
+    /** 뒤집히는 중인 칸 수 */
+    @Param({"0", "4"})
+    public int animating;
+
+    private Op paint;
+
+    @Setup
+    public void setup() {
+        paint = Fixtures.load("boardPaint", board, animating);
+    }
+
+    @Benchmark
+    public Object paint() throws Exception {
+        return paint.run();
+    }
+}
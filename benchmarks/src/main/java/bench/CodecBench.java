@@ -0,0 +1,52 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NetworkProtocol 메시지별 인코딩/디코딩 비용 (프레임 헤더 제외, 코덱 본문만).
+ * - 메시지를 추가하면 message 목록과 BenchFixtures.samples()에 함께 추가한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBench {
+
+    @Param({"java", "binary"})
+    public String codec;
+
+    @Param({
+            "Msg_C2S_Handshake", "Msg_C2S_CreateRoom", "Msg_C2S_JoinRoom", "Msg_C2S_Spectate",
+            "Msg_C2S_RoomQuery", "Msg_C2S_InputRequest", "Msg_C2S_ResyncRequest", "Msg_C2S_LeaveRoom", "Msg_C2S_StartGame",
+            "Msg_C2S_ToggleReady", "Msg_C2S_WaitingChat", "Msg_C2S_SentenceInput",
+            "Msg_S2C_HandshakeAck", "Msg_S2C_RoomListDelta", "Msg_S2C_RoomPage",
+            "Msg_S2C_RoomResponseFailure", "Msg_S2C_EnterWaitingRoom", "Msg_S2C_PlayerListUpdated",
+            "Msg_S2C_WaitingChat", "Msg_S2C_GameStart", "Msg_S2C_BroadcastInput", "Msg_S2C_FlipResult",
+            "Msg_S2C_Tick", "Msg_S2C_BoardHash", "Msg_S2C_BoardResync", "Msg_S2C_SpectateSnapshot", "Msg_S2C_GameOver", "Msg_S2C_OpponentLeft", "Msg_S2C_ReturnToLobby",
+            "Msg_S2C_BonusTimeStart", "Msg_S2C_BonusSentenceResult", "Msg_S2C_BonusTimeEnd"
+    })
+    public String message;
+
+    private Op encode;
+    private Op decode;
+
+    @Setup
+    public void setup() {
+        encode = Fixtures.load("encode", codec, message);
+        decode = Fixtures.load("decode", codec, message);
+    }
+
+    @Benchmark
+    public Object encode() throws Exception {
+        return encode.run();
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return decode.run();
+    }
+}
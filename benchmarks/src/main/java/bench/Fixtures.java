@@ -0,0 +1,28 @@
+package bench;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/** 기본 패키지 BenchFixtures의 팩토리 메서드를 이름으로 찾아 Op를 만든다 (Setup에서만 호출) */
+final class Fixtures {
+
+    private static final String FIXTURE_CLASS = "BenchFixtures";
+
+    private Fixtures() { }
+
+    static Op load(String factory, Object... args) {
+        try {
+            Class<?> fixtures = Class.forName(FIXTURE_CLASS);
+            for (Method m : fixtures.getMethods()) {
+                if (m.getName().equals(factory) && m.getParameterCount() == args.length) {
+                    return (Op) m.invoke(null, args);
+                }
+            }
+            throw new IllegalArgumentException("없는 fixture: " + factory);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("fixture 준비 실패: " + factory, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("fixture 준비 실패: " + factory, e);
+        }
+    }
+}
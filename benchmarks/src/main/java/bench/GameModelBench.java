@@ -0,0 +1,46 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameModel.flipByInput 입력 1회 처리 비용.
+ * - hit : 상대 칸 토큰 입력 (칸 하나 뒤집고 새 단어 배정)
+ * - miss: 보드에 없는 단어 입력 (대부분의 오타/빗나간 입력)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameModelBench {
+
+    /** 보드 한 변 길이 (size x size) */
+    @Param({"8", "64", "256"})
+    public int size;
+
+    /** 단어 목록 크기 */
+    @Param({"100", "10000"})
+    public int words;
+
+    private Op hit;
+    private Op miss;
+
+    @Setup
+    public void setup() {
+        hit = Fixtures.load("flipHit", size, words);
+        miss = Fixtures.load("flipMiss", size, words);
+    }
+
+    @Benchmark
+    public Object flipHit() throws Exception {
+        return hit.run();
+    }
+
+    @Benchmark
+    public Object flipMiss() throws Exception {
+        return miss.run();
+    }
+}
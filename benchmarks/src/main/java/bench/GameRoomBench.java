@@ -0,0 +1,43 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 인원에 따른 GameRoom 전송 비용 (1대1, 4대4, 8대8).
+ * - inputHit : 상대 칸 단어 입력 1회 — 판정 + 결과를 방 전체에 전송
+ * - broadcast: 틱 하나를 방 전체에 전송 — 인코딩 1회 + 참여자 수만큼 송신 큐 넣기
+ * 연결은 송신 큐를 바로 비우는 가짜 연결이라 소켓 쓰기 비용은 들어가지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameRoomBench {
+
+    /** 방 인원 (양 팀 합계) */
+    @Param({"2", "8", "16"})
+    public int players;
+
+    private Op inputHit;
+    private Op broadcast;
+
+    @Setup
+    public void setup() {
+        inputHit = Fixtures.load("roomInputHit", players);
+        broadcast = Fixtures.load("roomBroadcast", players);
+    }
+
+    @Benchmark
+    public Object inputHit() throws Exception {
+        return inputHit.run();
+    }
+
+    @Benchmark
+    public Object broadcast() throws Exception {
+        return broadcast.run();
+    }
+}
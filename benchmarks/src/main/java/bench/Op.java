@@ -0,0 +1,12 @@
+package bench;
+
+/**
+ * 측정 대상 연산 하나.
+ * - 게임 소스는 기본 패키지라 이 패키지에서 직접 참조할 수 없다. (JMH는 기본 패키지 벤치마크를 허용하지 않음)
+ *   그래서 기본 패키지의 BenchFixtures가 게임 객체를 준비해 Op로 감싸 넘겨준다.
+ * - 반환값은 JMH가 소비(Blackhole)하므로 결과를 버리지 말고 그대로 돌려준다.
+ */
+@FunctionalInterface
+public interface Op {
+    Object run() throws Exception;
+}
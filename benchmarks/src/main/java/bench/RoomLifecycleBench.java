@@ -0,0 +1,50 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 많은 클라이언트가 동시에 방을 만들고 나갈 때의 GameServer 방 목록 경합.
+ * - createLeave: 방 생성(보드 생성 + 이름 예약 + 방장 입장) 후 방장 퇴장으로 방 제거
+ * - names: 0이면 스레드마다 다른 이름, 16이면 모든 스레드가 16개 이름을 두고 다툰다
+ * 스레드 256개가 서버 하나를 공유한다. 연결은 송신 큐를 바로 비우는 가짜 연결이다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(256)
+@State(Scope.Thread)
+public class RoomLifecycleBench {
+
+    @Param({"0", "16"})
+    public int names;
+
+    private Op createLeave;
+
+    /** 모든 스레드가 함께 쓰는 서버: 측정(Trial) 동안만 서버 로그를 버리고 끝나면 표준 출력을 되돌린다 */
+    @State(Scope.Benchmark)
+    public static class Server {
+        @Setup(Level.Trial)
+        public void start() throws Exception {
+            Fixtures.load("lifecycleBegin").run();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws Exception {
+            Fixtures.load("lifecycleEnd").run();
+        }
+    }
+
+    @Setup
+    public void setup(Server server) {
+        createLeave = Fixtures.load("roomCreateLeave", names);
+    }
+
+    @Benchmark
+    public Object createLeave() throws Exception {
+        return createLeave.run();
+    }
+}
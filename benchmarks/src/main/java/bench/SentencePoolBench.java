@@ -0,0 +1,35 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** 보너스 타임 문장 뽑기 (SentencePool.getRandomSentences) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SentencePoolBench {
+
+    /** 문장 파일의 문장 수 */
+    @Param({"100", "10000"})
+    public int sentences;
+
+    /** 한 번에 뽑는 문장 수 */
+    @Param({"3"})
+    public int count;
+
+    private Op op;
+
+    @Setup
+    public void setup() {
+        op = Fixtures.load("randomSentences", sentences, count);
+    }
+
+    @Benchmark
+    public Object getRandomSentences() throws Exception {
+        return op.run();
+    }
+}
@@ -0,0 +1,57 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** TokenIndex 정규화/조회/구성 비용 */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenIndexBench {
+
+    @State(Scope.Thread)
+    public static class Norm {
+        Op op;
+
+        @Setup
+        public void setup() {
+            op = Fixtures.load("norm");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Indexed {
+        @Param({"8", "64", "256"})
+        public int size;
+
+        @Param({"100", "10000"})
+        public int words;
+
+        Op positionsOf;
+        Op fromBoard;
+
+        @Setup
+        public void setup() {
+            positionsOf = Fixtures.load("positionsOf", size, words);
+            fromBoard = Fixtures.load("indexFromBoard", size, words);
+        }
+    }
+
+    @Benchmark
+    public Object norm(Norm s) throws Exception {
+        return s.op.run();
+    }
+
+    @Benchmark
+    public Object positionsOf(Indexed s) throws Exception {
+        return s.positionsOf.run();
+    }
+
+    @Benchmark
+    public Object fromBoard(Indexed s) throws Exception {
+        return s.fromBoard.run();
+    }
+}
@@ -0,0 +1,40 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** WordPool 단어 공급과 보드 seed 계산 비용 */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordPoolBench {
+
+    @Param({"8", "64", "256"})
+    public int size;
+
+    @Param({"100", "10000"})
+    public int words;
+
+    private Op nextToken;
+    private Op computeSeed;
+
+    @Setup
+    public void setup() {
+        nextToken = Fixtures.load("nextToken", size, words);
+        computeSeed = Fixtures.load("computeSeed", size, words);
+    }
+
+    @Benchmark
+    public Object nextToken() throws Exception {
+        return nextToken.run();
+    }
+
+    @Benchmark
+    public Object computeSeed() throws Exception {
+        return computeSeed.run();
+    }
+}
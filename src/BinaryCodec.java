@@ -0,0 +1,515 @@
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 직접 작성한 바이너리 코덱.
+ * - 메시지 = [1바이트 타입 태그] + 필드들 (레코드 선언 순서)
+ * - 정수: zigzag varint, 길이/개수: varint, 문자열: varint(바이트 길이 + 1, 0 = null) + UTF-8
+ * - Team: 1바이트 (ordinal, 0xFF = null)
+ * 예) Msg_S2C_Tick 은 태그 1바이트 + 남은 시간 varint 1바이트다.
+ */
+public final class BinaryCodec implements MessageCodec {
+
+    public static final BinaryCodec INSTANCE = new BinaryCodec();
+
+    // --- 타입 태그 (C2S: 1~31, S2C: 32~) — 한 번 배포된 번호는 바꾸지 않는다 ---
+    private static final byte C2S_HANDSHAKE = 1;
+    private static final byte C2S_CREATE_ROOM = 2;
+    private static final byte C2S_JOIN_ROOM = 3;
+    private static final byte C2S_SPECTATE = 4;
+    private static final byte C2S_ROOM_QUERY = 5;
+    private static final byte C2S_INPUT_REQUEST = 6;
+    private static final byte C2S_RESYNC_REQUEST = 7;
+    private static final byte C2S_LEAVE_ROOM = 8;
+    private static final byte C2S_START_GAME = 9;
+    private static final byte C2S_TOGGLE_READY = 10;
+    private static final byte C2S_WAITING_CHAT = 11;
+    private static final byte C2S_SENTENCE_INPUT = 12;
+
+    private static final byte S2C_HANDSHAKE_ACK = 32;
+    private static final byte S2C_ROOM_LIST_DELTA = 33;
+    private static final byte S2C_ROOM_PAGE = 34;
+    private static final byte S2C_ROOM_RESPONSE_FAILURE = 35;
+    private static final byte S2C_ENTER_WAITING_ROOM = 36;
+    private static final byte S2C_PLAYER_LIST_UPDATED = 37;
+    private static final byte S2C_WAITING_CHAT = 38;
+    private static final byte S2C_GAME_START = 39;
+    private static final byte S2C_BROADCAST_INPUT = 40;
+    private static final byte S2C_FLIP_RESULT = 41;
+    private static final byte S2C_TICK = 42;
+    private static final byte S2C_BOARD_HASH = 43;
+    private static final byte S2C_BOARD_RESYNC = 44;
+    private static final byte S2C_SPECTATE_SNAPSHOT = 45;
+    private static final byte S2C_GAME_OVER = 46;
+    private static final byte S2C_OPPONENT_LEFT = 47;
+    private static final byte S2C_RETURN_TO_LOBBY = 48;
+    private static final byte S2C_BONUS_TIME_START = 49;
+    private static final byte S2C_BONUS_SENTENCE_RESULT = 50;
+    private static final byte S2C_BONUS_TIME_END = 51;
+
+    private BinaryCodec() {}
+
+    @Override
+    public byte id() { return 1; }
+
+    @Override
+    public String name() { return "binary"; }
+
+    @Override
+    public byte[] encode(Serializable message) throws IOException {
+        Writer w = new Writer(32);
+
+        // --- C -> S ---
+        if (message instanceof NetworkProtocol.Msg_C2S_Handshake m) {
+            w.tag(C2S_HANDSHAKE).string(m.nickname()).stringList(m.codecs());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_CreateRoom m) {
+            w.tag(C2S_CREATE_ROOM).string(m.roomName()).string(m.password()).varInt(m.gameTimeSec()).team(m.chosenTeam()).varInt(m.teamSize());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_JoinRoom m) {
+            w.tag(C2S_JOIN_ROOM).string(m.roomName()).string(m.password());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_Spectate m) {
+            w.tag(C2S_SPECTATE).string(m.roomName()).string(m.password());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_InputRequest m) {
+            w.tag(C2S_INPUT_REQUEST).team(m.team()).string(m.input());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_ResyncRequest) {
+            w.tag(C2S_RESYNC_REQUEST);
+        } else if (message instanceof NetworkProtocol.Msg_C2S_LeaveRoom) {
+            w.tag(C2S_LEAVE_ROOM);
+        } else if (message instanceof NetworkProtocol.Msg_C2S_StartGame) {
+            w.tag(C2S_START_GAME);
+        } else if (message instanceof NetworkProtocol.Msg_C2S_ToggleReady m) {
+            w.tag(C2S_TOGGLE_READY).bool(m.ready());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_WaitingChat m) {
+            w.tag(C2S_WAITING_CHAT).string(m.text());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_SentenceInput m) {
+            w.tag(C2S_SENTENCE_INPUT).string(m.sentence()).team(m.team());
+        } else if (message instanceof NetworkProtocol.Msg_C2S_RoomQuery m) {
+            w.tag(C2S_ROOM_QUERY).varInt(m.requestId()).roomFilter(m.filter()).string(m.afterName()).varInt(m.limit());
+
+        // --- S -> C ---
+        } else if (message instanceof NetworkProtocol.Msg_S2C_HandshakeAck m) {
+            w.tag(S2C_HANDSHAKE_ACK).string(m.codec());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_RoomListDelta m) {
+            w.tag(S2C_ROOM_LIST_DELTA).varLong(m.baseVersion()).varLong(m.version()).roomList(m.updated()).stringList(m.removed());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_RoomPage m) {
+            w.tag(S2C_ROOM_PAGE).varInt(m.requestId()).varLong(m.version()).roomList(m.rooms()).bool(m.hasMore());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_RoomResponseFailure m) {
+            w.tag(S2C_ROOM_RESPONSE_FAILURE).string(m.reason());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_EnterWaitingRoom m) {
+            w.tag(S2C_ENTER_WAITING_ROOM).roomInfo(m.room()).playerList(m.players()).team(m.myTeam());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_PlayerListUpdated m) {
+            w.tag(S2C_PLAYER_LIST_UPDATED).playerList(m.players());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_WaitingChat m) {
+            w.tag(S2C_WAITING_CHAT).string(m.sender()).string(m.text());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_GameStart m) {
+            w.tag(S2C_GAME_START).team(m.assignedTeam()).board(m.board()).varInt(m.secondsLeft()).bool(m.serverFlips());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_BroadcastInput m) {
+            w.tag(S2C_BROADCAST_INPUT).team(m.team()).string(m.input());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_FlipResult m) {
+            w.tag(S2C_FLIP_RESULT).team(m.team()).string(m.input()).cellFlips(m.flips())
+                    .varInt(m.yellowScore()).varInt(m.blueScore());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_BoardHash m) {
+            w.tag(S2C_BOARD_HASH).varLong(m.hash()).varInt(m.yellowScore()).varInt(m.blueScore());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_BoardResync m) {
+            w.tag(S2C_BOARD_RESYNC).board(m.board()).varInt(m.yellowScore()).varInt(m.blueScore())
+                    .varInt(m.yellowFlips()).varInt(m.blueFlips()).varInt(m.wordCursor());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_SpectateSnapshot m) {
+            w.tag(S2C_SPECTATE_SNAPSHOT).roomInfo(m.room()).playerList(m.players()).bool(m.board() != null);
+            if (m.board() != null) w.compactBoard(m.board());
+            w.varInt(m.secondsLeft()).varInt(m.yellowScore()).varInt(m.blueScore()).varInt(m.yellowFlips()).varInt(m.blueFlips());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_Tick m) {
+            w.tag(S2C_TICK).varInt(m.secondsLeft());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_GameOver) {
+            w.tag(S2C_GAME_OVER);
+        } else if (message instanceof NetworkProtocol.Msg_S2C_OpponentLeft) {
+            w.tag(S2C_OPPONENT_LEFT);
+        } else if (message instanceof NetworkProtocol.Msg_S2C_ReturnToLobby) {
+            w.tag(S2C_RETURN_TO_LOBBY);
+        } else if (message instanceof NetworkProtocol.Msg_S2C_BonusTimeStart m) {
+            w.tag(S2C_BONUS_TIME_START).stringList(m.sentences());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_BonusSentenceResult m) {
+            w.tag(S2C_BONUS_SENTENCE_RESULT).bool(m.success()).string(m.sentence()).team(m.team());
+        } else if (message instanceof NetworkProtocol.Msg_S2C_BonusTimeEnd) {
+            w.tag(S2C_BONUS_TIME_END);
+        } else {
+            throw new IOException("바이너리 코덱이 지원하지 않는 메시지: " + message.getClass().getName());
+        }
+        return w.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] buf, int off, int len) throws IOException {
+        Reader r = new Reader(buf, off, len);
+        byte tag = r.tag();
+        Object msg = switch (tag) {
+            case C2S_HANDSHAKE -> new NetworkProtocol.Msg_C2S_Handshake(r.string(), r.stringList());
+            case C2S_CREATE_ROOM -> new NetworkProtocol.Msg_C2S_CreateRoom(r.string(), r.string(), r.varInt(), r.team(), r.varInt());
+            case C2S_JOIN_ROOM -> new NetworkProtocol.Msg_C2S_JoinRoom(r.string(), r.string());
+            case C2S_SPECTATE -> new NetworkProtocol.Msg_C2S_Spectate(r.string(), r.string());
+            case C2S_INPUT_REQUEST -> new NetworkProtocol.Msg_C2S_InputRequest(r.team(), r.string());
+            case C2S_LEAVE_ROOM -> new NetworkProtocol.Msg_C2S_LeaveRoom();
+            case C2S_START_GAME -> new NetworkProtocol.Msg_C2S_StartGame();
+            case C2S_TOGGLE_READY -> new NetworkProtocol.Msg_C2S_ToggleReady(r.bool());
+            case C2S_WAITING_CHAT -> new NetworkProtocol.Msg_C2S_WaitingChat(r.string());
+            case C2S_SENTENCE_INPUT -> new NetworkProtocol.Msg_C2S_SentenceInput(r.string(), r.team());
+            case C2S_ROOM_QUERY -> new NetworkProtocol.Msg_C2S_RoomQuery(r.varInt(), r.roomFilter(), r.string(), r.varInt());
+            case C2S_RESYNC_REQUEST -> new NetworkProtocol.Msg_C2S_ResyncRequest();
+
+            case S2C_HANDSHAKE_ACK -> new NetworkProtocol.Msg_S2C_HandshakeAck(r.string());
+            case S2C_ROOM_LIST_DELTA -> new NetworkProtocol.Msg_S2C_RoomListDelta(r.varLong(), r.varLong(), r.roomList(), r.stringList());
+            case S2C_ROOM_PAGE -> new NetworkProtocol.Msg_S2C_RoomPage(r.varInt(), r.varLong(), r.roomList(), r.bool());
+            case S2C_ROOM_RESPONSE_FAILURE -> new NetworkProtocol.Msg_S2C_RoomResponseFailure(r.string());
+            case S2C_ENTER_WAITING_ROOM -> new NetworkProtocol.Msg_S2C_EnterWaitingRoom(r.roomInfo(), r.playerList(), r.team());
+            case S2C_PLAYER_LIST_UPDATED -> new NetworkProtocol.Msg_S2C_PlayerListUpdated(r.playerList());
+            case S2C_WAITING_CHAT -> new NetworkProtocol.Msg_S2C_WaitingChat(r.string(), r.string());
+            case S2C_GAME_START -> new NetworkProtocol.Msg_S2C_GameStart(r.team(), r.board(), r.varInt(), r.bool());
+            case S2C_BROADCAST_INPUT -> new NetworkProtocol.Msg_S2C_BroadcastInput(r.team(), r.string());
+            case S2C_FLIP_RESULT -> new NetworkProtocol.Msg_S2C_FlipResult(r.team(), r.string(), r.cellFlips(), r.varInt(), r.varInt());
+            case S2C_BOARD_HASH -> new NetworkProtocol.Msg_S2C_BoardHash(r.varLong(), r.varInt(), r.varInt());
+            case S2C_BOARD_RESYNC -> new NetworkProtocol.Msg_S2C_BoardResync(r.board(), r.varInt(), r.varInt(), r.varInt(), r.varInt(), r.varInt());
+            case S2C_SPECTATE_SNAPSHOT -> new NetworkProtocol.Msg_S2C_SpectateSnapshot(r.roomInfo(), r.playerList(),
+                    r.bool() ? r.compactBoard() : null, r.varInt(), r.varInt(), r.varInt(), r.varInt(), r.varInt());
+            case S2C_TICK -> new NetworkProtocol.Msg_S2C_Tick(r.varInt());
+            case S2C_GAME_OVER -> new NetworkProtocol.Msg_S2C_GameOver();
+            case S2C_OPPONENT_LEFT -> new NetworkProtocol.Msg_S2C_OpponentLeft();
+            case S2C_RETURN_TO_LOBBY -> new NetworkProtocol.Msg_S2C_ReturnToLobby();
+            case S2C_BONUS_TIME_START -> new NetworkProtocol.Msg_S2C_BonusTimeStart(r.stringList());
+            case S2C_BONUS_SENTENCE_RESULT -> new NetworkProtocol.Msg_S2C_BonusSentenceResult(r.bool(), r.string(), r.team());
+            case S2C_BONUS_TIME_END -> new NetworkProtocol.Msg_S2C_BonusTimeEnd();
+            default -> throw new StreamCorruptedException("알 수 없는 메시지 태그: " + tag);
+        };
+        if (r.remaining() != 0) {
+            throw new StreamCorruptedException("메시지 뒤에 남은 바이트: " + r.remaining() + " (태그 " + tag + ")");
+        }
+        return msg;
+    }
+
+    /** 확장 가능한 바이트 버퍼 기반 기록기 */
+    public static final class Writer {
+        private byte[] buf;
+        private int pos;
+
+        public Writer(int initialCapacity) {
+            this.buf = new byte[Math.max(16, initialCapacity)];
+        }
+
+        private void ensure(int extra) {
+            if (pos + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + extra));
+            }
+        }
+
+        public Writer tag(byte tag) {
+            return rawByte(tag);
+        }
+
+        public Writer rawByte(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+            return this;
+        }
+
+        public Writer bool(boolean v) {
+            return rawByte(v ? 1 : 0);
+        }
+
+        /** 0 이상 정수 (LEB128) */
+        public Writer varUInt(int v) {
+            ensure(5);
+            while ((v & ~0x7F) != 0) {
+                buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[pos++] = (byte) v;
+            return this;
+        }
+
+        /** 부호 있는 정수 (zigzag + LEB128) */
+        public Writer varInt(int v) {
+            return varUInt((v << 1) ^ (v >> 31));
+        }
+
+        public Writer varLong(long v) {
+            long z = (v << 1) ^ (v >> 63);
+            ensure(10);
+            while ((z & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((z & 0x7F) | 0x80);
+                z >>>= 7;
+            }
+            buf[pos++] = (byte) z;
+            return this;
+        }
+
+        public Writer string(String s) {
+            if (s == null) return varUInt(0);
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            varUInt(utf8.length + 1);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buf, pos, utf8.length);
+            pos += utf8.length;
+            return this;
+        }
+
+        public Writer stringList(List<String> list) {
+            if (list == null) return varUInt(0);
+            varUInt(list.size());
+            for (String s : list) string(s);
+            return this;
+        }
+
+        public Writer team(Team t) {
+            return rawByte(t == null ? 0xFF : t.ordinal());
+        }
+
+        public Writer roomInfo(NetworkProtocol.RoomInfo r) {
+            return string(r.name()).varInt(r.seconds()).varInt(r.currentPlayers()).varInt(r.maxPlayers()).bool(r.playing());
+        }
+
+        /** 조건 플래그 1바이트 (bit0 openOnly, bit1 notPlaying, bit2 descending) + 이름 접두어 */
+        public Writer roomFilter(NetworkProtocol.RoomFilter f) {
+            int flags = (f.openOnly() ? 1 : 0) | (f.notPlaying() ? 2 : 0) | (f.descending() ? 4 : 0);
+            return rawByte(flags).string(f.namePrefix());
+        }
+
+        public Writer roomList(List<NetworkProtocol.RoomInfo> rooms) {
+            varUInt(rooms.size());
+            for (NetworkProtocol.RoomInfo r : rooms) roomInfo(r);
+            return this;
+        }
+
+        public Writer playerList(List<NetworkProtocol.PlayerInfo> players) {
+            varUInt(players.size());
+            for (NetworkProtocol.PlayerInfo p : players) {
+                string(p.nickname()).team(p.team()).bool(p.ready()).bool(p.owner());
+            }
+            return this;
+        }
+
+        /** 뒤집힌 칸 목록: 개수 + (칸 번호 varint, 팀 1바이트, 토큰) */
+        public Writer cellFlips(List<NetworkProtocol.CellFlip> flips) {
+            varUInt(flips.size());
+            for (NetworkProtocol.CellFlip f : flips) {
+                varUInt(f.cell()).team(f.owner()).string(f.token());
+            }
+            return this;
+        }
+
+        public Writer board(Board b) {
+            varUInt(b.rows()).varUInt(b.cols());
+            for (int i = 0; i < b.size(); i++) {
+                team(b.owner(i)).string(b.token(i));
+            }
+            return this;
+        }
+
+        /**
+         * 압축 보드 (관전 스냅샷용): 서로 다른 토큰을 한 번씩만 쓰고, 칸마다 varint 하나 (토큰 번호 << 2 | 소유 팀).
+         * - 소유 팀: 0 = 없음, 1 이상 = ordinal + 1
+         * - 96칸 보드에 단어가 수십 종류면 칸당 1바이트 남짓이라 board()보다 훨씬 작다.
+         */
+        public Writer compactBoard(Board b) {
+            varUInt(b.rows()).varUInt(b.cols());
+            int[] localOf = new int[b.dictionary().size() + 1]; // 사전 id -> 스냅샷 토큰 번호 + 1 (0 = 아직 없음)
+            int[] ids = new int[b.size()];
+            int distinct = 0;
+            for (int i = 0; i < b.size(); i++) {
+                int id = b.tokenId(i);
+                if (localOf[id] == 0) {
+                    ids[distinct++] = id;
+                    localOf[id] = distinct;
+                }
+            }
+            varUInt(distinct);
+            for (int k = 0; k < distinct; k++) string(b.dictionary().text(ids[k]));
+            for (int i = 0; i < b.size(); i++) {
+                Team owner = b.owner(i);
+                varUInt((localOf[b.tokenId(i)] - 1) << 2 | (owner == null ? 0 : owner.ordinal() + 1));
+            }
+            return this;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+    }
+
+    /** 바이트 배열 구간 판독기 */
+    public static final class Reader {
+        private final byte[] buf;
+        private int pos;
+        private final int limit;
+
+        public Reader(byte[] buf, int off, int len) {
+            this.buf = buf;
+            this.pos = off;
+            this.limit = off + len;
+        }
+
+        public int remaining() {
+            return limit - pos;
+        }
+
+        private void need(int n) throws IOException {
+            if (n < 0 || n > limit - pos) throw new StreamCorruptedException("메시지가 중간에 끊겼습니다.");
+        }
+
+        public byte tag() throws IOException {
+            return (byte) rawByte();
+        }
+
+        public int rawByte() throws IOException {
+            need(1);
+            return buf[pos++] & 0xFF;
+        }
+
+        public boolean bool() throws IOException {
+            return rawByte() != 0;
+        }
+
+        public int varUInt() throws IOException {
+            int v = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = rawByte();
+                v |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new StreamCorruptedException("varint가 너무 깁니다.");
+        }
+
+        public int varInt() throws IOException {
+            int z = varUInt();
+            return (z >>> 1) ^ -(z & 1);
+        }
+
+        public long varLong() throws IOException {
+            long z = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = rawByte();
+                z |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return (z >>> 1) ^ -(z & 1);
+            }
+            throw new StreamCorruptedException("varint가 너무 깁니다.");
+        }
+
+        /** 앞의 len바이트만 읽는 판독기를 만들고 그만큼 건너뜀 (길이가 앞에 붙은 레코드용) */
+        public Reader slice(int len) throws IOException {
+            need(len);
+            Reader sub = new Reader(buf, pos, len);
+            pos += len;
+            return sub;
+        }
+
+        /** 개수 필드: 남은 바이트보다 많을 수 없으므로 그 이상이면 손상으로 본다 */
+        public int count() throws IOException {
+            int n = varUInt();
+            if (n < 0 || n > remaining()) throw new StreamCorruptedException("잘못된 개수: " + n);
+            return n;
+        }
+
+        public String string() throws IOException {
+            int n = varUInt();
+            if (n == 0) return null;
+            int len = n - 1;
+            if (len < 0 || len > remaining()) throw new StreamCorruptedException("잘못된 문자열 길이: " + len);
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+
+        /** 보드 칸 단어: null(길이 0)이면 보드 해시 계산에서 터지므로 손상으로 본다 */
+        public String token() throws IOException {
+            String s = string();
+            if (s == null) throw new StreamCorruptedException("빈 보드 단어");
+            return s;
+        }
+
+        public List<String> stringList() throws IOException {
+            int n = count();
+            List<String> list = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) list.add(string());
+            return list;
+        }
+
+        public Team team() throws IOException {
+            int b = rawByte();
+            if (b == 0xFF) return null;
+            Team[] teams = Team.values();
+            if (b >= teams.length) throw new StreamCorruptedException("잘못된 팀 값: " + b);
+            return teams[b];
+        }
+
+        public NetworkProtocol.RoomInfo roomInfo() throws IOException {
+            return new NetworkProtocol.RoomInfo(string(), varInt(), varInt(), varInt(), bool());
+        }
+
+        public NetworkProtocol.RoomFilter roomFilter() throws IOException {
+            int flags = rawByte();
+            return new NetworkProtocol.RoomFilter((flags & 1) != 0, (flags & 2) != 0, string(), (flags & 4) != 0);
+        }
+
+        public List<NetworkProtocol.RoomInfo> roomList() throws IOException {
+            int n = count();
+            List<NetworkProtocol.RoomInfo> list = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) list.add(roomInfo());
+            return list;
+        }
+
+        public List<NetworkProtocol.PlayerInfo> playerList() throws IOException {
+            int n = count();
+            List<NetworkProtocol.PlayerInfo> list = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                list.add(new NetworkProtocol.PlayerInfo(string(), team(), bool(), bool()));
+            }
+            return list;
+        }
+
+        public List<NetworkProtocol.CellFlip> cellFlips() throws IOException {
+            int n = count();
+            List<NetworkProtocol.CellFlip> list = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                list.add(new NetworkProtocol.CellFlip(varUInt(), team(), token()));
+            }
+            return list;
+        }
+
+        public Board board() throws IOException {
+            int rows = varUInt();
+            int cols = varUInt();
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > remaining()) {
+                throw new StreamCorruptedException("잘못된 보드 크기: " + rows + "x" + cols);
+            }
+            Board b = new Board(rows, cols);
+            TokenDictionary dict = b.dictionary();
+            for (int i = 0; i < b.size(); i++) {
+                Team owner = team();
+                b.set(i, owner, dict.intern(token()));
+            }
+            return b;
+        }
+
+        public Board compactBoard() throws IOException {
+            int rows = varUInt();
+            int cols = varUInt();
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > remaining()) {
+                throw new StreamCorruptedException("잘못된 보드 크기: " + rows + "x" + cols);
+            }
+            int distinct = count();
+            Board b = new Board(rows, cols);
+            TokenDictionary dict = b.dictionary();
+            int[] ids = new int[distinct];
+            for (int k = 0; k < distinct; k++) ids[k] = dict.intern(token());
+            Team[] teams = Team.values();
+            for (int i = 0; i < b.size(); i++) {
+                int v = varUInt();
+                int k = v >>> 2, o = v & 3;
+                if (k >= distinct || o > teams.length) throw new StreamCorruptedException("잘못된 칸 값: " + v);
+                b.set(i, o == 0 ? null : teams[o - 1], ids[k]);
+            }
+            return b;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+import java.io.*;
+import java.net.Socket;
+import java.net.SocketException;
+
+/**
+ * 기존 방식의 연결: 연결마다 스레드 하나가 readInt/readFully로 블로킹 수신한다.
+ * 송신은 같은 스레드 빌더로 만든 writer 스레드가 ClientHandler의 송신 큐를 비우며 write,
+ * 큐가 빌 때만 flush 한다. (연속된 메시지는 한 번에 내보냄)
+ */
+class BlockingConnection implements ClientConnection, Runnable {
+
+    private final Socket socket;
+    private final String id;
+    private final Thread.Builder writerThreads;
+    private DataInputStream in;
+    private ClientHandler handler;
+
+    BlockingConnection(Socket socket, Thread.Builder writerThreads) {
+        this.socket = socket;
+        this.id = socket.getRemoteSocketAddress().toString();
+        this.writerThreads = writerThreads;
+    }
+
+    void attach(ClientHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public String remoteId() {
+        return id;
+    }
+
+    @Override
+    public void run() {
+        try {
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            writerThreads.start(() -> writeLoop(out));
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            while (true) {
+                handler.handleMessage(MessageFrames.read(in));
+            }
+        } catch (EOFException | SocketException e) {
+            System.out.println("서버: 클라이언트[" + id + "] 연결 종료.");
+        } catch (IOException e) {
+            System.err.println("서버: 클라이언트[" + id + "] 스레드 오류 - " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("서버: 클라이언트[" + id + "] 메시지 처리 오류 - " + e);
+        } finally {
+            handler.onDisconnected();
+            close();
+        }
+    }
+
+    /** 송신 큐가 닫힐 때까지 프레임을 소켓에 기록 */
+    private void writeLoop(OutputStream out) {
+        OutboundQueue outbound = handler.outbound();
+        try {
+            byte[] frame;
+            while ((frame = outbound.take()) != null) {
+                out.write(frame);
+                if (outbound.isEmpty()) out.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("서버: [" + id + "] 메시지 전송 오류 - " + e.getMessage());
+            close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void outboundReady() {
+        // writer 스레드가 OutboundQueue.take()에서 깨어나므로 따로 할 일이 없다
+    }
+
+    @Override
+    public void close() {
+        try { socket.close(); } catch (IOException e) {}
+    }
+}
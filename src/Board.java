@@ -1,34 +1,168 @@
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 
 /**
  * 게임 보드 (R x C 격자).
- * - 각 칸(r, c)에 Cell 객체를 저장한다.
- * - 네트워크 전송을 위해 Serializable 구현
+ * - 칸 상태를 행 우선(row-major) 기본형 배열 두 개로 저장한다: 소유 팀(byte) + 토큰 id(int).
+ *   칸마다 객체를 두지 않으므로 64x64 이상의 큰 보드도 메모리/캐시 부담이 작다.
+ * - 칸 번호 = r * cols + c. 게임 로직과 렌더링은 칸 번호 기반 API(owner/tokenId/forEachCell)를 쓴다.
+ * - 팀별 소유 칸 수는 칸을 바꿀 때마다 갱신하므로 ownedCount()는 O(1).
+ * - get(r, c)는 기존 호출부를 위한 Cell 뷰를 돌려준다 (뷰를 통한 변경도 보드에 그대로 반영).
+ * - 칸의 토큰은 보드가 가진 TokenDictionary의 id로 저장한다. (TokenIndex/WordPool도 같은 사전을 쓴다)
+ * - 보드 해시도 칸을 바꿀 때마다 그 칸 몫만 빼고 더해 갱신한다 (hash(), O(1)).
+ *   토큰 id가 아니라 토큰 문자열로 계산하므로 사전 id가 다른 서버/클라이언트 보드도 내용이 같으면 해시가 같다.
+ * - 네트워크 전송을 위해 Serializable 구현. 사전 전체(단어 목록까지 등록돼 있을 수 있음)가 아니라
+ *   보드에 있는 서로 다른 토큰만 한 번씩 쓰고, 칸마다 그 번호를 쓴다. (BinaryCodec.Writer.compactBoard와 같은 방식)
  */
 public class Board implements Serializable {
     // 직렬화 ID
-    private static final long serialVersionUID = 2L;
+    private static final long serialVersionUID = 6L;
+
+    private static final Team[] TEAMS = Team.values();
+    private static final byte NO_OWNER = -1;
+
+    /** 칸 하나씩 방문 (forEachCell) */
+    @FunctionalInterface
+    public interface CellVisitor {
+        void visit(int cell, Team owner, int tokenId);
+    }
 
-    private final Cell[][] cells;
     private final int rows;
     private final int cols;
+    private final byte[] owners;   // Team.ordinal, 비어 있으면 NO_OWNER
+    private transient int[] tokenIds;  // TokenDictionary id (직렬화는 writeObject)
+    private final int[] ownedCounts = new int[TEAMS.length];
+    private long hash = 0;
+    private transient TokenDictionary dictionary = new TokenDictionary();
 
     public Board(int rows, int cols) {
         this.rows = rows;
         this.cols = cols;
-        this.cells = new Cell[rows][cols];
+        this.owners = new byte[rows * cols];
+        this.tokenIds = new int[rows * cols];
+        Arrays.fill(owners, NO_OWNER);
     }
 
     public int rows() { return rows; }
     public int cols() { return cols; }
+    /** 전체 칸 수 */
+    public int size() { return owners.length; }
+    public TokenDictionary dictionary() { return dictionary; }
+
+    public int cellIndex(int r, int c) { return r * cols + c; }
+
+    // --- 칸 번호 기반 API ---
+
+    public Team owner(int cell) {
+        byte o = owners[cell];
+        return o == NO_OWNER ? null : TEAMS[o];
+    }
 
+    public int tokenId(int cell) {
+        return tokenIds[cell];
+    }
+
+    /** 칸의 토큰 문자열 (사전에 등록된 문자열 그대로) */
+    public String token(int cell) {
+        return dictionary.text(tokenIds[cell]);
+    }
+
+    /** 칸의 소유 팀과 토큰을 바꾸고 팀별 칸 수/보드 해시를 갱신 */
+    public void set(int cell, Team owner, int tokenId) {
+        byte prev = owners[cell];
+        if (prev != NO_OWNER) {
+            ownedCounts[prev]--;
+            hash -= cellHash(cell, prev, tokenIds[cell]);
+        }
+        if (owner == null) {
+            owners[cell] = NO_OWNER;
+        } else {
+            owners[cell] = (byte) owner.ordinal();
+            ownedCounts[owner.ordinal()]++;
+            hash += cellHash(cell, owners[cell], tokenId);
+        }
+        tokenIds[cell] = tokenId;
+    }
+
+    /** 보드 내용(칸 번호, 소유 팀, 토큰 문자열) 해시. 주인 없는 칸은 포함하지 않는다 */
+    public long hash() {
+        return hash;
+    }
+
+    private long cellHash(int cell, byte owner, int tokenId) {
+        long h = (cell + 1) * 0x9E3779B97F4A7C15L
+                ^ (owner + 1L) * 0xC2B2AE3D27D4EB4FL
+                ^ dictionary.text(tokenId).hashCode() * 0x165667B19E3779F9L;
+        // splitmix64 마무리 (칸끼리 더해도 충돌이 잘 안 나도록 비트를 섞는다)
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    /** 해당 팀이 소유한 칸 수 (O(1)) */
+    public int ownedCount(Team team) {
+        return ownedCounts[team.ordinal()];
+    }
+
+    /** 모든 칸을 칸 번호 순서로 방문 (경계 검사/객체 생성 없음) */
+    public void forEachCell(CellVisitor visitor) {
+        for (int i = 0; i < owners.length; i++) {
+            byte o = owners[i];
+            visitor.visit(i, o == NO_OWNER ? null : TEAMS[o], tokenIds[i]);
+        }
+    }
+
+    // --- (r, c) 기반 API ---
+
+    /** 기존 호출부 호환용 칸 뷰 (범위 밖이면 null) */
     public Cell get(int r, int c) {
         if (r < 0 || r >= rows || c < 0 || c >= cols) return null;
-        return cells[r][c];
+        return new Cell(this, cellIndex(r, c));
     }
 
-    public void set(int r, int c, Cell cell) {
+    /** 칸 설정 (토큰은 사전에 등록) */
+    public void set(int r, int c, Team owner, String token) {
         if (r < 0 || r >= rows || c < 0 || c >= cols) return;
-        cells[r][c] = cell;
+        set(cellIndex(r, c), owner, dictionary.intern(token));
+    }
+
+    // --- 직렬화: 보드에 쓰인 토큰만 ---
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        int[] localOf = new int[dictionary.size() + 1]; // 사전 id -> 직렬화 토큰 번호 + 1 (0 = 아직 없음)
+        int[] ids = new int[tokenIds.length];
+        int distinct = 0;
+        for (int id : tokenIds) {
+            if (localOf[id] == 0) {
+                ids[distinct++] = id;
+                localOf[id] = distinct;
+            }
+        }
+        out.writeInt(distinct);
+        for (int k = 0; k < distinct; k++) out.writeObject(dictionary.text(ids[k]));
+        for (int id : tokenIds) out.writeInt(localOf[id] - 1);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        dictionary = new TokenDictionary();
+        int distinct = in.readInt();
+        if (distinct < 0 || distinct > owners.length) throw new InvalidObjectException("잘못된 토큰 수: " + distinct);
+        int[] ids = new int[distinct];
+        for (int k = 0; k < distinct; k++) {
+            String text = (String) in.readObject();
+            ids[k] = text == null ? 0 : dictionary.intern(text); // 토큰을 넣은 적 없는 칸 (새 보드)
+        }
+        tokenIds = new int[owners.length];
+        for (int i = 0; i < tokenIds.length; i++) {
+            int k = in.readInt();
+            if (k < 0 || k >= distinct) throw new InvalidObjectException("잘못된 칸 토큰: " + k);
+            tokenIds[i] = ids[k];
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,33 +1,85 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 
 /**
  * 중앙 보드 패널. 뒤집기 애니메이션을 앞/뒷면 전환처럼 보이도록 조정.
+ * - 칸 그림(팀 색 + 단어)은 (팀, 단어, 픽셀 크기)별로 한 번만 그려 두고 매 프레임 이미지로 복사한다.
+ * - 뒤집히는 칸은 이전 팀 칸 그림 위에 새 팀 칸 그림을 진행도만큼 겹쳐 가로로 줄여 그린다.
+ * - 멈춰 있는 칸은 보드 크기의 정적 층(VolatileImage)에 그려 두고, 바뀐 칸만 그 층에 다시 그린다.
+ *   칸 테두리도 따로 한 장에 그려 두어 한 프레임은 "정적 층 복사 + 뒤집히는 칸 + 테두리 층 복사"다.
+ * - 애니메이션 타이머는 뒤집히는 칸 영역만 다시 그리게 하고, 칸 수가 많을수록 프레임 간격을 늘린다.
+ * - 애니메이션 상태는 EDT에서만 읽고 쓴다.
  */
 public class BoardPanel extends JPanel {
 
     private static final int CELL   = 56;
     private static final int PAD    = 14;
     private static final Color GRID = new Color(0, 0, 0, 40);
+    private static final Color SHADOW = new Color(0, 0, 0, 110);
     private static final int ANIM_MS = 260;
+    private static final int FRAME_MS = 16;
+    private static final int MAX_FRAME_MS = 50; // 260ms 애니메이션이 5프레임 아래로 떨어지지 않도록
+    private static final int SEPARATE_MAX = 8;  // 이 수 이하로 떨어져 뒤집히는 칸은 영역을 합치지 않고 따로 그린다
 
     private final GameModel model;
-    private final Map<Pos, FlipAnim> animations = new ConcurrentHashMap<>();
+    private final FlipAnim[] animations; // 칸 번호별, 없으면 null
+    private int animCount;
     private final javax.swing.Timer animTimer;
+    private long lastPaintNanos;
+
+    /** 칸 그림 캐시 키 (px: 화면 배율을 반영한 실제 픽셀 크기) */
+    private record TileKey(Team team, String token, int px) { }
+
+    private final int cacheCapacity;
+    private final Map<TileKey, BufferedImage> tiles;
+    private final Map<String, Font> fittedFonts = new HashMap<>();
+
+    private final Layer tileLayer = new Layer(); // 멈춰 있는 칸 그림
+    private final Layer gridLayer = new Layer(); // 칸 테두리 (안티앨리어싱 선 그리기가 칸 그림 복사보다 훨씬 비싸 한 번만 그린다)
+    private final Team[] layerOwner;    // 정적 층에 그려진 칸 (null이면 비워 둔 칸)
+    private final String[] layerToken;
+    private Font fontSource; // 캐시를 만든 기준 글꼴 (바뀌면 캐시를 비운다)
+    private Font baseFont;
 
     public BoardPanel(GameModel model) {
         this.model = model;
+        this.animations = new FlipAnim[model.board().size()];
+        this.layerOwner = new Team[model.board().size()];
+        this.layerToken = new String[model.board().size()];
         setBackground(new Color(19, 36, 49));
         setOpaque(false);
 
-        javax.swing.Timer t = new javax.swing.Timer(16, e -> {
-            if (animations.isEmpty()) {
-                ((javax.swing.Timer) e.getSource()).stop();
+        // 보이는 칸 수만큼은 항상 남도록 (그 이상은 오래 안 쓴 것부터 버림)
+        this.cacheCapacity = model.board().size() + 64;
+        this.tiles = new LinkedHashMap<>(cacheCapacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, BufferedImage> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+
+        javax.swing.Timer t = new javax.swing.Timer(FRAME_MS, e -> {
+            javax.swing.Timer timer = (javax.swing.Timer) e.getSource();
+            List<Rectangle> dirty = dirtyRegions();
+            if (dirty.isEmpty()) {
+                timer.stop();
+            } else if (dirty.size() == 1) {
+                timer.setDelay(frameDelay());
+                repaint(dirty.get(0));
             } else {
-                repaint();
+                // RepaintManager는 한 컴포넌트의 영역을 하나로 합치므로, 멀리 떨어진 칸은 바로 따로 그린다
+                timer.setDelay(frameDelay());
+                for (Rectangle r : dirty) paintImmediately(r);
             }
         });
         this.animTimer = t;
@@ -41,74 +93,213 @@ public class BoardPanel extends JPanel {
 
     @Override
     protected void paintComponent(Graphics raw) {
+        long started = System.nanoTime();
         super.paintComponent(raw);
         Graphics2D g = (Graphics2D) raw;
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
 
         Board board = model.board();
+        double scale = deviceScale(g);
+        int px = (int) Math.ceil(CELL * scale);
+        Dimension size = getPreferredSize();
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(size);
+        long now = System.currentTimeMillis();
+
+        int r0 = Math.max(0, (clip.y - PAD) / CELL);
+        int r1 = Math.min(board.rows() - 1, (clip.y + clip.height - PAD) / CELL);
+        int c0 = Math.max(0, (clip.x - PAD) / CELL);
+        int c1 = Math.min(board.cols() - 1, (clip.x + clip.width - PAD) / CELL);
+
+        if (getFont() != fontSource) {
+            fontSource = getFont();
+            baseFont = fontSource.deriveFont(Font.BOLD, Math.max(12f, CELL * 0.32f));
+            tiles.clear();
+            fittedFonts.clear();
+            tileLayer.discard();
+        }
+
+        // 1) 정적 층: 다시 그려야 할 영역 안에서 보드와 달라진 칸만 고친다 (뒤집히는 칸은 비워 둔다)
+        if (tileLayer.ensure(size, scale)) Arrays.fill(layerOwner, null);
+        Graphics2D lg = tileLayer.createGraphics(scale);
+        try {
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = board.cellIndex(r, c);
+                    boolean still = animations[cell] == null;
+                    Team owner = still ? board.owner(cell) : null;
+                    String token = still ? board.token(cell) : null;
+                    if (layerOwner[cell] == owner && Objects.equals(layerToken[cell], token)) continue;
+                    int x = PAD + c * CELL;
+                    int y = PAD + r * CELL;
+                    lg.setComposite(AlphaComposite.Clear);
+                    lg.fillRect(x, y, CELL, CELL);
+                    lg.setComposite(AlphaComposite.SrcOver);
+                    if (still) lg.drawImage(tile(owner, token, px), x, y, CELL, CELL, null);
+                    layerOwner[cell] = owner;
+                    layerToken[cell] = token;
+                }
+            }
+        } finally {
+            lg.dispose();
+        }
+        if (gridLayer.ensure(size, scale)) drawGrid(board, scale);
+        g.drawImage(tileLayer.image, 0, 0, size.width, size.height, null);
+
+        // 2) 뒤집히는 칸
+        if (animCount > 0) {
+            Composite opaque = g.getComposite();
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = board.cellIndex(r, c);
+                    FlipAnim anim = animations[cell];
+                    if (anim == null) continue;
+                    int x = PAD + c * CELL;
+                    int y = PAD + r * CELL;
+                    Team owner = board.owner(cell);
+
+                    double progress = anim.progress(now);
+                    // easing
+                    double eased = 0.5 - 0.5 * Math.cos(Math.PI * progress);
+                    String token = progress < 0.5 ? anim.fromToken : board.token(cell);
 
-        float baseFontSize = Math.max(12f, CELL * 0.32f);
-        Font baseFont = getFont().deriveFont(Font.BOLD, baseFontSize);
-        g.setFont(baseFont);
-
-        for (int r = 0; r < board.rows(); r++) {
-            for (int c = 0; c < board.cols(); c++) {
-                int x = PAD + c * CELL;
-                int y = PAD + r * CELL;
-
-                Cell cell = board.get(r, c);
-                Pos pos = new Pos(r, c);
-                FlipAnim anim = animations.get(pos);
-                double progress = anim == null ? 1.0 : anim.progress();
-
-                // easing
-                double eased = (anim == null) ? 1.0 : 0.5 - 0.5 * Math.cos(Math.PI * progress);
-
-                boolean firstHalf = anim != null && progress < 0.5;
-                String token = anim != null
-                        ? (firstHalf ? anim.fromToken : cell.token())
-                        : cell.token();
-
-                Color from = anim != null ? anim.from : new Color(cell.owner().rgb);
-                Color to   = new Color(cell.owner().rgb);
-                Color drawColor = lerpColor(from, to, eased);
-
-                double angle = Math.PI * eased;
-                double scaleX = 0.3 + 0.7 * Math.abs(Math.cos(angle)); // 최소 30%까지 축소
-                double scaleY = 0.94 + 0.06 * Math.sin(angle);        // 살짝 튀어나오는 느낌
-                int w = (int) (CELL * scaleX);
-                int h = (int) (CELL * scaleY);
-                int offsetX = x + (CELL - w) / 2;
-                int offsetY = y + (CELL - h) / 2;
-
-                g.setColor(drawColor);
-                g.fillRoundRect(offsetX, offsetY, w, h, 10, 10);
-
-                Font tokenFont = fitFontToCell(g, baseFont, token, w, h);
-                g.setFont(tokenFont);
-                FontMetrics fm = g.getFontMetrics();
-
-                int tw = fm.stringWidth(token);
-                int th = fm.getAscent();
-                int tx = offsetX + (w - tw) / 2;
-                // ascent/descent을 고려해 중앙 정렬(뒤집기 얇은 구간에서도 글자 잘림 방지)
-                int ty = offsetY + (h + th - fm.getDescent()) / 2;
-
-                g.setColor(new Color(0, 0, 0, 110));
-                g.drawString(token, tx + 1, ty + 1);
-                g.setColor(Color.white);
-                g.drawString(token, tx, ty);
-                g.setFont(baseFont);
-
-                g.setColor(GRID);
-                g.drawRoundRect(x, y, CELL, CELL, 10, 10);
-
-                if (anim != null && progress >= 1.0) {
-                    animations.remove(pos);
+                    double angle = Math.PI * eased;
+                    double scaleX = 0.3 + 0.7 * Math.abs(Math.cos(angle)); // 최소 30%까지 축소
+                    double scaleY = 0.94 + 0.06 * Math.sin(angle);        // 살짝 튀어나오는 느낌
+                    int w = (int) (CELL * scaleX);
+                    int h = (int) (CELL * scaleY);
+                    int offsetX = x + (CELL - w) / 2;
+                    int offsetY = y + (CELL - h) / 2;
+
+                    // 색 전환: 이전 팀 칸 위에 현재 팀 칸을 진행도만큼 겹친다
+                    g.drawImage(tile(anim.from, token, px), offsetX, offsetY, w, h, null);
+                    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) eased));
+                    g.drawImage(tile(owner, token, px), offsetX, offsetY, w, h, null);
+                    g.setComposite(opaque);
+
+                    // 끝난 칸은 다음에 그릴 때 정적 층에 들어간다 (마지막 프레임은 멈춘 칸과 같은 모습)
+                    if (progress >= 1.0) {
+                        animations[cell] = null;
+                        animCount--;
+                    }
                 }
             }
         }
+
+        // 3) 테두리
+        g.drawImage(gridLayer.image, 0, 0, size.width, size.height, null);
+
+        // 그리는 사이 가속 이미지 내용이 사라졌으면 (화면 모드 변경 등) 다음 프레임에 다시 만든다
+        if (tileLayer.contentsLost() || gridLayer.contentsLost()) repaint();
+        lastPaintNanos = System.nanoTime() - started;
+    }
+
+    /**
+     * 이번 프레임에 다시 그릴 영역 (테두리 선 포함). 뒤집히는 칸이 없으면 빈 목록.
+     * - 보통은 뒤집히는 칸들을 모두 감싸는 영역 하나
+     * - 칸이 몇 개 안 되는데 서로 멀어 감싸는 영역이 칸 넓이 합의 두 배를 넘으면 칸마다 따로
+     */
+    List<Rectangle> dirtyRegions() {
+        if (animCount == 0) return List.of();
+        int cols = model.board().cols();
+        List<Rectangle> cells = new ArrayList<>(Math.min(animCount, SEPARATE_MAX + 1));
+        Rectangle bounds = null;
+        for (int cell = 0; cell < animations.length; cell++) {
+            if (animations[cell] == null) continue;
+            Rectangle r = new Rectangle(PAD + (cell % cols) * CELL - 1, PAD + (cell / cols) * CELL - 1, CELL + 2, CELL + 2);
+            if (cells.size() <= SEPARATE_MAX) cells.add(r);
+            if (bounds == null) bounds = new Rectangle(r);
+            else bounds.add(r);
+        }
+        if (bounds == null) return List.of();
+        long cellArea = (long) (CELL + 2) * (CELL + 2) * cells.size();
+        if (cells.size() > 1 && cells.size() <= SEPARATE_MAX && (long) bounds.width * bounds.height > 2 * cellArea) {
+            return cells;
+        }
+        return List.of(bounds);
+    }
+
+    /** 동시에 뒤집히는 칸이 많을수록, 또 지난 프레임이 오래 걸렸을수록 프레임 간격을 늘린다 (EDT가 입력을 처리할 틈을 남김) */
+    private int frameDelay() {
+        int byCount = animCount <= 8 ? FRAME_MS : animCount <= 32 ? 25 : 33;
+        int byCost = (int) (2 * lastPaintNanos / 1_000_000);
+        return Math.min(MAX_FRAME_MS, Math.max(byCount, byCost));
+    }
+
+    /** 화면 배율(HiDPI). 칸 그림과 정적 층을 실제 픽셀 크기로 만들어 흐려지지 않게 한다 */
+    private static double deviceScale(Graphics2D g) {
+        AffineTransform t = g.getTransform();
+        return Math.max(1.0, Math.hypot(t.getScaleX(), t.getShearY()));
+    }
+
+    private void drawGrid(Board board, double scale) {
+        Graphics2D g = gridLayer.createGraphics(scale);
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(GRID);
+            for (int r = 0; r < board.rows(); r++) {
+                for (int c = 0; c < board.cols(); c++) {
+                    g.drawRoundRect(PAD + c * CELL, PAD + r * CELL, CELL, CELL, 10, 10);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private BufferedImage newImage(int px) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        return gc != null
+                ? gc.createCompatibleImage(px, px, Transparency.TRANSLUCENT)
+                : new BufferedImage(px, px, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /** (팀, 단어, 크기)별 칸 그림. 없으면 그려서 캐시에 넣는다 */
+    private BufferedImage tile(Team team, String token, int px) {
+        TileKey key = new TileKey(team, token, px);
+        BufferedImage img = tiles.get(key);
+        if (img == null) {
+            img = renderTile(team, token, px);
+            tiles.put(key, img);
+        }
+        return img;
+    }
+
+    private BufferedImage renderTile(Team team, String token, int px) {
+        BufferedImage img = newImage(px);
+        Graphics2D g = img.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.scale(px / (double) CELL, px / (double) CELL);
+
+            g.setColor(new Color(team.rgb));
+            g.fillRoundRect(0, 0, CELL, CELL, 10, 10);
+
+            Font tokenFont = fittedFonts.get(token);
+            if (tokenFont == null) {
+                if (fittedFonts.size() >= cacheCapacity) fittedFonts.clear(); // 단어가 계속 바뀌어도 무한히 늘지 않도록
+                tokenFont = fitFontToCell(g, baseFont, token, CELL, CELL);
+                fittedFonts.put(token, tokenFont);
+            }
+            g.setFont(tokenFont);
+            FontMetrics fm = g.getFontMetrics();
+
+            int tw = fm.stringWidth(token);
+            int th = fm.getAscent();
+            int tx = (CELL - tw) / 2;
+            // ascent/descent을 고려해 중앙 정렬(뒤집기 얇은 구간에서도 글자 잘림 방지)
+            int ty = (CELL + th - fm.getDescent()) / 2;
+
+            g.setColor(SHADOW);
+            g.drawString(token, tx + 1, ty + 1);
+            g.setColor(Color.white);
+            g.drawString(token, tx, ty);
+        } finally {
+            g.dispose();
+        }
+        return img;
     }
 
     private Font fitFontToCell(Graphics2D g, Font base, String text, int cellW, int cellH) {
@@ -135,35 +326,81 @@ public class BoardPanel extends JPanel {
         return f;
     }
 
+    /** 뒤집힌 칸 애니메이션 시작 (EDT에서 호출) */
     public void animateFlips(List<GameModel.FlipResult> flips) {
         long now = System.currentTimeMillis();
+        Board board = model.board();
         for (GameModel.FlipResult f : flips) {
-            animations.put(f.pos(), new FlipAnim(now, new Color(f.from().rgb), f.fromToken()));
+            int cell = board.cellIndex(f.pos().r(), f.pos().c());
+            if (animations[cell] == null) animCount++;
+            animations[cell] = new FlipAnim(now, f.from(), f.fromToken());
         }
         if (!flips.isEmpty() && !animTimer.isRunning()) {
             animTimer.start();
         }
     }
 
-    private Color lerpColor(Color a, Color b, double t) {
-        t = Math.max(0, Math.min(1, t));
-        int r = (int) (a.getRed() + (b.getRed() - a.getRed()) * t);
-        int g = (int) (a.getGreen() + (b.getGreen() - a.getGreen()) * t);
-        int bl = (int) (a.getBlue() + (b.getBlue() - a.getBlue()) * t);
-        return new Color(r, g, bl);
+    /**
+     * 보드 크기의 투명 층 하나. 화면에 붙어 있으면 VolatileImage(그래픽 카드 메모리), 아니면 BufferedImage.
+     * VolatileImage는 내용이 사라질 수 있어 그릴 때마다 ensure로 확인한다.
+     */
+    private final class Layer {
+        Image image;
+
+        /** 쓸 수 있게 준비. 새로 만들었거나 내용이 사라져 비운 경우 true (처음부터 다시 그려야 함) */
+        boolean ensure(Dimension size, double scale) {
+            int w = (int) Math.ceil(size.width * scale);
+            int h = (int) Math.ceil(size.height * scale);
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            if (image != null && image.getWidth(null) == w && image.getHeight(null) == h
+                    && (image instanceof VolatileImage) == (gc != null)) {
+                if (!(image instanceof VolatileImage vi)) return false;
+                int state = vi.validate(gc);
+                if (state == VolatileImage.IMAGE_OK) return false;
+                if (state == VolatileImage.IMAGE_RESTORED) {
+                    clear();
+                    return true;
+                }
+            }
+            if (image != null) image.flush();
+            image = gc != null
+                    ? gc.createCompatibleVolatileImage(w, h, Transparency.TRANSLUCENT)
+                    : new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            clear();
+            return true;
+        }
+
+        /** 보드 좌표로 그리는 그래픽 (배율 적용) */
+        Graphics2D createGraphics(double scale) {
+            Graphics2D g = (Graphics2D) image.getGraphics();
+            g.scale(scale, scale);
+            return g;
+        }
+
+        /** 다음 ensure에서 새로 만들게 함 */
+        void discard() {
+            if (image != null) image.flush();
+            image = null;
+        }
+
+        boolean contentsLost() {
+            return image instanceof VolatileImage vi && vi.contentsLost();
+        }
+
+        private void clear() {
+            Graphics2D g = (Graphics2D) image.getGraphics();
+            try {
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(0, 0, image.getWidth(null), image.getHeight(null));
+            } finally {
+                g.dispose();
+            }
+        }
     }
 
-    private class FlipAnim {
-        final long startMs;
-        final Color from;
-        final String fromToken;
-        FlipAnim(long startMs, Color from, String fromToken) {
-            this.startMs = startMs;
-            this.from = from;
-            this.fromToken = fromToken;
-        }
-        double progress() {
-            double t = (System.currentTimeMillis() - startMs) / (double) ANIM_MS;
+    private record FlipAnim(long startMs, Team from, String fromToken) {
+        double progress(long now) {
+            double t = (now - startMs) / (double) ANIM_MS;
             return Math.min(1.0, t);
         }
     }
@@ -0,0 +1,97 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미리 만들어 둔 게임 보드 풀 (보드 + TokenIndex + WordPool)
+ * - 백그라운드 스레드 하나가 풀이 찰 때까지 보드를 만들어 두고, 방 생성은 하나 꺼내 가기만 한다 (O(1)).
+ * - 단어 목록(WordCorpus)이 바뀌면 예전 목록으로 만든 보드는 꺼낼 때 버린다.
+ * - 풀이 비어 있거나 크기가 0이면 호출한 스레드에서 바로 만든다.
+ */
+public class BoardTemplates {
+
+    /** 파일이 없을 때 쓰는 기본 단어 */
+    static final List<String> FALLBACK_WORDS = List.of("감자", "사과", "포도", "수박", "코코", "호랑이", "곰돌", "여우", "늑대", "토끼");
+
+    /** 방 하나가 쓸 보드 묶음 (꺼낸 뒤에는 그 방만 쓴다) */
+    public record Template(Board board, TokenIndex index, WordPool wordPool, long corpusVersion) {}
+
+    private final int rows;
+    private final int cols;
+    private final ArrayBlockingQueue<Template> ready; // 크기 0이면 null
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public BoardTemplates(int rows, int cols, int capacity) {
+        this.rows = rows;
+        this.cols = cols;
+        this.ready = capacity > 0 ? new ArrayBlockingQueue<>(capacity) : null;
+        if (ready != null) {
+            Thread t = new Thread(this::fillLoop, "board-templates");
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    /** 방 생성 시 보드 하나를 꺼냄 (풀에 없거나 단어 목록이 바뀌었으면 새로 만든다) */
+    public Template take() {
+        WordCorpus.Snapshot corpus = WordCorpus.current();
+        if (ready != null) {
+            Template t;
+            while ((t = ready.poll()) != null) {
+                if (t.corpusVersion() == corpus.version()) {
+                    hits.incrementAndGet();
+                    return t;
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return generate(rows, cols, corpus);
+    }
+
+    /** 꺼냈지만 쓰지 않은 보드 (방 이름 중복 등) 를 돌려놓음 — 풀이 가득 차 있으면 버린다 */
+    public void giveBack(Template t) {
+        if (ready != null) ready.offer(t);
+    }
+
+    private void fillLoop() {
+        try {
+            while (true) {
+                ready.put(generate(rows, cols, WordCorpus.current()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 위쪽 절반은 노랑, 아래쪽 절반은 파랑. 토큰은 단어 목록을 섞어 채운다 */
+    static Template generate(int rows, int cols, WordCorpus.Snapshot corpus) {
+        List<String> words = corpus.words().isEmpty() ? FALLBACK_WORDS : corpus.words();
+        int totalCells = rows * cols;
+        List<String> pool = new ArrayList<>(Math.max(totalCells, words.size()));
+        pool.addAll(words);
+        while (pool.size() < totalCells) {
+            pool.addAll(words);
+        }
+        Collections.shuffle(pool, ThreadLocalRandom.current());
+
+        Board board = new Board(rows, cols);
+        int tokenIdx = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                Team owner = (r < rows / 2) ? Team.YELLOW : Team.BLUE;
+                board.set(r, c, owner, pool.get(tokenIdx++));
+            }
+        }
+        TokenIndex index = TokenIndex.fromBoard(board);
+        return new Template(board, index, WordPool.fromBoard(board, corpus.words()), corpus.version());
+    }
+
+    @Override
+    public String toString() {
+        return "준비 " + (ready == null ? 0 : ready.size()) + "개, 바로 꺼냄 " + hits.get() + ", 직접 생성 " + misses.get();
+    }
+}
@@ -1,26 +1,24 @@
-import java.io.Serializable;
-
 /**
  * 보드의 "한 칸"을 이루는 최소 단위.
  * (중략)
- * - 네트워크 전송을 위해 Serializable 구현
+ * - 보드는 칸 상태를 기본형 배열로 저장하므로, Cell은 보드의 한 칸을 가리키는 뷰다.
+ *   읽기/쓰기 모두 보드 배열에 바로 반영된다. (Board.get(r, c) 호출부 호환용)
  */
-public class Cell implements Serializable {
-    // 직렬화 ID
-    private static final long serialVersionUID = 1L;
-    
-    private Team owner;
-    private String token;
+public class Cell {
+
+    private final Board board;
+    private final int index; // 칸 번호 (r * cols + c)
 
-    public Cell(Team owner, String token) {
-        this.owner = owner;
-        this.token = token;
+    Cell(Board board, int index) {
+        this.board = board;
+        this.index = index;
     }
 
-    public Team owner()      { return owner; }
-    public String token()    { return token; }
+    public Team owner()      { return board.owner(index); }
+    public int tokenId()     { return board.tokenId(index); }
+    public String token()    { return board.token(index); }
 
     /** 뒤집기(소유권 변경) — 실제 보드 현실 상태를 갱신한다. */
-    public void setOwner(Team owner) { this.owner = owner; }
-    public void setToken(String token) { this.token = token; }
+    public void setOwner(Team owner) { board.set(index, owner, board.tokenId(index)); }
+    public void setToken(int tokenId) { board.set(index, board.owner(index), tokenId); }
 }
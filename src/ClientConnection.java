@@ -0,0 +1,17 @@
+/**
+ * 서버 측 클라이언트 연결 하나의 전송 계층.
+ * - ClientHandler(세션/메시지 처리)는 보낼 프레임을 자신의 OutboundQueue에 넣고 outboundReady()로 알린다.
+ * - 전송 계층의 writer가 그 큐를 비워 소켓에 쓴다. (호출 스레드는 소켓 쓰기를 기다리지 않음)
+ * - 구현: BlockingConnection(연결당 reader/writer 스레드), NioServer.Connection(셀렉터 기반)
+ */
+interface ClientConnection {
+
+    /** 로그/식별용 원격 주소 */
+    String remoteId();
+
+    /** ClientHandler의 송신 큐에 새 프레임이 들어왔음을 알림 */
+    void outboundReady();
+
+    /** 연결 종료 (여러 번, 어느 스레드에서 호출해도 안전해야 한다) */
+    void close();
+}
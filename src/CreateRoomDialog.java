@@ -12,6 +12,7 @@ public class CreateRoomDialog extends JDialog {
     private JCheckBox privateCheckBox;
     private JPasswordField passwordField;
     private JComboBox<String> timeComboBox;
+    private JComboBox<String> sizeComboBox;
     private JRadioButton yellowTeamButton, blueTeamButton;
 
     public CreateRoomDialog(JFrame parent, GameClient client) {
@@ -48,8 +49,16 @@ public class CreateRoomDialog extends JDialog {
         timeComboBox = new JComboBox<>(times);
         add(timeComboBox, gbc);
 
-        // 4. 팀 선택
-        gbc.gridx = 0; gbc.gridy = 3;
+        // 4. 인원
+        gbc.gridx = 0; gbc.gridy = 3; gbc.gridwidth = 1;
+        add(new JLabel("인원:"), gbc);
+        gbc.gridx = 1; gbc.gridy = 3; gbc.gridwidth = 2;
+        String[] sizes = {"1 대 1", "4 대 4", "8 대 8"};
+        sizeComboBox = new JComboBox<>(sizes);
+        add(sizeComboBox, gbc);
+
+        // 5. 팀 선택
+        gbc.gridx = 0; gbc.gridy = 4; gbc.gridwidth = 1;
         add(new JLabel("팀 선택:"), gbc);
         
         yellowTeamButton = new JRadioButton("노랑팀");
@@ -64,10 +73,10 @@ public class CreateRoomDialog extends JDialog {
         teamPanel.add(yellowTeamButton);
         teamPanel.add(blueTeamButton);
         
-        gbc.gridx = 1; gbc.gridy = 3; gbc.gridwidth = 2;
+        gbc.gridx = 1; gbc.gridy = 4; gbc.gridwidth = 2;
         add(teamPanel, gbc);
 
-        // 5. 버튼
+        // 6. 버튼
         JButton createButton = new JButton("방 생성");
         JButton cancelButton = new JButton("취소");
         
@@ -75,7 +84,7 @@ public class CreateRoomDialog extends JDialog {
         buttonPanel.add(cancelButton);
         buttonPanel.add(createButton);
         
-        gbc.gridx = 0; gbc.gridy = 4; gbc.gridwidth = 3;
+        gbc.gridx = 0; gbc.gridy = 5; gbc.gridwidth = 3;
         gbc.anchor = GridBagConstraints.EAST;
         gbc.fill = GridBagConstraints.NONE;
         add(buttonPanel, gbc);
@@ -121,10 +130,16 @@ public class CreateRoomDialog extends JDialog {
             default -> 60;
         };
 
+        int teamSize = switch (sizeComboBox.getSelectedIndex()) {
+            case 1 -> 4;
+            case 2 -> 8;
+            default -> 1;
+        };
+
         Team chosenTeam = yellowTeamButton.isSelected() ? Team.YELLOW : Team.BLUE;
 
         // GameClient를 통해 서버에 "방 생성 요청"
-        client.sendCreateRoomRequest(roomName, password, seconds, chosenTeam);
+        client.sendCreateRoomRequest(roomName, password, seconds, chosenTeam, teamSize);
         
         dispose(); // 요청 후 다이얼로그 닫기
     }
@@ -1,10 +1,8 @@
 import javax.swing.*;
 import java.awt.Color;
-import java.awt.Image;
 import java.awt.Dimension;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 import java.io.*;
 import java.net.Socket;
 import java.net.SocketException;
@@ -15,15 +13,19 @@ import java.net.SocketException;
  * 2. 별도 쓰레드로 서버 메시지 리스닝.
  * 3. 서버로부터 GameStart 메시지를 받으면 LobbyFrame을 숨기고 GameFrame을 연다.
  * 4. 게임 종료/중단 시 GameFrame을 닫고 LobbyFrame/대기방으로 복귀.
+ * 5. 관전: 스냅샷을 받아 팀 없는 GameFrame을 열고, 게임이 끝나면 관전을 마치고 로비로 복귀.
  */
 public class GameClient {
 
     private static final int PORT = 12345;
 
     private Socket socket;
-    private ObjectOutputStream oos;
-    private ObjectInputStream ois;
+    private OutputStream out;
+    private DataInputStream in;
     private String nickname = "Player";
+    private final MessageCodec preferredCodec;            // 핸드셰이크에서 요청할 코덱
+    private final int metricsSec;                         // 수신 큐 지표 출력 주기 (0이면 끔)
+    private MessageCodec codec = MessageCodec.DEFAULT;    // 서버가 승인한 송신 코덱
     
     // UI
     private LobbyFrame lobbyFrame;        // 메인 로비 UI
@@ -31,9 +33,27 @@ public class GameClient {
     private GameFrame gameFrame;          // 실제 게임 UI
     
     private GameModel localModel;         // 서버와 동기화될 로컬 모델
+    private volatile boolean spectating = false; // 관전 중 (대기방 없이 게임 화면만 연다)
+    private volatile int teamSize = 1;           // 현재 방의 팀 인원 (게임 화면 제목용)
+    private final InboundQueue inbound = new InboundQueue(); // 수신 메시지 → EDT (프레임당 한 번 묶어 처리, 틱 등은 병합)
     private java.util.List<NetworkProtocol.PlayerInfo> currentPlayers = new java.util.ArrayList<>();
 
+    public GameClient() {
+        this(BinaryCodec.INSTANCE);
+    }
+
+    public GameClient(MessageCodec preferredCodec) {
+        this(preferredCodec, 0);
+    }
+
+    public GameClient(MessageCodec preferredCodec, int metricsSec) {
+        this.preferredCodec = preferredCodec;
+        this.metricsSec = metricsSec;
+    }
+
     public void start() {
+        SoundEngine.preload(); // 효과음과 게임 화면 이미지는 첫 게임 전에 미리 디코딩
+        GameFrame.preloadImages();
         String imagePath = "resources/images/login_background.png";
         String ip = null;
         try {
@@ -41,7 +61,7 @@ public class GameClient {
             int maxW = (int) (screen.width * 0.6);
             int maxH = (int) (screen.height * 0.6);
 
-            BufferedImage img = tryLoadImage(imagePath);
+            BufferedImage img = ImageAssets.image(imagePath).join(); // 로그인 창은 이미지가 있어야 크기를 정한다
             ImageIcon icon = null;
             if (img != null) {
                 int w = img.getWidth();
@@ -50,8 +70,7 @@ public class GameClient {
                 if (scale < 1.0) {
                     w = (int) (w * scale);
                     h = (int) (h * scale);
-                    Image scaled = img.getScaledInstance(w, h, Image.SCALE_SMOOTH);
-                    icon = new ImageIcon(scaled);
+                    icon = new ImageIcon(ImageAssets.scaled(imagePath, w, h).join());
                 } else {
                     icon = new ImageIcon(img);
                 }
@@ -135,17 +154,18 @@ public class GameClient {
 
         try {
             socket = new Socket(ip, PORT);
-            oos = new ObjectOutputStream(socket.getOutputStream());
-            ois = new ObjectInputStream(socket.getInputStream());
+            out = new BufferedOutputStream(socket.getOutputStream());
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
 
             System.out.println("클라이언트가 서버에 연결 성공.");
 
             // 닉네임 핸드셰이크
-            sendMessage(new NetworkProtocol.Msg_C2S_Handshake(nickname));
+            sendMessage(new NetworkProtocol.Msg_C2S_Handshake(nickname, java.util.List.of(preferredCodec.name(), MessageCodec.DEFAULT.name())));
 
             SwingUtilities.invokeLater(() -> {
                 lobbyFrame = new LobbyFrame(this, nickname);
                 lobbyFrame.setVisible(true);
+                if (metricsSec > 0) startInboundMetrics();
             });
 
             new Thread(this::listenToServer).start();
@@ -155,40 +175,52 @@ public class GameClient {
         }
     }
 
+    /** 수신 큐 지표를 metricsSec마다 출력 (EDT 타이머) */
+    private void startInboundMetrics() {
+        javax.swing.Timer timer = new javax.swing.Timer(metricsSec * 1000, e -> {
+            InboundQueue.Stats s = inbound.stats();
+            System.out.println("클라이언트: 수신 이벤트 - 대기 " + s.depth() + " (최대 " + s.maxDepth() + "), 받음 " + s.posted()
+                    + ", 병합 " + s.coalesced() + ", 묶음 " + s.batches()
+                    + ", EDT 지연 평균 " + s.avgLatencyMicros() + " µs / 최대 " + s.maxLatencyMicros() + " µs");
+        });
+        timer.start();
+    }
+
     /** 서버로부터 오는 메시지를 계속 수신 */
     private void listenToServer() {
         try {
             while (socket != null && !socket.isClosed()) {
-                Object msg = ois.readObject();
+                Object msg = MessageFrames.read(in);
 
                 // --- 로비/대기 메시지 ---
-                if (msg instanceof NetworkProtocol.Msg_S2C_RoomList m) {
-                    SwingUtilities.invokeLater(() -> lobbyFrame.setRooms(m.rooms()));
-                } else if (msg instanceof NetworkProtocol.Msg_S2C_RoomUpdated m) {
-                    SwingUtilities.invokeLater(() -> {
-                        lobbyFrame.upsertRoom(m.room());
-                        if (waitingRoomFrame != null && m.room().name().equals(waitingRoomFrame.getRoomName())) {
-                            waitingRoomFrame.updateRoomInfo(m.room());
-                        }
-                    });
-                } else if (msg instanceof NetworkProtocol.Msg_S2C_RoomRemoved m) {
-                    SwingUtilities.invokeLater(() -> lobbyFrame.removeRoom(m.roomName()));
+                if (msg instanceof NetworkProtocol.Msg_S2C_HandshakeAck m) {
+                    MessageCodec agreed = MessageCodec.byName(m.codec());
+                    setCodec(agreed != null ? agreed : MessageCodec.DEFAULT);
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_RoomPage m) {
+                    // 페이지 앞뒤의 델타를 합치면 페이지 뒤에서 한꺼번에 적용돼 버전이 어긋나므로 병합을 끊는다
+                    inbound.post("rooms", () -> lobbyFrame.onRoomPage(m));
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_RoomListDelta m) {
+                    inbound.coalesce("rooms", m, GameClient::mergeRoomListDeltas, this::applyRoomListDelta);
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_EnterWaitingRoom m) {
+                    spectating = false;
+                    teamSize = Math.max(1, m.room().maxPlayers() / 2);
                     setCurrentPlayers(m.players());
-                    SwingUtilities.invokeLater(() -> openWaitingRoom(m.room(), m.players(), m.myTeam()));
+                    inbound.post(() -> openWaitingRoom(m.room(), m.players(), m.myTeam()));
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_PlayerListUpdated m) {
                     setCurrentPlayers(m.players());
-                    SwingUtilities.invokeLater(() -> {
-                        if (waitingRoomFrame != null) waitingRoomFrame.updatePlayers(m.players());
+                    inbound.coalesce("players", m, (older, newer) -> newer, u -> {
+                        if (waitingRoomFrame != null) waitingRoomFrame.updatePlayers(u.players());
                     });
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_WaitingChat m) {
-                    SwingUtilities.invokeLater(() -> {
+                    inbound.post(() -> {
                         if (waitingRoomFrame != null) waitingRoomFrame.appendChat(m.sender(), m.text());
                     });
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_RoomResponseFailure m) {
-                    SwingUtilities.invokeLater(() ->
+                    inbound.post(() ->
                         lobbyFrame.setStatus(m.reason(), Color.RED));
                     JOptionPane.showMessageDialog(lobbyFrame, m.reason(), "오류", JOptionPane.ERROR_MESSAGE);
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_SpectateSnapshot m) {
+                    handleSpectateSnapshot(m);
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_ReturnToLobby) {
                     handleReturnToLobby("게임 종료. 로비로 복귀합니다");
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_OpponentLeft) {
@@ -197,21 +229,32 @@ public class GameClient {
 
                 // --- 게임 시작/진행 메시지 ---
                 } else if (msg instanceof NetworkProtocol.Msg_S2C_GameStart m) {
-                    initializeGame(m.assignedTeam(), m.board(), m.secondsLeft());
-                } else if (gameFrame != null) {
-                    if (msg instanceof NetworkProtocol.Msg_S2C_BroadcastInput m) {
-                        SwingUtilities.invokeLater(() -> gameFrame.handleRemoteInput(m.team(), m.input()));
-                    } else if (msg instanceof NetworkProtocol.Msg_S2C_Tick) {
-                        SwingUtilities.invokeLater(() -> gameFrame.handleRemoteTick());
-                    } else if (msg instanceof NetworkProtocol.Msg_S2C_GameOver) {
-                        SwingUtilities.invokeLater(() -> gameFrame.handleRemoteGameOver());
-                    } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusTimeStart m){
-                        SwingUtilities.invokeLater(()-> gameFrame.handleBonusTimeStart(m.sentences()));
-                    } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusSentenceResult m){
-                        SwingUtilities.invokeLater(()->gameFrame.handleBonusSentenceResult(m.success(), m.sentence(), m.team()));
-                    } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusTimeEnd){
-                        SwingUtilities.invokeLater(()->gameFrame.handleBonusTimeEnd());
-                    }
+                    initializeGame(m.assignedTeam(), m.board(), m.secondsLeft(), m.serverFlips());
+                // (게임 화면은 EDT에서 열리므로 화면이 있는지도 EDT에서 확인한다)
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_FlipResult m) {
+                    toGame(f -> f.handleFlipResult(m));
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_BroadcastInput m) {
+                    toGame(f -> f.handleRemoteInput(m.team(), m.input()));
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_Tick m) {
+                    // 남은 시간은 최신 값만 의미 있다
+                    inbound.coalesce("tick", m, (older, newer) -> newer, t -> {
+                        if (gameFrame != null) gameFrame.handleRemoteTick(t.secondsLeft());
+                    });
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_BoardHash m) {
+                    // 보드 해시는 마지막 것만 확인해도 된다 (그 자리까지의 결과가 모두 반영된 뒤 비교)
+                    inbound.coalesce("hash", m, (older, newer) -> newer, h -> {
+                        if (gameFrame != null) gameFrame.handleBoardHash(h);
+                    });
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_BoardResync m) {
+                    toGame(f -> f.handleBoardResync(m));
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_GameOver) {
+                    toGame(GameFrame::handleRemoteGameOver);
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusTimeStart m){
+                    toGame(f -> f.handleBonusTimeStart(m.sentences()));
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusSentenceResult m){
+                    toGame(f -> f.handleBonusSentenceResult(m.success(), m.sentence(), m.team()));
+                } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusTimeEnd){
+                    toGame(GameFrame::handleBonusTimeEnd);
                 }
             }
         } catch (EOFException | SocketException e) {
@@ -227,34 +270,111 @@ public class GameClient {
     }
     
     
-    /** (S2C) 게임 시작 메시지 수신 시 호출 */
-    private void initializeGame(Team myTeam, Board board, int seconds) {
-        TokenIndex localIndex = new TokenIndex();
-        for (int r = 0; r < board.rows(); r++) {
-            for (int c = 0; c < board.cols(); c++) {
-                Cell cell = board.get(r, c);
-                localIndex.add(cell.owner(), cell.token(), new Pos(r, c));
+    /** 게임 화면이 열려 있으면 EDT에서 처리 */
+    private void toGame(java.util.function.Consumer<GameFrame> action) {
+        inbound.post(() -> {
+            if (gameFrame != null) action.accept(gameFrame);
+        });
+    }
+
+    /** (S2C) 로비 방 목록 델타: 로비 목록(버전 확인은 LobbyFrame)과 대기방 정보에 반영 (EDT) */
+    private void applyRoomListDelta(NetworkProtocol.Msg_S2C_RoomListDelta m) {
+        lobbyFrame.applyRoomListDelta(m);
+        if (waitingRoomFrame != null) {
+            for (NetworkProtocol.RoomInfo room : m.updated()) {
+                if (room.name().equals(waitingRoomFrame.getRoomName())) {
+                    waitingRoomFrame.updateRoomInfo(room);
+                }
             }
         }
-        localModel = new GameModel(board, localIndex, seconds, 1, WordPool.fromBoard(board));
-        String yellowName = findPlayerName(Team.YELLOW, myTeam);
-        String blueName = findPlayerName(Team.BLUE, myTeam);
+    }
 
-        SwingUtilities.invokeLater(() -> {
-            if (lobbyFrame != null) {
-                lobbyFrame.setVisible(false);
-            }
-            if (waitingRoomFrame != null) {
-                waitingRoomFrame.setVisible(false);
+    /**
+     * 아직 화면에 반영하지 않은 델타 두 개를 하나로 합침 (같은 방은 마지막 상태만 남는다).
+     * - 제거 후 다시 생긴 방은 제거 목록에도 남겨 두어, 차례로 적용한 것과 같게 "제거 → 추가"로 적용된다.
+     * - 버전이 이어지지 않으면 어느 로비 버전과도 맞지 않는 기준 버전을 붙여 로비가 목록을 다시 받게 한다.
+     */
+    static NetworkProtocol.Msg_S2C_RoomListDelta mergeRoomListDeltas(NetworkProtocol.Msg_S2C_RoomListDelta older,
+                                                                      NetworkProtocol.Msg_S2C_RoomListDelta newer) {
+        java.util.Map<String, NetworkProtocol.RoomInfo> updated = new java.util.LinkedHashMap<>();
+        java.util.Set<String> removed = new java.util.LinkedHashSet<>(older.removed());
+        for (NetworkProtocol.RoomInfo room : older.updated()) updated.put(room.name(), room);
+        for (String name : newer.removed()) {
+            updated.remove(name);
+            removed.add(name);
+        }
+        for (NetworkProtocol.RoomInfo room : newer.updated()) updated.put(room.name(), room);
+        long base = newer.baseVersion() == older.version() ? older.baseVersion() : Long.MIN_VALUE;
+        return new NetworkProtocol.Msg_S2C_RoomListDelta(base, newer.version(),
+                java.util.List.copyOf(updated.values()), java.util.List.copyOf(removed));
+    }
+
+    /**
+     * (S2C) 관전 스냅샷
+     * - 게임 전이면 로비에서 기다리고(이어서 오는 GameStart로 화면을 연다), 게임 중이면 바로 관전 화면을 연다.
+     * - 관전 화면이 이미 열려 있으면 송출이 밀려 건너뛴 것이므로 보드를 덮어쓴다.
+     */
+    private void handleSpectateSnapshot(NetworkProtocol.Msg_S2C_SpectateSnapshot m) {
+        spectating = true;
+        teamSize = Math.max(1, m.room().maxPlayers() / 2);
+        setCurrentPlayers(m.players());
+        if (m.board() == null) {
+            inbound.post(() ->
+                lobbyFrame.setStatus("[" + m.room().name() + "] 관전 중 - 게임이 시작되면 화면이 열립니다", Color.WHITE));
+            return;
+        }
+        GameModel model = new GameModel(m.board(), TokenIndex.fromBoard(m.board()), m.secondsLeft(), 1, null);
+        model.applyResync(m.board(), m.yellowScore(), m.blueScore(), m.yellowFlips(), m.blueFlips(), 0);
+        String yellowName = findPlayerName(Team.YELLOW, null);
+        String blueName = findPlayerName(Team.BLUE, null);
+        // 화면이 아직 만들어지는 중에 스냅샷이 또 오면 (링 초과 후 재전송) 창을 두 번 열지 않도록 EDT에서 함께 판단
+        inbound.post(() -> {
+            if (gameFrame != null) {
+                gameFrame.applySnapshot(m);
+            } else {
+                showGameFrame(model, null, yellowName, blueName);
             }
-            gameFrame = new GameFrame(localModel, this, myTeam, yellowName, blueName);
-            gameFrame.setVisible(true);
         });
     }
 
-    /** (S2C) 게임 종료 -> 대기방 복귀 */
+    /**
+     * (S2C) 게임 시작 메시지 수신 시 호출
+     * - 서버 판정 모드면 결과를 받아 반영만 하므로 단어 공급기(WordPool)를 만들지 않는다.
+     * - myTeam이 null이면 관전 화면
+     */
+    private void initializeGame(Team myTeam, Board board, int seconds, boolean serverFlips) {
+        TokenIndex localIndex = TokenIndex.fromBoard(board);
+        WordPool wordPool = serverFlips ? null : WordPool.fromBoard(board);
+        openGameFrame(new GameModel(board, localIndex, seconds, 1, wordPool), myTeam);
+    }
+
+    private void openGameFrame(GameModel model, Team myTeam) {
+        String yellowName = findPlayerName(Team.YELLOW, myTeam);
+        String blueName = findPlayerName(Team.BLUE, myTeam);
+        inbound.post(() -> showGameFrame(model, myTeam, yellowName, blueName));
+    }
+
+    /** 로비/대기방을 숨기고 게임 화면을 연다 (EDT) */
+    private void showGameFrame(GameModel model, Team myTeam, String yellowName, String blueName) {
+        localModel = model;
+        if (lobbyFrame != null) {
+            lobbyFrame.setVisible(false);
+        }
+        if (waitingRoomFrame != null) {
+            waitingRoomFrame.setVisible(false);
+        }
+        gameFrame = new GameFrame(localModel, this, myTeam, teamSize, yellowName, blueName);
+        gameFrame.setVisible(true);
+    }
+
+    /** (S2C) 게임 종료 -> 대기방 복귀 (관전자는 관전을 마치고 로비로) */
     private void handleGameFinished(){
-        SwingUtilities.invokeLater(()-> {
+        if (spectating) {
+            sendMessage(new NetworkProtocol.Msg_C2S_LeaveRoom());
+            handleReturnToLobby("관전을 마쳤습니다");
+            return;
+        }
+        inbound.post(()-> {
             if(gameFrame != null){
                 gameFrame.dispose();
                 gameFrame = null;
@@ -276,7 +396,8 @@ public class GameClient {
     
     /** (S2C) 게임 종료/중단 -> 로비 복귀 */
     private void handleReturnToLobby(String message) {
-        SwingUtilities.invokeLater(() -> {
+        spectating = false;
+        inbound.post(() -> {
             if (gameFrame != null) {
                 gameFrame.dispose();
                 gameFrame = null;
@@ -295,22 +416,25 @@ public class GameClient {
     }
 
     /** (C2S) 메시지 전송 (범용) */
-    private void sendMessage(Serializable message) {
+    private synchronized void sendMessage(Serializable message) {
         try {
-            if (oos != null) {
-                oos.writeObject(message);
-                oos.flush();
+            if (out != null) {
+                MessageFrames.write(out, MessageFrames.encode(codec, message));
             }
         } catch (IOException e) {
             System.err.println("클라이언트 메시지 전송 오류 - " + e.getMessage());
         }
     }
     
+    private synchronized void setCodec(MessageCodec codec) {
+        this.codec = codec;
+    }
+
     // --- UI가 호출하는 메소드 ---
 
     /** (C2S) (CreateRoomDialog) 방 생성 요청 */
-    public void sendCreateRoomRequest(String roomName, String password, int seconds, Team team) {
-        sendMessage(new NetworkProtocol.Msg_C2S_CreateRoom(roomName, password, seconds, team));
+    public void sendCreateRoomRequest(String roomName, String password, int seconds, Team team, int teamSize) {
+        sendMessage(new NetworkProtocol.Msg_C2S_CreateRoom(roomName, password, seconds, team, teamSize));
         if (lobbyFrame != null) lobbyFrame.setStatus("방 생성 요청 중...", Color.GRAY);
     }
     
@@ -320,9 +444,15 @@ public class GameClient {
         if (lobbyFrame != null) lobbyFrame.setStatus("방 참여 요청 중...", Color.GRAY);
     }
 
-    /** (C2S) 로비 방 목록 요청 */
-    public void requestRoomList() {
-        sendMessage(new NetworkProtocol.Msg_C2S_RequestRoomList());
+    /** (C2S) (JoinRoomDialog) 관전 요청 */
+    public void sendSpectateRequest(String roomName, String password) {
+        sendMessage(new NetworkProtocol.Msg_C2S_Spectate(roomName, password));
+        if (lobbyFrame != null) lobbyFrame.setStatus("관전 요청 중...", Color.GRAY);
+    }
+
+    /** (C2S) 로비 방 목록 한 페이지 조회 */
+    public void queryRooms(int requestId, NetworkProtocol.RoomFilter filter, String afterName, int limit) {
+        sendMessage(new NetworkProtocol.Msg_C2S_RoomQuery(requestId, filter, afterName, limit));
     }
 
     /** (C2S) 대기방 게임 시작 */
@@ -351,6 +481,11 @@ public class GameClient {
         sendMessage(new NetworkProtocol.Msg_C2S_InputRequest(team, input));
     }
 
+    /** (C2S) (GameFrame) 보드 해시가 어긋났을 때 전체 보드 재전송 요청 */
+    public void sendResyncRequest() {
+        sendMessage(new NetworkProtocol.Msg_C2S_ResyncRequest());
+    }
+
     /** (C2S) (GameFrame) 보너스 타임 문장 입력 요청 */
     public void sendSentenceInput(Team team, String sentence){
         sendMessage(new NetworkProtocol.Msg_C2S_SentenceInput(sentence,team));
@@ -387,12 +522,17 @@ public class GameClient {
         this.currentPlayers = new java.util.ArrayList<>();
     }
 
+    /** 팀 표시 이름: 한 명이면 닉네임, 여러 명이면 "첫 닉네임 외 N명" */
     private synchronized String findPlayerName(Team team, Team myAssignedTeam){
+        String first = null;
+        int count = 0;
         for (NetworkProtocol.PlayerInfo p : currentPlayers) {
             if (p.team() == team) {
-                return p.nickname();
+                if (first == null) first = p.nickname();
+                count++;
             }
         }
+        if (first != null) return (count == 1) ? first : first + " 외 " + (count - 1) + "명";
         if (team == myAssignedTeam) return nickname;
         return (team == Team.YELLOW) ? "노랑팀" : "파랑팀";
     }
@@ -406,36 +546,19 @@ public class GameClient {
         System.exit(0);
     }
 
-    /**
-     * 주어진 경로에서 이미지를 로드하려 시도합니다
-     * - 파일 시스템 직접 경로
-     * - user.dir 기준 상대
-     * - 클래스패스 리소스
-     */
-    private BufferedImage tryLoadImage(String path) {
-        try {
-            File f = new File(path);
-            if (f.exists()) {
-                return ImageIO.read(f);
-            }
-
-            File f2 = new File(System.getProperty("user.dir"), path);
-            if (f2.exists()) {
-                return ImageIO.read(f2);
-            }
-
-            java.net.URL res = GameClient.class.getResource("/" + path);
-            if (res != null) {
-                return ImageIO.read(res);
+    /** 실행 인자: --codec=binary(기본) | java, --metrics-sec=N (수신 큐 지표를 N초마다 출력, 기본 0 = 끔) */
+    public static void main(String[] args) {
+        MessageCodec preferred = BinaryCodec.INSTANCE;
+        int metricsSec = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--codec=")) {
+                MessageCodec c = MessageCodec.byName(arg.substring("--codec=".length()));
+                if (c != null) preferred = c;
+            } else if (arg.startsWith("--metrics-sec=")) {
+                metricsSec = Integer.parseInt(arg.substring("--metrics-sec=".length()));
             }
-        } catch (Exception e) {
-            System.out.println("이미지 로드 실패: " + e.getMessage());
         }
-        return null;
-    }
-
-    public static void main(String[] args) {
-        GameClient client = new GameClient();
+        GameClient client = new GameClient(preferred, metricsSec);
         client.start();
     }
 }
@@ -1,9 +1,5 @@
 import javax.swing.*;
 import java.awt.*;
-import java.io.File;
-import javax.imageio.ImageIO;
-import javax.sound.sampled.*;
-import javax.sound.sampled.LineEvent;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,13 +16,28 @@ import java.util.List;
  * - GameClient가 호출하는 public 메소드(handleRemote*)를 통해
  * 서버로부터 받은 상태(입력 결과, 시간)를 UI에 반영.
  * - 자신에게 할당된 팀(myTeam)의 입력창만 활성화.
+ * - myTeam이 null이면 관전 화면: 입력창 없이 양 팀의 뒤집은 판 수만 보여준다.
  */
 public class GameFrame extends JFrame {
 
+    // ---- 이미지 (ImageAssets 캐시) ----
+    private static final String BACKGROUND = "resources/images/game_background.png";
+    private static final String YELLOW_EMBLEM = "resources/images/yellow_team.png";
+    private static final String BLUE_EMBLEM = "resources/images/blue_team.png";
+    private static final int EMBLEM_W = 140;
+    private static final int EMBLEM_H = 180;
+
+    /** 게임 화면 이미지를 백그라운드에서 미리 읽어 둔다 (클라이언트 시작 시, 바로 반환) */
+    static void preloadImages() {
+        ImageAssets.image(BACKGROUND);
+        ImageAssets.scaled(YELLOW_EMBLEM, EMBLEM_W, EMBLEM_H);
+        ImageAssets.scaled(BLUE_EMBLEM, EMBLEM_W, EMBLEM_H);
+    }
+
     // ---- 모델/네트워크 ----
     private final GameModel model;
     private final GameClient client; // 서버와 통신할 클라이언트
-    private final Team myTeam;       // 이 프레임의 플레이어 팀 (YELLOW or BLUE)
+    private final Team myTeam;       // 이 프레임의 플레이어 팀 (YELLOW or BLUE, 관전이면 null)
 
     // ---- UI 구성요소(상단) ----
     private final JLabel yellowScore = scoreBadge(new Color(0xF2, 0xC1, 0x4E));
@@ -34,7 +45,7 @@ public class GameFrame extends JFrame {
     private final JLabel timerLabel = new JLabel("01:00", SwingConstants.CENTER);
     private final String yellowPlayerName;
     private final String bluePlayerName;
-    private final Image backgroundImage;
+    private Image backgroundImage; // 이미지 캐시에서 받으면 채움 (EDT)
 
     // ---- 중앙 보드 ----
     private final BoardPanel boardPanel;
@@ -43,6 +54,7 @@ public class GameFrame extends JFrame {
 
     // ---- 보너스 타임 UI ----
     private boolean isBonusTime = false;
+    private boolean resyncPending = false; // 재동기화 요청 후 응답 대기 중
     private final JPanel bonusTimePanel = new JPanel();
     private final JLabel bonusTitle = new JLabel("BONUS TIME!", SwingConstants.CENTER);
     private final List<JLabel> sentenceLabels = new ArrayList<>();
@@ -57,17 +69,16 @@ public class GameFrame extends JFrame {
 
     /**
      * 생성자:
-     * 모델, 클라이언트, 내 팀을 외부(GameClient)에서 주입받음.
+     * 모델, 클라이언트, 내 팀을 외부(GameClient)에서 주입받음. teamSize는 창 제목의 대전 형식(1:1, 4:4, 8:8)에 쓴다.
      */
-    public GameFrame(GameModel model, GameClient client, Team myTeam, String yellowPlayerName, String bluePlayerName) {
-        super("판 뒤집기 (1:1 · 실시간 · Swing) - " + myTeam + "팀");
+    public GameFrame(GameModel model, GameClient client, Team myTeam, int teamSize, String yellowPlayerName, String bluePlayerName) {
+        super("판 뒤집기 (" + teamSize + ":" + teamSize + " · 실시간 · Swing) - " + (myTeam == null ? "관전" : myTeam + "팀"));
 
         this.model = model;
         this.client = client;
         this.myTeam = myTeam;
         this.yellowPlayerName = yellowPlayerName;
         this.bluePlayerName = bluePlayerName;
-        this.backgroundImage = loadImage("resources/images/game_background.png");
         this.boardPanel = new BoardPanel(model);
         
         // 타이머 초기화 (모델의 시간으로)
@@ -117,7 +128,9 @@ public class GameFrame extends JFrame {
         bottom.setOpaque(false);
         bottom.setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
         JPanel inputPanel;
-        if (myTeam == Team.YELLOW) {
+        if (myTeam == null) {
+            inputPanel = spectatorPanel();
+        } else if (myTeam == Team.YELLOW) {
             inputPanel = teamInputPanel("노랑팀", Team.YELLOW, yellowInput, yellowBtn, yellowFlipLabel, new Color(241, 209, 109));
         } else {
             inputPanel = teamInputPanel("파랑팀", Team.BLUE, blueInput, blueBtn, blueFlipLabel, new Color(133, 171, 236));
@@ -127,15 +140,12 @@ public class GameFrame extends JFrame {
         bottom.add(inputPanel);
         refreshFlipLabels();
 
-        ImageIcon yellowTeamIcon = loadScaledIcon("resources/images/yellow_team.png", 140, 180);
-        ImageIcon blueTeamIcon = loadScaledIcon("resources/images/blue_team.png", 140, 180);
-
         // 6) 프레임 레이아웃 조립
         JPanel middle = new JPanel(new BorderLayout(8, 0));
         middle.setOpaque(false);
-        middle.add(buildSidePanel("노랑팀", yellowPlayerName, new Color(241, 209, 109), yellowTeamIcon, myTeam == Team.YELLOW), BorderLayout.WEST);
+        middle.add(buildSidePanel("노랑팀", yellowPlayerName, new Color(241, 209, 109), YELLOW_EMBLEM, myTeam == Team.YELLOW), BorderLayout.WEST);
         middle.add(centerPanel, BorderLayout.CENTER);
-        middle.add(buildSidePanel("파랑팀", bluePlayerName, new Color(133, 171, 236), blueTeamIcon, myTeam == Team.BLUE), BorderLayout.EAST);
+        middle.add(buildSidePanel("파랑팀", bluePlayerName, new Color(133, 171, 236), BLUE_EMBLEM, myTeam == Team.BLUE), BorderLayout.EAST);
 
         JPanel root = new JPanel(new BorderLayout(8, 8)) {
             @Override
@@ -155,6 +165,10 @@ public class GameFrame extends JFrame {
         root.add(middle, BorderLayout.CENTER);
         root.add(bottom, BorderLayout.SOUTH);
         setContentPane(root);
+        ImageAssets.whenReady(ImageAssets.image(BACKGROUND), img -> {
+            backgroundImage = img;
+            root.repaint();
+        });
 
         // 7) 이벤트 - "내 팀"의 입력만 서버로 전송
         yellowBtn.addActionListener(e -> handleLocalInput(Team.YELLOW, yellowInput));
@@ -163,7 +177,9 @@ public class GameFrame extends JFrame {
         blueInput.addActionListener(e -> handleLocalInput(Team.BLUE, blueInput));
 
         // 8) "내 팀"이 아닌 입력창은 비활성화
-        if (myTeam == Team.YELLOW) {
+        if (myTeam == null) {
+            disableInputs();
+        } else if (myTeam == Team.YELLOW) {
             blueInput.setEnabled(false);
             blueBtn.setEnabled(false);
         } else {
@@ -257,6 +273,24 @@ public class GameFrame extends JFrame {
         return wrap;
     }
 
+    /** 관전 화면 하단: 양 팀의 뒤집은 판 수 */
+    private JPanel spectatorPanel() {
+        JPanel panel = new JPanel(new GridLayout(1, 2, 12, 0));
+        panel.setOpaque(false);
+        panel.add(pill(flipCounterRow("노랑팀 뒤집은 판", yellowFlipLabel), new Color(241, 209, 109)));
+        panel.add(pill(flipCounterRow("파랑팀 뒤집은 판", blueFlipLabel), new Color(133, 171, 236)));
+        return panel;
+    }
+
+    private static JPanel flipCounterRow(String title, JLabel counter) {
+        JLabel titleL = new JLabel(title);
+        titleL.setForeground(Color.DARK_GRAY);
+        JPanel row = new JPanel(new BorderLayout(8, 0));
+        row.add(titleL, BorderLayout.WEST);
+        row.add(counter, BorderLayout.EAST);
+        return row;
+    }
+
     /**
      * (7) 로컬 입력 처리
      */
@@ -287,31 +321,14 @@ public class GameFrame extends JFrame {
         return String.format("%02d:%02d", m, s);
     }
     
-    /** (신규) 사운드 재생 헬퍼 */
-    private void playSound(String soundFileName) {
-        new Thread(() -> {
-            try (AudioInputStream audioIn = AudioSystem.getAudioInputStream(new File("resources/sounds/" + soundFileName))) {
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioIn);
-                clip.start();
-                clip.addLineListener(event -> {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        clip.close();
-                    }
-                });
-            } catch (UnsupportedAudioFileException | java.io.IOException | LineUnavailableException e) {
-                e.printStackTrace();
-            }
-        }).start();
-    }
-
     // --- [신규] 서버 메시지 처리기 (GameClient의 리스너 스레드가 호출) ---
     
     /**
      * (신규) 서버로부터 "시간 1초 경과" 메시지를 받았을 때 (EDT에서 호출 보장)
+     * - 서버 송신 큐에서 틱이 병합될 수 있으므로 1씩 빼지 않고 서버의 남은 시간으로 맞춘다.
      */
-    public void handleRemoteTick() {
-        model.tickOneSecond(); 
+    public void handleRemoteTick(int secondsLeft) {
+        model.setSecondsLeft(secondsLeft); 
         timerLabel.setText(formatSec(model.secondsLeft())); 
     }
 
@@ -321,10 +338,21 @@ public class GameFrame extends JFrame {
     public void handleRemoteInput(Team team, String input) {
         if (model.secondsLeft() <= 0) return;
 
-        java.util.List<GameModel.FlipResult> flips = model.flipByInput(team, input);
-        
+        showFlips(team, model.flipByInput(team, input));
+    }
+
+    /**
+     * (신규) 서버가 판정한 입력 결과를 받았을 때 (EDT에서 호출 보장)
+     * - 다시 계산하지 않고 서버 결과(칸/점수)를 그대로 반영한다.
+     */
+    public void handleFlipResult(NetworkProtocol.Msg_S2C_FlipResult m) {
+        showFlips(m.team(), model.applyFlips(m.team(), m.flips(), m.yellowScore(), m.blueScore()));
+    }
+
+    /** 뒤집힌 칸 애니메이션/점수/입력창 갱신 (lock-step, 서버 판정 공통) */
+    private void showFlips(Team team, java.util.List<GameModel.FlipResult> flips) {
         if (!flips.isEmpty()) {
-            playSound("bell.wav");
+            SoundEngine.play(SoundEngine.BELL);
         }
 
         boardPanel.animateFlips(flips);
@@ -332,7 +360,7 @@ public class GameFrame extends JFrame {
         blueScore.setText(model.getScore(Team.BLUE) + "P");
         refreshFlipLabels();
 
-        if (team == myTeam) {
+        if (myTeam != null && team == myTeam) {
             JTextField myField = (myTeam == Team.YELLOW) ? yellowInput : blueInput;
             if (flips.isEmpty()) {
                 myField.selectAll();
@@ -342,11 +370,46 @@ public class GameFrame extends JFrame {
         }
     }
 
+    /**
+     * 서버가 주기적으로 보내는 보드 해시 (EDT에서 호출 보장)
+     * - 내 보드/점수가 다르면 한 번만 재동기화를 요청하고, 응답이 올 때까지는 다시 요청하지 않는다.
+     */
+    public void handleBoardHash(NetworkProtocol.Msg_S2C_BoardHash m) {
+        if (resyncPending) return;
+        if (model.boardHash() == m.hash()
+                && model.getScore(Team.YELLOW) == m.yellowScore() && model.getScore(Team.BLUE) == m.blueScore()) {
+            return;
+        }
+        System.out.println("클라이언트: 보드가 서버와 달라 재동기화를 요청합니다");
+        resyncPending = true;
+        client.sendResyncRequest();
+    }
+
+    /** 서버가 보낸 전체 보드로 덮어쓰기 (EDT에서 호출 보장) */
+    public void handleBoardResync(NetworkProtocol.Msg_S2C_BoardResync m) {
+        model.applyResync(m.board(), m.yellowScore(), m.blueScore(), m.yellowFlips(), m.blueFlips(), m.wordCursor());
+        resyncPending = false;
+        boardPanel.repaint();
+        yellowScore.setText(model.getScore(Team.YELLOW) + "P");
+        blueScore.setText(model.getScore(Team.BLUE) + "P");
+        refreshFlipLabels();
+    }
+
+    /** 관전 송출이 밀려 건너뛰었을 때 서버가 다시 보낸 스냅샷으로 덮어쓰기 (EDT에서 호출 보장) */
+    public void applySnapshot(NetworkProtocol.Msg_S2C_SpectateSnapshot m) {
+        model.applyResync(m.board(), m.yellowScore(), m.blueScore(), m.yellowFlips(), m.blueFlips(), 0);
+        handleRemoteTick(m.secondsLeft());
+        boardPanel.repaint();
+        yellowScore.setText(model.getScore(Team.YELLOW) + "P");
+        blueScore.setText(model.getScore(Team.BLUE) + "P");
+        refreshFlipLabels();
+    }
+
     /**
      * (신규) 서버로부터 "게임 종료" 메시지를 받았을 때 (EDT에서 호출 보장)
      */
     public void handleRemoteGameOver() {
-        playSound("finish.wav");
+        SoundEngine.play(SoundEngine.FINISH);
         disableInputs();
         
         int y = model.getScore(Team.YELLOW);
@@ -377,11 +440,11 @@ public class GameFrame extends JFrame {
         
         centerCardLayout.show(centerPanel, "bonus");
         
-        JOptionPane.showMessageDialog(this, "BONUS TIME! 20초간 문장을 입력하여 500점을 획득하세요!", "보너스 타임!", JOptionPane.INFORMATION_MESSAGE);
+        JOptionPane.showMessageDialog(this, "BONUS TIME! 20초간 문장을 입력하여 " + GameModel.BONUS_SENTENCE_SCORE + "점을 획득하세요!", "보너스 타임!", JOptionPane.INFORMATION_MESSAGE);
         
         if (myTeam == Team.YELLOW) {
             yellowInput.requestFocusInWindow();
-        } else {
+        } else if (myTeam == Team.BLUE) {
             blueInput.requestFocusInWindow();
         }
     }
@@ -393,7 +456,7 @@ public class GameFrame extends JFrame {
         if (!isBonusTime) return;
 
         if (success) {
-            model.addScore(team, 500);
+            model.addScore(team, GameModel.BONUS_SENTENCE_SCORE);
             yellowScore.setText(model.getScore(Team.YELLOW) + "P");
             blueScore.setText(model.getScore(Team.BLUE) + "P");
         }
@@ -407,7 +470,7 @@ public class GameFrame extends JFrame {
                     attributes.put(java.awt.font.TextAttribute.STRIKETHROUGH, java.awt.font.TextAttribute.STRIKETHROUGH_ON);
                     label.setFont(label.getFont().deriveFont(attributes));
 
-                    if (team == myTeam) {
+                    if (myTeam != null && team == myTeam) {
                         if (myTeam == Team.YELLOW) yellowInput.setText("");
                         else blueInput.setText("");
                     }
@@ -440,7 +503,7 @@ public class GameFrame extends JFrame {
         blueFlipLabel.setText(model.getFlips(Team.BLUE) + "개");
     }
 
-    private JPanel buildSidePanel(String teamLabel, String playerName, Color tone, ImageIcon emblem, boolean isMine) {
+    private JPanel buildSidePanel(String teamLabel, String playerName, Color tone, String emblemPath, boolean isMine) {
         JPanel panel = new JPanel();
         panel.setOpaque(false);
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -449,9 +512,7 @@ public class GameFrame extends JFrame {
 
         JLabel iconLabel = new JLabel();
         iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        if (emblem != null) {
-            iconLabel.setIcon(emblem);
-        }
+        ImageAssets.whenReady(ImageAssets.scaled(emblemPath, EMBLEM_W, EMBLEM_H), img -> iconLabel.setIcon(new ImageIcon(img)));
         panel.add(iconLabel);
         panel.add(Box.createVerticalStrut(8));
 
@@ -474,33 +535,4 @@ public class GameFrame extends JFrame {
         return panel;
     }
 
-    private ImageIcon loadScaledIcon(String path, int w, int h) {
-        Image img = loadImage(path);
-        if (img == null) return null;
-        Image scaled = img.getScaledInstance(w, h, Image.SCALE_SMOOTH);
-        return new ImageIcon(scaled);
-    }
-
-    private Image loadImage(String path) {
-        try {
-            File f = new File(path);
-            if (f.exists()) {
-                return ImageIO.read(f);
-            }
-
-            File f2 = new File(System.getProperty("user.dir"), path);
-            if (f2.exists()) {
-                return ImageIO.read(f2);
-            }
-
-            java.net.URL res = GameFrame.class.getResource("/" + path);
-            if (res != null) {
-                return ImageIO.read(res);
-            }
-        } catch (Exception e) {
-            // ignore, fallback to null image
-        }
-        return null;
-    }
-
 }
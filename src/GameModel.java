@@ -1,10 +1,17 @@
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * "게임의 단 하나의 진실"을 보유하는 모델(서버/클라이언트 모두 공유).
+ * - 가상 스레드에서 호출돼도 캐리어를 고정(pinning)하지 않도록 synchronized 대신 ReentrantLock 사용.
+ * - 서버 판정 모드의 클라이언트는 flipByInput 대신 applyFlips로 서버 결과만 반영한다. (이때 wordPool은 null)
  */
 public class GameModel {
 
+    /** 보너스 문장을 맞힌 팀이 얻는 점수 (서버, 클라이언트, 재생기가 모두 같은 값을 써야 점수가 맞는다) */
+    public static final int BONUS_SENTENCE_SCORE = 500;
+
     private final Board board;
     private final TokenIndex index;
     private final WordPool wordPool;
@@ -16,6 +23,7 @@ public class GameModel {
 
     private int secondsLeft;
     private final int maxFlipPerInput;
+    private final ReentrantLock lock = new ReentrantLock();
 
     public GameModel(Board board, TokenIndex index, int seconds, int maxFlipPerInput, WordPool wordPool) {
         this.board = board;
@@ -30,67 +38,177 @@ public class GameModel {
     }
 
     public Board board() { return board; }
-    public synchronized int secondsLeft() { return secondsLeft; }
-    public synchronized void tickOneSecond() { if (secondsLeft > 0) secondsLeft--; }
-    public synchronized int getScore(Team team) {
-        return (team == Team.YELLOW)? yellowCount : blueCount;
+    public int maxFlipPerInput() { return maxFlipPerInput; }
+    public int secondsLeft() {
+        lock.lock();
+        try { return secondsLeft; } finally { lock.unlock(); }
     }
-    public synchronized int getFlips(Team team) {
-        return (team == Team.YELLOW)? yellowFlips : blueFlips;
+    public void tickOneSecond() {
+        lock.lock();
+        try { if (secondsLeft > 0) secondsLeft--; } finally { lock.unlock(); }
     }
-    public synchronized void addScore(Team team, int score){
-        if(team == Team.YELLOW){
-            yellowCount += score;
-        }
-        else {
-            blueCount += score;
+    /** 서버가 알려준 남은 시간으로 맞춤 (병합된 틱 수신 시) */
+    public void setSecondsLeft(int seconds) {
+        lock.lock();
+        try { secondsLeft = Math.max(0, seconds); } finally { lock.unlock(); }
+    }
+    public int getScore(Team team) {
+        lock.lock();
+        try { return (team == Team.YELLOW)? yellowCount : blueCount; } finally { lock.unlock(); }
+    }
+    public int getFlips(Team team) {
+        lock.lock();
+        try { return (team == Team.YELLOW)? yellowFlips : blueFlips; } finally { lock.unlock(); }
+    }
+    public void addScore(Team team, int score){
+        lock.lock();
+        try {
+            if(team == Team.YELLOW){
+                yellowCount += score;
+            }
+            else {
+                blueCount += score;
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     /**
      * 입력된 단어와 일치하는 상대 칸을 최대 maxFlipPerInput 만큼 뒤집고,
      * 뒤집힌 칸에는 새로운 단어를 채워 넣는다.
+     * - 입력은 한 번만 정규화해 사전 key로 바꾸고, 이후에는 int 인덱스만 조회한다. (빗나간 입력은 할당 없음)
      */
-    public synchronized java.util.List<FlipResult> flipByInput(Team myTeam, String rawInput) {
-        java.util.List<FlipResult> results = new java.util.ArrayList<>();
-        if (rawInput == null || rawInput.isBlank()) return results;
+    public List<FlipResult> flipByInput(Team myTeam, String rawInput) {
+        if (rawInput == null || rawInput.isBlank()) return List.of();
+        TokenDictionary dict = board.dictionary();
+        int key = dict.keyOf(rawInput);
+        if (key < 0) return List.of();
+
+        lock.lock();
+        try {
+            Team opponent = myTeam.opponent();
+            int targets = index.count(opponent, key);
+            if (targets == 0) return List.of();
+
+            List<FlipResult> results = new ArrayList<>(Math.min(targets, maxFlipPerInput));
+            int cols = board.cols();
+            int flipped = 0;
+            // 뒤집은 칸은 상대 버킷에서 빠지므로 항상 맨 앞 칸(칸 번호가 가장 작은 칸)을 꺼낸다
+            while (flipped < maxFlipPerInput && index.count(opponent, key) > 0) {
+                int cellNo = index.cellAt(opponent, key, 0);
+                Pos p = new Pos(cellNo / cols, cellNo % cols);
+
+                Team prevOwner = board.owner(cellNo);
+                int oldId = board.tokenId(cellNo);
+
+                // 다음 단어를 뽑아서 교체
+                int newId = wordPool.nextToken(oldId);
+
+                // 인덱스 업데이트
+                index.remove(opponent, oldId, cellNo);
+                index.add(myTeam, newId, cellNo);
+
+                // 상태 반영
+                board.set(cellNo, myTeam, newId);
+                results.add(new FlipResult(p, prevOwner, myTeam, dict.text(oldId), dict.text(newId)));
+
+                if(myTeam == Team.YELLOW) {
+                    yellowCount += 100;
+                    yellowFlips++;
+                }
+                else {
+                    blueCount += 100;
+                    blueFlips++;
+                }
+                flipped++;
+            }
 
-        Team opponent = myTeam.opponent();
-        List<Pos> targets = index.positionsOf(opponent, rawInput);
-        if (targets.isEmpty()) return results;
+            return results;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        int flipped = 0;
-        for (Pos p : targets) {
-            if (flipped >= maxFlipPerInput) break;
+    /**
+     * 서버가 판정한 뒤집기 결과를 그대로 반영 (서버 판정 모드 클라이언트).
+     * - 직접 단어를 뽑지 않으므로 WordPool이 필요 없고, 점수는 서버 값으로 맞춘다.
+     * - 반환값은 화면 애니메이션용으로 flipByInput과 같은 형태.
+     */
+    public List<FlipResult> applyFlips(Team team, List<NetworkProtocol.CellFlip> flips, int yellowScore, int blueScore) {
+        lock.lock();
+        try {
+            TokenDictionary dict = board.dictionary();
+            List<FlipResult> results = new ArrayList<>(flips.size());
+            int cols = board.cols();
+            for (NetworkProtocol.CellFlip f : flips) {
+                int cellNo = f.cell();
+                if (cellNo < 0 || cellNo >= board.size() || f.owner() == null) continue;
+
+                Team prevOwner = board.owner(cellNo);
+                int oldId = board.tokenId(cellNo);
+                int newId = dict.intern(f.token());
+
+                if (prevOwner != null) index.remove(prevOwner, oldId, cellNo);
+                index.add(f.owner(), newId, cellNo);
+                board.set(cellNo, f.owner(), newId);
+                results.add(new FlipResult(new Pos(cellNo / cols, cellNo % cols), prevOwner, f.owner(), dict.text(oldId), dict.text(newId)));
+            }
 
-            Cell cell = board.get(p.r(), p.c());
-            Team prevOwner = cell.owner();
-            String oldToken = cell.token();
+            if (team == Team.YELLOW) yellowFlips += results.size();
+            else blueFlips += results.size();
+            yellowCount = yellowScore;
+            blueCount = blueScore;
+            return results;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            // 다음 단어를 뽑아서 교체
-            String newToken = wordPool.nextToken(oldToken);
+    /** 보드 해시 (서버가 보내는 검증 값과 비교용) */
+    public long boardHash() {
+        lock.lock();
+        try { return board.hash(); } finally { lock.unlock(); }
+    }
 
-            // 인덱스 업데이트
-            index.remove(opponent, oldToken, p);
-            index.add(myTeam, newToken, p);
+    /** 단어 공급기의 다음 단어 위치 (WordPool이 없으면 0) */
+    public int wordCursor() {
+        lock.lock();
+        try { return wordPool == null ? 0 : wordPool.position(); } finally { lock.unlock(); }
+    }
 
-            // 상태 반영
-            cell.setOwner(myTeam);
-            cell.setToken(newToken);
-            results.add(new FlipResult(p, prevOwner, myTeam, oldToken, newToken));
+    /** 단어 공급 순서 (경기 기록용, WordPool이 없으면 빈 목록) */
+    public List<String> wordOrder() {
+        lock.lock();
+        try { return wordPool == null ? List.of() : wordPool.words(board.dictionary()); } finally { lock.unlock(); }
+    }
 
-            if(myTeam == Team.YELLOW) {
-                yellowCount += 100;
-                yellowFlips++;
+    /**
+     * 서버가 보낸 전체 상태로 덮어쓰기 (재동기화).
+     * - 칸은 내 사전에 다시 등록해 옮기고, 인덱스는 새로 만든다. (버킷이 칸 번호 순이라 서버와 같은 순서가 된다)
+     */
+    public void applyResync(Board source, int yellowScore, int blueScore, int yellowFlips, int blueFlips, int wordCursor) {
+        lock.lock();
+        try {
+            if (source.rows() != board.rows() || source.cols() != board.cols()) {
+                throw new IllegalArgumentException("보드 크기가 다릅니다: " + source.rows() + "x" + source.cols());
             }
-            else {
-                blueCount += 100;
-                blueFlips++;
+            TokenDictionary dict = board.dictionary();
+            index.clear();
+            for (int cellNo = 0; cellNo < board.size(); cellNo++) {
+                Team owner = source.owner(cellNo);
+                int id = dict.intern(source.token(cellNo));
+                board.set(cellNo, owner, id);
+                if (owner != null) index.add(owner, id, cellNo);
             }
-            flipped++;
+            this.yellowCount = yellowScore;
+            this.blueCount = blueScore;
+            this.yellowFlips = yellowFlips;
+            this.blueFlips = blueFlips;
+            if (wordPool != null) wordPool.seek(wordCursor);
+        } finally {
+            lock.unlock();
         }
-
-        return results;
     }
 
     public static record FlipResult(Pos pos, Team from, Team to, String fromToken, String toToken) {}
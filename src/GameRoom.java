@@ -1,192 +1,320 @@
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 /**
  * 서버 측에서 개별 게임방의 상태를 관리하는 클래스
+ * - 팀당 teamSize명까지 (1대1, 4대4, 8대8). 한 보드를 양 팀이 함께 쓰고, 같은 팀은 여러 명이 동시에 입력한다.
+ * - 방 전체 전송은 SharedFrame으로 코덱별 한 번만 인코딩해 모든 참여자 송신 큐에 같은 프레임을 넣는다.
+ * - 방은 액터다: 입장/퇴장, 준비, 시작, 입력, 틱, 보너스 마감은 모두 우편함(Mailbox)에 이벤트로 넣고,
+ *   공용 실행기에서 한 번에 하나씩 넣은 순서대로 처리한다. 방 상태는 그 "방 스레드"만 만지므로 잠금이 없다.
+ *   (public 요청 메서드는 이벤트를 넣고 바로 반환. 결과/실패는 방 스레드가 메시지로 보낸다)
+ * - 다른 스레드가 읽는 방 정보(로비 목록, 인원, 게임 중 여부)는 방 스레드가 바뀔 때마다 새로 만든 RoomInfo 하나로 공개한다.
+ * - 틱/보너스 마감은 서버 공용 RoomScheduler에 등록하고, 만기가 되면 우편함에 이벤트를 넣는다.
+ * - 입력 결과 전달은 flipSync에 따른다: SERVER면 서버 계산 결과(Msg_S2C_FlipResult), LOCKSTEP이면 입력 중계.
+ * - checksumTicks 틱마다 보드 해시를 보내고, 어긋난 클라이언트가 요청하면 전체 상태를 보내 준다.
+ * - 관전자는 참여자 명단에 넣지 않는다. 게임 진행 메시지만 같은 SharedFrame 그대로 SpectatorFeed에 넘기고,
+ *   관전자 송신은 피드가 따로 한다 (관전자가 많거나 느려도 방 브로드캐스트 비용은 그대로).
+ * - 게임마다 시작 상태와 받아들인 입력/보너스 결과를 MatchLog에 남긴다 (MatchReplay로 다시 돌려 볼 수 있다).
  */
 public class GameRoom {
-    
+
     private final String roomName;
     private final String password;
     private final GameModel gameModel;
     private final GameServer server;
     private final SentencePool sentencePool;
-    private final int maxPlayers = 2;
-
-    private ClientHandler playerYellow;
-    private ClientHandler playerBlue;
+    private final RoomScheduler scheduler;
+    private final ServerConfig.FlipSync flipSync;
+    private final int checksumTicks;
+    private final int teamSize;
+    private final int maxPlayers;
+    private final int maxSpectators;
+    private final SpectatorFeed feed;
+    private final Mailbox mailbox;
+
+    // --- 여기부터 방 스레드(우편함 처리) 전용 ---
+
+    // 참여자 → 팀 (들어온 순서 유지: 목록 표시/방장 위임 순서)
+    private final Map<ClientHandler, Team> members = new LinkedHashMap<>();
+    // 전송용 명단 (인원이 바뀔 때만 새로 만든다)
+    private ClientHandler[] roster = new ClientHandler[0];
     private ClientHandler owner; // 방장
-    private final java.util.Map<ClientHandler, Boolean> readyStates = new java.util.HashMap<>();
-    
+    private final Map<ClientHandler, Boolean> readyStates = new HashMap<>();
+
     private boolean isPlaying = false;
-    private Timer gameTimer;
+    private int gameSeq = 0; // 게임마다 1씩 증가 — 이전 게임의 타이머 이벤트가 늦게 도착하면 버린다
+    private RoomScheduler.Task gameTimer;
     private int initialGameTime;
+    private MatchLog.Recorder recorder; // 진행 중인 게임의 기록기
 
     private boolean isBonusTime = false;
     private boolean bonusTimeActivated = false;
-    private Timer bonusTimer;
-    private List<String> bonusSentences = Collections.synchronizedList(new ArrayList<>());
+    private RoomScheduler.Task bonusTimer;
+    private final List<String> bonusSentences = new ArrayList<>();
+
+    // 다른 스레드에 공개하는 방 정보 (방 스레드가 바뀔 때마다 통째로 교체)
+    private volatile NetworkProtocol.RoomInfo info;
 
-    public GameRoom(String roomName, String password, GameModel gameModel, GameServer server, SentencePool sentencePool) {
+    public GameRoom(String roomName, String password, int teamSize, GameModel gameModel, GameServer server, SentencePool sentencePool,
+                    RoomScheduler scheduler, ServerConfig.FlipSync flipSync, int checksumTicks, int maxSpectators) {
         this.roomName = roomName;
         this.password = password;
+        this.teamSize = teamSize;
+        this.maxPlayers = teamSize * 2;
         this.gameModel = gameModel;
         this.server = server;
         this.sentencePool = sentencePool;
+        this.scheduler = scheduler;
+        this.flipSync = flipSync;
+        this.checksumTicks = checksumTicks;
+        this.maxSpectators = maxSpectators;
+        this.feed = new SpectatorFeed(this, scheduler);
+        this.mailbox = new Mailbox(roomName, scheduler.executor(), true);
+        publishInfo();
     }
 
     public String getRoomName() { return roomName; }
     public String getPassword() { return password; }
 
-    /** 플레이어를 방에 추가 (방장 포함 참여) */
-    public synchronized boolean addPlayer(ClientHandler player, Team team) {
-        if (team == Team.YELLOW && playerYellow == null) {
-            playerYellow = player;
-            player.setCurrentRoom(this);
-            if (owner == null) owner = player;
-            readyStates.put(player, false);
-            return true;
-        } else if (team == Team.BLUE && playerBlue == null) {
-            playerBlue = player;
-            player.setCurrentRoom(this);
-            if (owner == null) owner = player;
-            readyStates.put(player, false);
-            return true;
+    /** 방 이벤트로 실행 (다른 스레드에서 방 상태를 바꿀 때는 항상 이것을 거친다) */
+    void post(Runnable event) {
+        mailbox.execute(event);
+    }
+
+    /** 처리 대기 중인 방 이벤트 수 (서버 통계용) */
+    public int pendingEvents() {
+        return mailbox.pending();
+    }
+
+    /**
+     * 방 생성: 방장 입장을 첫 이벤트로 넣어 두고 서버 방 목록에 등록(register)한 뒤 우편함을 연다.
+     * 등록 직후 들어온 참여 요청은 방장 입장 뒤에 처리되므로 방장보다 먼저 들어오지 못한다.
+     * @return 같은 이름의 방이 이미 있어 등록하지 못했으면 false (이 방은 버린다)
+     */
+    public boolean open(ClientHandler creator, Team team, BooleanSupplier register) {
+        post(() -> {
+            addPlayer(creator, team);
+            creator.sendMessage(new NetworkProtocol.Msg_S2C_EnterWaitingRoom(info, snapshotPlayers(), team));
+            server.roomChanged(this);
+        });
+        if (!register.getAsBoolean()) return false;
+        mailbox.start();
+        return true;
+    }
+
+    /**
+     * 참여: 자리가 있는 팀에 넣고 대기방 입장 메시지와 명단을 보낸다.
+     * 자리가 없거나 게임 중이거나 비어서 없어지는 방이면 실패 메시지를 보낸다.
+     */
+    public void join(ClientHandler player) {
+        post(() -> {
+            Team team = members.isEmpty() ? null : openTeam(); // 비었으면 마지막 참여자가 나가 제거된 방
+            if (team == null || !addPlayer(player, team)) {
+                player.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("참여할 자리가 없거나 입장에 실패했습니다."));
+                return;
+            }
+            System.out.println("서버: " + player.getNickname() + "이(가) 방 [" + roomName + "]에 " + team + "팀으로 참여.");
+            player.sendMessage(new NetworkProtocol.Msg_S2C_EnterWaitingRoom(info, snapshotPlayers(), team));
+            broadcastPlayerList();
+            server.roomChanged(this);
+        });
+    }
+
+    /** 플레이어를 방에 추가 (방장 포함 참여). 게임 중이거나 그 팀이 찼으면 false (방 스레드) */
+    private boolean addPlayer(ClientHandler player, Team team) {
+        if (isPlaying || members.containsKey(player) || teamCount(team) >= teamSize) {
+            return false;
         }
-        return false; // 해당 팀이 찼음
+        members.put(player, team);
+        roster = members.keySet().toArray(new ClientHandler[0]);
+        player.setCurrentRoom(this);
+        if (owner == null) owner = player;
+        readyStates.put(player, false);
+        publishInfo();
+        return true;
     }
-    
+
     /** 플레이어가 방에서 나갈 때 */
-    public synchronized void removePlayer(ClientHandler player) {
-        ClientHandler opponent = null;
-        if (player == playerYellow) {
-            playerYellow = null;
-            opponent = playerBlue;
-        } else if (player == playerBlue) {
-            playerBlue = null;
-            opponent = playerYellow;
-        }
-        
-        player.setCurrentRoom(null); // 플레이어의 방 정보 초기화
-        readyStates.remove(player);
+    public void removePlayer(ClientHandler player) {
+        post(() -> {
+            Team team = members.remove(player);
+            if (team == null) return; // 이미 나간 참여자 (퇴장과 연결 끊김이 겹친 경우)
+            roster = members.keySet().toArray(new ClientHandler[0]);
 
-        if (owner == player) {
-            owner = opponent; // 남아있는 플레이어에게 방장 위임
-        }
+            player.clearCurrentRoom(this); // 그새 다른 방에 들어갔으면 그대로 둔다
+            readyStates.remove(player);
 
-        if (isPlaying && opponent != null) {
-            // 게임 중에 한명이 퇴장
-            opponent.sendMessage(new NetworkProtocol.Msg_S2C_OpponentLeft());
-            stopGame(); // 타이머 중단
-        } else if (!isPlaying) {
-            broadcastPlayerList(); // 대기방이면 목록 갱신
-        }
-        
-        // 방이 비었으면 서버에서 제거
-        if (playerYellow == null && playerBlue == null) {
-            System.out.println("서버: 방[" + roomName + "]이 비어 제거됩니다.");
-            server.removeRoom(this);
-        } else {
-            server.broadcastRoomUpdated(this);
-        }
+            if (owner == player) {
+                owner = members.isEmpty() ? null : roster[0]; // 남아있는 플레이어에게 방장 위임
+            }
+            publishInfo();
+
+            if (isPlaying) {
+                // 게임 중에 한 팀이 모두 퇴장하면 중단 (같은 팀이 남아 있으면 계속)
+                if (teamCount(team) == 0) {
+                    if (!members.isEmpty()) broadcast(new NetworkProtocol.Msg_S2C_OpponentLeft());
+                    stopGame(); // 타이머 중단
+                }
+            } else {
+                broadcastPlayerList(); // 대기방이면 목록 갱신
+            }
+
+            // 방이 비었으면 서버에서 제거 (관전자는 로비로)
+            if (members.isEmpty()) {
+                System.out.println("서버: 방[" + roomName + "]이 비어 제거됩니다.");
+                feed.closeAll(spectator -> {
+                    spectator.clearSpectating(this);
+                    spectator.sendMessage(new NetworkProtocol.Msg_S2C_ReturnToLobby());
+                });
+                server.removeRoom(this);
+            } else {
+                server.roomChanged(this);
+            }
+        });
     }
 
     /** 방이 꽉 찼는지 확인 */
-    public synchronized boolean isFull() {
-        return playerYellow != null && playerBlue != null;
-    }
-    
-    /** 반대 팀 자리 반환 */
-    public synchronized Team getOppositeTeam(Team team) {
-        if (team == Team.YELLOW) {
-            return (playerBlue == null) ? Team.BLUE : null; // 파랑팀이 비었으면 파랑팀 반환
-        } else {
-            return (playerYellow == null) ? Team.YELLOW : null; // 노랑팀이 비었으면 노랑팀 반환
-        }
+    public boolean isFull() {
+        NetworkProtocol.RoomInfo i = info;
+        return i.currentPlayers() >= i.maxPlayers();
     }
 
-    /** 현재 인원 반환 */
-    public synchronized int getPlayerCount() {
+    /** 새 참여자가 들어갈 팀: 인원이 적은 팀 (같으면 노랑팀), 모두 찼으면 null (방 스레드) */
+    private Team openTeam() {
+        int yellow = teamCount(Team.YELLOW);
+        int blue = teamCount(Team.BLUE);
+        if (yellow >= teamSize && blue >= teamSize) return null;
+        if (yellow >= teamSize) return Team.BLUE;
+        if (blue >= teamSize) return Team.YELLOW;
+        return (yellow <= blue) ? Team.YELLOW : Team.BLUE;
+    }
+
+    /** 게임 시작 후 지난 초 (경기 기록의 틱) */
+    private int elapsedTicks() {
+        return initialGameTime - gameModel.secondsLeft();
+    }
+
+    /** 팀 인원 (방 스레드) */
+    private int teamCount(Team team) {
         int cnt = 0;
-        if (playerYellow != null) cnt++;
-        if (playerBlue != null) cnt++;
+        for (Team t : members.values()) {
+            if (t == team) cnt++;
+        }
         return cnt;
     }
 
-    public synchronized boolean isPlaying() {
-        return isPlaying;
+    /** 현재 인원 반환 */
+    public int getPlayerCount() {
+        return info.currentPlayers();
+    }
+
+    public boolean isPlaying() {
+        return info.playing();
     }
 
-    public synchronized NetworkProtocol.RoomInfo toRoomInfo() {
-        return new NetworkProtocol.RoomInfo(roomName, gameModel.secondsLeft(), getPlayerCount(), maxPlayers, isPlaying);
+    /** 로비에 보일 방 정보 (마지막으로 공개한 것 — 어느 스레드에서나 잠금 없이) */
+    public NetworkProtocol.RoomInfo toRoomInfo() {
+        return info;
     }
 
-    public synchronized java.util.List<NetworkProtocol.PlayerInfo> snapshotPlayers() {
-        ArrayList<NetworkProtocol.PlayerInfo> list = new ArrayList<>();
-        if (playerYellow != null) list.add(new NetworkProtocol.PlayerInfo(playerYellow.getNickname(), Team.YELLOW, readyStates.getOrDefault(playerYellow, false), owner == playerYellow));
-        if (playerBlue != null) list.add(new NetworkProtocol.PlayerInfo(playerBlue.getNickname(), Team.BLUE, readyStates.getOrDefault(playerBlue, false), owner == playerBlue));
+    /** 방 정보 다시 공개 (방 스레드에서 인원/진행 상태/남은 시간이 바뀔 때) */
+    private void publishInfo() {
+        info = new NetworkProtocol.RoomInfo(roomName, gameModel.secondsLeft(), members.size(), maxPlayers, isPlaying);
+    }
+
+    /** 참여자 목록 (방 스레드) */
+    private List<NetworkProtocol.PlayerInfo> snapshotPlayers() {
+        ArrayList<NetworkProtocol.PlayerInfo> list = new ArrayList<>(members.size());
+        for (Map.Entry<ClientHandler, Team> e : members.entrySet()) {
+            ClientHandler p = e.getKey();
+            list.add(new NetworkProtocol.PlayerInfo(p.getNickname(), e.getValue(), readyStates.getOrDefault(p, false), owner == p));
+        }
         return list;
     }
-    
-    /** 2명이 모여 게임 시작 */
-    public synchronized void startGameBy(ClientHandler requester) {
-        if (!isFull() || isPlaying) return;
+
+    /** 방장이 게임 시작 (양 팀에 한 명 이상, 모두 준비) */
+    public void startGameBy(ClientHandler requester) {
+        post(() -> startGame(requester));
+    }
+
+    private void startGame(ClientHandler requester) {
+        if (isPlaying || !members.containsKey(requester)) return;
         if (owner != null && requester != owner) {
             requester.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("방장만 게임을 시작할 수 있습니다."));
             return;
         }
-        // 두 명 모두 준비 상태인지 확인
-        if (!readyStates.getOrDefault(playerYellow, false) || !readyStates.getOrDefault(playerBlue, false)) {
-            requester.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("두 플레이어 모두 준비해야 시작할 수 있습니다."));
+        if (teamCount(Team.YELLOW) == 0 || teamCount(Team.BLUE) == 0) {
+            requester.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("양 팀에 한 명 이상 있어야 시작할 수 있습니다."));
             return;
         }
-        
+        // 모두 준비 상태인지 확인
+        for (ClientHandler p : roster) {
+            if (!readyStates.getOrDefault(p, false)) {
+                requester.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("모든 플레이어가 준비해야 시작할 수 있습니다."));
+                return;
+            }
+        }
+
         isPlaying = true;
         bonusTimeActivated = false;
         this.initialGameTime = gameModel.secondsLeft(); //초기 게임 시간 저장
+        publishInfo();
         System.out.println("서버: 방[" + roomName + "] 게임 시작.");
+        recorder = server.matchLog().begin(roomName, teamSize, flipSync, gameModel, initialGameTime);
 
-        // 양쪽 클라이언트에게 게임 시작 알림 송신
+        // 모든 참여자에게 게임 시작 알림 송신 (보드가 커서 팀별로 한 번씩만 인코딩)
         Board board = gameModel.board();
-        
-        playerYellow.sendMessage(new NetworkProtocol.Msg_S2C_GameStart(Team.YELLOW, board, initialGameTime));
-        playerBlue.sendMessage(new NetworkProtocol.Msg_S2C_GameStart(Team.BLUE, board, initialGameTime));
-
-        // 서버 타이머 시작
-        gameTimer = new Timer();
-        gameTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                synchronized(GameRoom.this){
-                    if(!isPlaying){
-                        this.cancel();
-                        return;
-                    }
-                }
-                gameModel.tickOneSecond();
-                broadcast(new NetworkProtocol.Msg_S2C_Tick());
 
-                if(!isBonusTime && !bonusTimeActivated && gameModel.secondsLeft() > 0 && gameModel.secondsLeft() <= initialGameTime /2){
-                    bonusTimeActivated = true;
-                    startBonusTime();
-                }
-                if (gameModel.secondsLeft() <= 0) {
-                    stopGame(); // 시간 종료
-                }
-            }
-        }, 1000, 1000);
+        boolean serverFlips = (flipSync == ServerConfig.FlipSync.SERVER);
+        SharedFrame yellowStart = new SharedFrame(new NetworkProtocol.Msg_S2C_GameStart(Team.YELLOW, board, initialGameTime, serverFlips));
+        SharedFrame blueStart = new SharedFrame(new NetworkProtocol.Msg_S2C_GameStart(Team.BLUE, board, initialGameTime, serverFlips));
+        for (Map.Entry<ClientHandler, Team> e : members.entrySet()) {
+            e.getKey().sendShared(e.getValue() == Team.YELLOW ? yellowStart : blueStart);
+        }
+        // 관전자용 (팀 없음, 항상 판정 결과를 받음). 피드가 나중에 보내므로 보드가 바뀌기 전에 지금 인코딩해 둔다.
+        SharedFrame spectatorStart = new SharedFrame(new NetworkProtocol.Msg_S2C_GameStart(null, board, initialGameTime, true));
+        try {
+            for (MessageCodec codec : MessageCodec.ALL) spectatorStart.frameFor(codec);
+            feed.publish(spectatorStart);
+        } catch (java.io.IOException e) {
+            System.err.println("서버: 방[" + roomName + "] 관전용 게임 시작 인코딩 오류 - " + e.getMessage());
+        }
+
+        // 서버 타이머 시작 (만기가 되면 틱 이벤트를 우편함에 넣는다)
+        int game = ++gameSeq;
+        gameTimer = scheduler.scheduleAtFixedRate(() -> post(() -> onTick(game)), 1000, 1000);
 
-        server.broadcastRoomUpdated(this);
+        server.roomChanged(this);
     }
-    
-    /** 게임 중단 (시간 종료 또는 플레이어 이탈) */
-    public synchronized void stopGame() {
+
+    /** 1초 틱 (방 스레드) */
+    private void onTick(int game) {
+        if (!isPlaying || game != gameSeq) return; // 끝난 게임의 늦은 틱
+        gameModel.tickOneSecond();
+        publishInfo();
+        broadcast(new NetworkProtocol.Msg_S2C_Tick(gameModel.secondsLeft()));
+        if (checksumTicks > 0 && (initialGameTime - gameModel.secondsLeft()) % checksumTicks == 0) {
+            broadcastChecksum();
+        }
+
+        if(!isBonusTime && !bonusTimeActivated && gameModel.secondsLeft() > 0 && gameModel.secondsLeft() <= initialGameTime /2){
+            bonusTimeActivated = true;
+            startBonusTime();
+        }
+        if (gameModel.secondsLeft() <= 0) {
+            stopGame(); // 시간 종료
+        }
+    }
+
+    /** 게임 중단 (시간 종료 또는 플레이어 이탈, 방 스레드) */
+    private void stopGame() {
         if (!isPlaying) return;
-        
+
         isPlaying = false;
         if (gameTimer != null) {
             gameTimer.cancel();
@@ -195,80 +323,195 @@ public class GameRoom {
         if(isBonusTime){
             endBonusTime();
         }
+        publishInfo();
         System.out.println("서버: 방[" + roomName + "] 게임 종료.");
+        recorder.end(elapsedTicks(), gameModel.getScore(Team.YELLOW), gameModel.getScore(Team.BLUE));
+        recorder = null;
 
-        ArrayList<ClientHandler> playersToReset = new ArrayList<>(readyStates.keySet());
-        for(ClientHandler player : playersToReset) {
+        for (ClientHandler player : roster) {
             readyStates.put(player, false);
         }
         broadcast(new NetworkProtocol.Msg_S2C_GameOver());
         broadcastPlayerList();
-        server.broadcastRoomUpdated(this);
+        server.roomChanged(this);
     }
 
-    /** 방에 있는 모든 플레이어에게 메시지 브로드캐스트 */
-    public synchronized void broadcast(Serializable message) {
-        if (playerYellow != null) {
-            playerYellow.sendMessage(message);
-        }
-        if (playerBlue != null) {
-            playerBlue.sendMessage(message);
+    /** 방에 있는 모든 플레이어에게 메시지 브로드캐스트 (코덱별 한 번만 인코딩, 게임 진행 메시지는 관전자에게도. 방 스레드) */
+    void broadcast(Serializable message) {
+        ClientHandler[] targets = roster;
+        if (targets.length == 0) return;
+        SharedFrame shared = new SharedFrame(message);
+        for (ClientHandler p : targets) {
+            p.sendShared(shared);
         }
+        if (forSpectators(message)) feed.publish(shared);
     }
 
-    /** 대기방 플레이어 목록 브로드캐스트 */
-    public synchronized void broadcastPlayerList() {
-        var msg = new NetworkProtocol.Msg_S2C_PlayerListUpdated(snapshotPlayers());
-        broadcast(msg);
+    /**
+     * 관전자에게 넘길 메시지: 관전 화면이 쓰는 게임 진행 메시지만.
+     * - 보드 해시/입력 중계는 참여자 모델용이고, 상대 퇴장은 참여자 기준 안내라 넘기지 않는다.
+     * - 판정 결과/보너스 결과에는 보드 참조가 없어 피드가 나중에 인코딩해도 내용이 같다.
+     */
+    private static boolean forSpectators(Serializable message) {
+        return message instanceof NetworkProtocol.Msg_S2C_Tick
+                || message instanceof NetworkProtocol.Msg_S2C_FlipResult
+                || message instanceof NetworkProtocol.Msg_S2C_GameOver
+                || message instanceof NetworkProtocol.Msg_S2C_BonusTimeStart
+                || message instanceof NetworkProtocol.Msg_S2C_BonusSentenceResult
+                || message instanceof NetworkProtocol.Msg_S2C_BonusTimeEnd;
+    }
+
+    /** 대기방 플레이어 목록 브로드캐스트 (방 스레드) */
+    private void broadcastPlayerList() {
+        broadcast(new NetworkProtocol.Msg_S2C_PlayerListUpdated(snapshotPlayers()));
     }
 
     /** 준비 상태 변경 */
-    public synchronized void setReady(ClientHandler player, boolean ready) {
-        if (!readyStates.containsKey(player)) return;
-        readyStates.put(player, ready);
-        broadcastPlayerList();
+    public void setReady(ClientHandler player, boolean ready) {
+        post(() -> {
+            if (!readyStates.containsKey(player)) return;
+            readyStates.put(player, ready);
+            broadcastPlayerList();
+        });
     }
-    
-    /** 클라이언트의 입력 요청 처리 */
-    public synchronized void handleInput(ClientHandler player, Team team, String input) {
-        if (!isPlaying || isBonusTime) return;
-        
+
+    /** 클라이언트의 입력 요청 처리 (팀은 방 명단에서 찾는다) */
+    public void handleInput(ClientHandler player, String input) {
+        post(() -> onInput(player, input));
+    }
+
+    private void onInput(ClientHandler player, String input) {
+        Team team = members.get(player);
+        if (!isPlaying || isBonusTime || team == null) return;
+
         // (중요) 서버의 GameModel을 먼저 업데이트
         var flips = gameModel.flipByInput(team, input);
-        
-        // (중요) 입력이 유효했는지(0) 여부와 관계없어도
-        // 모든 클라이언트에 동일한 입력을 처리하도록 브로드캐스트 (Lock-step)
-        // (만약 최적화한다면 flipped > 0 일때만 보내도 됨)
-        broadcast(new NetworkProtocol.Msg_S2C_BroadcastInput(team, input));
+        recorder.input(elapsedTicks(), team, input, flips.size());
+
+        if (flipSync == ServerConfig.FlipSync.LOCKSTEP) {
+            // 입력이 유효했는지(0) 여부와 관계없이
+            // 모든 클라이언트에 동일한 입력을 처리하도록 브로드캐스트 (Lock-step)
+            broadcast(new NetworkProtocol.Msg_S2C_BroadcastInput(team, input));
+            // 관전자는 모델 없이 보므로 맞힌 입력만 판정 결과로 보낸다
+            if (!flips.isEmpty() && feed.size() > 0) {
+                feed.publish(new SharedFrame(flipResult(team, input, flips)));
+            }
+            return;
+        }
+
+        // 서버 판정: 계산 결과만 보낸다. 빗나간 입력은 보낸 사람에게만 (입력창 처리용)
+        var result = flipResult(team, input, flips);
+        if (flips.isEmpty()) {
+            player.sendMessage(result);
+        } else {
+            broadcast(result);
+        }
+    }
+
+    private NetworkProtocol.Msg_S2C_FlipResult flipResult(Team team, String input, List<GameModel.FlipResult> flips) {
+        int cols = gameModel.board().cols();
+        List<NetworkProtocol.CellFlip> cells = new ArrayList<>(flips.size());
+        for (GameModel.FlipResult f : flips) {
+            cells.add(new NetworkProtocol.CellFlip(f.pos().r() * cols + f.pos().c(), f.to(), f.toToken()));
+        }
+        return new NetworkProtocol.Msg_S2C_FlipResult(team, input, cells,
+                gameModel.getScore(Team.YELLOW), gameModel.getScore(Team.BLUE));
+    }
+
+    /**
+     * 보드 해시 브로드캐스트
+     * - 입력 결과와 같은 방 스레드에서 보내므로, 클라이언트는 그 앞의 결과를 모두 반영한 뒤에 이 해시를 받는다.
+     */
+    private void broadcastChecksum() {
+        if (!isPlaying) return;
+        var check = new NetworkProtocol.Msg_S2C_BoardHash(gameModel.boardHash(),
+                gameModel.getScore(Team.YELLOW), gameModel.getScore(Team.BLUE));
+        recorder.checkpoint(elapsedTicks(), check.hash(), check.yellowScore(), check.blueScore());
+        broadcast(check);
+    }
+
+    /** 해시가 어긋난 클라이언트에게 현재 보드 전체를 보냄 */
+    public void handleResyncRequest(ClientHandler player) {
+        post(() -> {
+            if (!isPlaying || !members.containsKey(player)) return;
+            System.out.println("서버: 방[" + roomName + "] " + player.getNickname() + " 보드 재동기화");
+            player.sendMessage(new NetworkProtocol.Msg_S2C_BoardResync(gameModel.board(),
+                    gameModel.getScore(Team.YELLOW), gameModel.getScore(Team.BLUE),
+                    gameModel.getFlips(Team.YELLOW), gameModel.getFlips(Team.BLUE), gameModel.wordCursor()));
+        });
+    }
+
+    //=== 관전
+
+    /** 관전자 추가: 현재 상태 스냅샷을 보내고, 이후 게임 진행 메시지는 피드로 받는다. 방이 없어졌거나 자리가 없으면 실패 메시지 */
+    public void addSpectator(ClientHandler client) {
+        post(() -> {
+            if (members.isEmpty() || feed.size() >= maxSpectators) {
+                client.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("관전할 수 없는 방입니다. (관전자 가득 참)"));
+                return;
+            }
+            client.setSpectating(this);
+            client.sendMessage(spectateSnapshot());
+            feed.add(client);
+            System.out.println("서버: 방[" + roomName + "] " + client.getNickname() + " 관전 시작 (관전자 " + feed.size() + "명)");
+        });
+    }
+
+    public void removeSpectator(ClientHandler client) {
+        client.clearSpectating(this);
+        if (feed.remove(client)) {
+            System.out.println("서버: 방[" + roomName + "] " + client.getNickname() + " 관전 종료");
+        }
+    }
+
+    /**
+     * 송출이 밀려 이벤트를 놓친 관전자에게 최신 스냅샷을 보낸다 (SpectatorFeed 펌프가 요청).
+     * 스냅샷 다음 이벤트의 순번을 피드에 알려 그 관전자의 커서를 옮긴다.
+     */
+    void resendSpectatorSnapshot(ClientHandler client, long missed) {
+        post(() -> {
+            if (client.getSpectating() == this) {
+                System.out.println("서버: 방[" + roomName + "] 관전자 " + client.getNickname() + " 송출 지연 - 이벤트 " + missed
+                        + "개 대신 스냅샷 전송");
+                client.sendMessage(spectateSnapshot());
+            }
+            feed.resumeAt(client, feed.head());
+        });
+    }
+
+    /** 관전 스냅샷 (방 스레드 — 바로 인코딩되므로 보드가 이후에 바뀌어도 안전) */
+    private NetworkProtocol.Msg_S2C_SpectateSnapshot spectateSnapshot() {
+        return new NetworkProtocol.Msg_S2C_SpectateSnapshot(info, snapshotPlayers(),
+                isPlaying ? gameModel.board() : null, gameModel.secondsLeft(),
+                gameModel.getScore(Team.YELLOW), gameModel.getScore(Team.BLUE),
+                gameModel.getFlips(Team.YELLOW), gameModel.getFlips(Team.BLUE));
     }
 
     /** 대기방 채팅 브로드캐스트 */
-    public synchronized void broadcastWaitingChat(String sender, String text) {
-        broadcast(new NetworkProtocol.Msg_S2C_WaitingChat(sender, text));
+    public void broadcastWaitingChat(String sender, String text) {
+        post(() -> broadcast(new NetworkProtocol.Msg_S2C_WaitingChat(sender, text)));
     }
 
 
-    //=== 보너스 타임 관련 메서드
-    public synchronized void startBonusTime(){
+    //=== 보너스 타임 관련 메서드 (방 스레드)
+    private void startBonusTime(){
         if(isBonusTime || !isPlaying) return;
         isBonusTime = true;
         bonusSentences.clear();
         bonusSentences.addAll(sentencePool.getRandomSentences(5));
 
         System.out.println("서버: 방[" + roomName + "] 보너스 타임 시작!");
+        recorder.bonusStart(elapsedTicks(), bonusSentences);
         broadcast(new NetworkProtocol.Msg_S2C_BonusTimeStart(new ArrayList<>(bonusSentences)));
 
         //20초 후 보너스 타임 종료
-        bonusTimer = new Timer();
-        bonusTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                endBonusTime();
-            }
-        }, 20000);
+        int game = gameSeq;
+        bonusTimer = scheduler.schedule(() -> post(() -> {
+            if (game == gameSeq) endBonusTime();
+        }), 20000);
     }
 
-    public synchronized void endBonusTime(){
+    private void endBonusTime(){
         if(!isBonusTime) return;
         if(bonusTimer != null){
             bonusTimer.cancel();
@@ -278,21 +521,26 @@ public class GameRoom {
         bonusSentences.clear();
 
         System.out.println("서버: 방[" + roomName + "] 보너스 타임 종료!");
+        recorder.bonusEnd(elapsedTicks());
         broadcast(new NetworkProtocol.Msg_S2C_BonusTimeEnd());
     }
 
-    public synchronized void handleSentenceInput(ClientHandler player, Team team, String sentence){
-        if(!isBonusTime || !isPlaying) return;
+    public void handleSentenceInput(ClientHandler player, String sentence){
+        post(() -> {
+            Team team = members.get(player);
+            if(!isBonusTime || !isPlaying || team == null) return;
 
-        boolean success = false;
+            boolean success = false;
 
-        if(bonusSentences.remove(sentence)){
-            gameModel.addScore(team,500);
-            success = true;
-            System.out.println("서버: 방[" + roomName + "] " + team + "팀이 문장 맞춤! +500점");
-        }
+            if(bonusSentences.remove(sentence)){
+                gameModel.addScore(team, GameModel.BONUS_SENTENCE_SCORE);
+                success = true;
+                System.out.println("서버: 방[" + roomName + "] " + team + "팀이 문장 맞춤! +" + GameModel.BONUS_SENTENCE_SCORE + "점");
+            }
 
-        //모든 클라이언트에게 결과 브로드캐스트
-        broadcast(new NetworkProtocol.Msg_S2C_BonusSentenceResult(success,sentence,team));
+            recorder.bonusResult(elapsedTicks(), team, sentence, success);
+            //모든 클라이언트에게 결과 브로드캐스트
+            broadcast(new NetworkProtocol.Msg_S2C_BonusSentenceResult(success,sentence,team));
+        });
     }
 }
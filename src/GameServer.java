@@ -1,15 +1,18 @@
 import java.io.*;
 import java.net.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * 게임 서버 (간단 싱글 프로세스)
- * 1. 소켓 서버: 다수 클라이언트 연결을 받고, ClientHandler 스레드에 할당.
+ * 1. 소켓 서버: 다수 클라이언트 연결을 받고, ClientHandler에 할당.
+ *    (--transport=blocking: 연결당 스레드 / --transport=nio: 셀렉터 기반 NioServer)
  * 2. 방 관리: "activeRooms" 맵을 통해 여러 GameRoom 인스턴스를 관리.
+ *    (서버 전체 잠금 없음 — 이름은 putIfAbsent로 예약하고, 참여/퇴장은 각 방의 이벤트로 처리)
  * 3. 메시지 처리: 클라이언트의 방 생성/참여/대기/게임 요청을 처리.
  */
 public class GameServer {
@@ -17,28 +20,70 @@ public class GameServer {
     private static final int PORT = 12345;
     private static final int ROWS = 8;
     private static final int COLS = 12;
-
-    // 방 이름(String) -> GameRoom
-    private final Map<String, GameRoom> activeRooms = new ConcurrentHashMap<>();
-    // 로비에 있는 클라이언트 목록
-    private final Set<ClientHandler> lobbyClients = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private static final long STATS_INTERVAL_MS = 60_000;
+    // 방 만들 때 고를 수 있는 팀당 인원 (1대1, 4대4, 8대8)
+    static final List<Integer> TEAM_SIZES = List.of(1, 4, 8);
+
+    // 방 이름(String) -> GameRoom (이름 순 정렬 — 로비 페이지 조회 인덱스를 겸함)
+    private final ConcurrentNavigableMap<String, GameRoom> activeRooms = new ConcurrentSkipListMap<>();
+    // 접속 중인 모든 클라이언트 (송신 큐 지표 수집용)
+    private final Set<ClientHandler> connectedClients = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final AtomicLong slowConsumerDisconnects = new AtomicLong();
+    // 속도 제한으로 버린 수신 메시지 (ClientHandler.Inbound 종류별) 와 도배로 끊은 연결 수
+    private final AtomicLongArray rateLimited = new AtomicLongArray(ClientHandler.Inbound.values().length);
+    private final AtomicLong floodDisconnects = new AtomicLong();
 
     //보너스 타임 문장 풀
     private final SentencePool sentencePool;
 
+    private final ServerConfig config;
+    // 모든 방이 공유하는 틱/보너스 타이머
+    private final RoomScheduler roomScheduler;
+    // 로비 방 목록 구독 (변경분을 모아 주기적으로 델타 전송)
+    private final LobbyPublisher lobbyPublisher;
+    // 게임별 이벤트 기록 (기록 스레드 하나가 파일에 씀)
+    private final MatchLog matchLog;
+    // 방 생성용으로 미리 만들어 두는 보드
+    private final BoardTemplates boardTemplates;
+
     public GameServer(){
+        this(ServerConfig.defaults());
+    }
+
+    public GameServer(ServerConfig config){
+        this.config = config;
+        this.roomScheduler = RoomScheduler.forMode(config.threads());
+        this.roomScheduler.scheduleAtFixedRate(this::logServerStats, STATS_INTERVAL_MS, STATS_INTERVAL_MS);
+        this.lobbyPublisher = new LobbyPublisher(activeRooms, roomScheduler, config.lobbyFlushMs(), config.outboundCapacity());
         this.sentencePool = SentencePool.fromFile("resources/text.txt");
+        this.matchLog = new MatchLog(config.matchLogDir());
+        this.boardTemplates = new BoardTemplates(ROWS, COLS, config.boardPool());
     }
+
     public void start() {
+        if (config.transport() == ServerConfig.Transport.NIO) {
+            try {
+                new NioServer(PORT, config.ioThreads(), this).run();
+            } catch (IOException e) {
+                System.err.println("서버: 오류 발생 - " + e.getMessage());
+            }
+            return;
+        }
+
+        Thread.Builder handlerThreads = (config.threads() == ServerConfig.Threads.VIRTUAL)
+                ? Thread.ofVirtual().name("client-", 0)
+                : Thread.ofPlatform().name("client-", 0);
+
         try (ServerSocket serverSocket = new ServerSocket(PORT)) {
-            System.out.println("서버: " + PORT + " 포트에서 클라이언트 대기 중...");
+            System.out.println("서버: " + PORT + " 포트에서 클라이언트 대기 중... (" + config.threads() + " 스레드)");
 
             while (true) {
                 Socket socket = serverSocket.accept();
                 System.out.println("서버: 클라이언트 연결: " + socket.getRemoteSocketAddress());
                 
-                ClientHandler handler = new ClientHandler(socket, this);
-                new Thread(handler).start();
+                BlockingConnection conn = new BlockingConnection(socket, handlerThreads);
+                conn.attach(createHandler(conn));
+                handlerThreads.start(conn);
             }
 
         } catch (IOException e) {
@@ -46,268 +91,429 @@ public class GameServer {
         }
     }
 
+    // --- 연결 관리 ---
+
+    /** 전송 계층이 새 연결마다 호출 */
+    public ClientHandler createHandler(ClientConnection conn) {
+        ClientHandler handler = new ClientHandler(conn, this, config);
+        connectedClients.add(handler);
+        return handler;
+    }
+
+    public void onClientDisconnected(ClientHandler client) {
+        connectedClients.remove(client);
+        lobbyPublisher.unsubscribe(client);
+    }
+
+    /** 송신 큐가 넘쳐 연결을 끊은 횟수 집계 */
+    public void recordSlowConsumerDisconnect() {
+        slowConsumerDisconnects.incrementAndGet();
+    }
+
+    /** 속도 제한으로 버린 수신 메시지 집계 */
+    public void recordRateLimited(ClientHandler.Inbound kind) {
+        rateLimited.incrementAndGet(kind.ordinal());
+    }
+
+    /** 도배로 연결을 끊은 횟수 집계 */
+    public void recordFloodDisconnect() {
+        floodDisconnects.incrementAndGet();
+    }
+
     // --- 방 생성/참여/삭제 ---
 
     /** 클라이언트의 방 생성 요청 처리 */
-    public synchronized void handleCreateRoom(ClientHandler creator, String roomName, String password, int gameTimeSec, Team chosenTeam) {
-        if (activeRooms.containsKey(roomName)) {
+    public void handleCreateRoom(ClientHandler creator, String roomName, String password, int gameTimeSec, Team chosenTeam, int teamSize) {
+        if (!TEAM_SIZES.contains(teamSize)) {
+            creator.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("지원하지 않는 팀 인원입니다: " + teamSize));
+            return;
+        }
+        if (activeRooms.containsKey(roomName)) { // 보드를 꺼내기 전에 흔한 경우를 먼저 거름 (최종 확인은 putIfAbsent)
             creator.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("이미 존재하는 방 이름입니다."));
             return;
         }
 
         System.out.println("서버: " + creator.getNickname() + "이(가) 방 생성 시도: [" + roomName + "]");
-        
-        Board board = new Board(ROWS, COLS);
-        TokenIndex index = new TokenIndex();
-        fillBoardFromFilesOrFallback(board, index);
-        GameModel gameModel = new GameModel(board, index, gameTimeSec, 1, WordPool.fromBoard(board));
 
-        GameRoom newRoom = new GameRoom(roomName, password, gameModel, this, sentencePool);
-        newRoom.addPlayer(creator, chosenTeam);
-        
-        activeRooms.put(roomName, newRoom);
-        
-        sendEnterWaitingRoom(creator, newRoom, chosenTeam);
-        broadcastRoomUpdated(newRoom);
+        // 보드는 미리 만들어 둔 것을 꺼낸다 (풀이 비었을 때만 여기서 생성)
+        BoardTemplates.Template template = boardTemplates.take();
+        GameModel gameModel = new GameModel(template.board(), template.index(), gameTimeSec, 1, template.wordPool());
+        GameRoom newRoom = new GameRoom(roomName, password, teamSize, gameModel, this, sentencePool, roomScheduler, config.flipSync(),
+                config.checksumTicks(), config.maxSpectators());
+
+        // 이름 예약(putIfAbsent) 전에 방장 입장을 새 방의 첫 이벤트로 넣어 둔다 — 서버 전체 잠금 없이 같은 이름 동시 생성은 하나만 성공
+        if (!newRoom.open(creator, chosenTeam, () -> activeRooms.putIfAbsent(roomName, newRoom) == null)) {
+            boardTemplates.giveBack(template);
+            creator.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("이미 존재하는 방 이름입니다."));
+            return;
+        }
     }
 
     /** 클라이언트의 방 참여 요청 처리 */
-    public synchronized void handleJoinRoom(ClientHandler joiner, String roomName, String password) {
+    public void handleJoinRoom(ClientHandler joiner, String roomName, String password) {
         GameRoom room = activeRooms.get(roomName);
 
         if (room == null) {
             joiner.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("존재하지 않는 방입니다."));
             return;
         }
-        
+
         if (!room.getPassword().isEmpty() && !room.getPassword().equals(password)) {
             joiner.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("비밀번호가 다릅니다."));
             return;
         }
 
-        Team teamToJoin = room.getOppositeTeam(Team.BLUE);
-        if (teamToJoin == null) {
-            teamToJoin = room.getOppositeTeam(Team.YELLOW);
+        // 팀 선택/추가/입장 메시지는 그 방의 이벤트로 처리 (다른 방 생성·참여를 막지 않음, 실패 메시지도 방이 보냄)
+        room.join(joiner);
+    }
+
+    /** 관전 요청 처리 (게임 중이어도 가능, 비밀방은 비밀번호 확인) */
+    public void handleSpectate(ClientHandler spectator, String roomName, String password) {
+        GameRoom room = activeRooms.get(roomName);
+        if (room == null) {
+            spectator.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("존재하지 않는 방입니다."));
+            return;
         }
-        
-        if (teamToJoin == null || !room.addPlayer(joiner, teamToJoin)) {
-             joiner.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("참여할 자리가 없거나 입장에 실패했습니다."));
-             return;
+        if (!room.getPassword().isEmpty() && !room.getPassword().equals(password)) {
+            spectator.sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("비밀번호가 다릅니다."));
+            return;
         }
-        
-        System.out.println("서버: " + joiner.getNickname() + "이(가) 방 [" + roomName + "]에 " + teamToJoin + "팀으로 참여.");
-
-        sendEnterWaitingRoom(joiner, room, teamToJoin);
-        room.broadcastPlayerList();
-        broadcastRoomUpdated(room);
+        room.addSpectator(spectator);
     }
 
     /** 방 제거 */
-    public synchronized void removeRoom(GameRoom room) {
-        activeRooms.remove(room.getRoomName());
-        broadcastRoomRemoved(room.getRoomName());
+    public void removeRoom(GameRoom room) {
+        // 같은 이름으로 새로 만든 방은 지우지 않도록 그 방일 때만 제거
+        if (activeRooms.remove(room.getRoomName(), room)) {
+            lobbyPublisher.roomChanged(room.getRoomName());
+        }
     }
 
-    // --- 로비 브로드캐스트 ---
+    // --- 로비 방 목록 ---
 
     public void registerLobbyClient(ClientHandler client) {
-        lobbyClients.add(client);
-        sendRoomList(client);
+        lobbyPublisher.subscribe(client);
     }
 
-    public void unregisterLobbyClient(ClientHandler client) {
-        lobbyClients.remove(client);
+    public void queryRooms(ClientHandler target, NetworkProtocol.Msg_C2S_RoomQuery req) {
+        lobbyPublisher.queryPage(target, req);
     }
 
-    public void sendRoomList(ClientHandler target) {
-        List<NetworkProtocol.RoomInfo> infos = activeRooms.values().stream()
-                .map(GameRoom::toRoomInfo)
-                .toList();
-        target.sendMessage(new NetworkProtocol.Msg_S2C_RoomList(infos));
-    }
-
-    public void broadcastRoomUpdated(GameRoom room) {
-        NetworkProtocol.RoomInfo info = room.toRoomInfo();
-        var msg = new NetworkProtocol.Msg_S2C_RoomUpdated(info);
-        for (ClientHandler client : lobbyClients) {
-            client.sendMessage(msg);
-        }
-    }
-
-    public void broadcastRoomRemoved(String roomName) {
-        var msg = new NetworkProtocol.Msg_S2C_RoomRemoved(roomName);
-        for (ClientHandler client : lobbyClients) {
-            client.sendMessage(msg);
-        }
+    /** 방 정보 변경 알림 (다음 로비 델타에 실려 나간다) */
+    public void roomChanged(GameRoom room) {
+        lobbyPublisher.roomChanged(room.getRoomName());
     }
 
     // --- 유틸 ---
 
-    private void sendEnterWaitingRoom(ClientHandler client, GameRoom room, Team myTeam) {
-        var msg = new NetworkProtocol.Msg_S2C_EnterWaitingRoom(room.toRoomInfo(), room.snapshotPlayers(), myTeam);
-        client.sendMessage(msg);
+    public MatchLog matchLog() {
+        return matchLog;
     }
 
-    /** 기본 단어 세팅 (resources/word.txt가 있으면 랜덤 채움) */
-    private void fillBoardFromFilesOrFallback(Board board, TokenIndex idx) {
-        List<String> fallback = List.of("\uac10\uc790", "\uc0ac\uacfc", "\ud3ec\ub3c4", "\uc218\ubc15", "\ucf54\ucf54", "\ud638\ub791\uc774", "\uacf0\ub3cc", "\uc5ec\uc6b0", "\ub291\ub300", "\ud1a0\ub07c");
-
-        Path wordPath = Path.of("resources", "word.txt");
-        List<String> words = readOrFallback(wordPath, fallback);
+    /** 방 타이머 지연 통계 (틱 드리프트 관찰용) */
+    public RoomScheduler.LagStats timerLagStats() {
+        return roomScheduler.lagStats();
+    }
 
-        int maxLen = 8; // 너무 긴 단어는 겹침 방지를 위해 제외
-        List<String> filtered = new ArrayList<>();
-        for (String w : words) {
-            String trimmed = w.trim();
-            if (!trimmed.isEmpty() && trimmed.length() <= maxLen) {
-                filtered.add(trimmed);
+    private void logServerStats() {
+        System.out.println("서버: 방 타이머 지연 (최근 " + STATS_INTERVAL_MS / 1000 + "초) - " + roomScheduler.lagStats());
+        roomScheduler.resetLagStats();
+
+        int pendingEvents = 0;
+        GameRoom busiest = null;
+        int busiestPending = 0;
+        for (GameRoom room : activeRooms.values()) {
+            int n = room.pendingEvents();
+            pendingEvents += n;
+            if (n > busiestPending) {
+                busiestPending = n;
+                busiest = room;
             }
         }
-        if (filtered.isEmpty()) filtered = fallback;
-
-        int totalCells = board.rows() * board.cols();
-        List<String> pool = new ArrayList<>(filtered);
-        while (pool.size() < totalCells) {
-            pool.addAll(filtered);
-        }
-
-        Random rnd = new Random();
-        Collections.shuffle(pool, rnd);
-
-        int tokenIdx = 0;
-        for (int r = 0; r < board.rows(); r++) {
-            for (int c = 0; c < board.cols(); c++) {
-                String token = pool.get(tokenIdx++ % pool.size());
-                Team owner = (r < board.rows() / 2) ? Team.YELLOW : Team.BLUE;
-                Cell cell = new Cell(owner, token);
-                board.set(r, c, cell);
-                idx.add(owner, token, new Pos(r, c));
+        System.out.println("서버: 방 이벤트 - 방 " + activeRooms.size() + "개, 대기 이벤트 " + pendingEvents
+                + (busiest == null ? "" : ", 최대 " + busiestPending + " [" + busiest.getRoomName() + "]"));
+
+        int totalDepth = 0;
+        long coalesced = 0, dropped = 0;
+        ClientHandler deepest = null;
+        int deepestDepth = -1;
+        for (ClientHandler c : connectedClients) {
+            OutboundQueue.Stats st = c.outboundStats();
+            totalDepth += st.depth();
+            coalesced += st.coalesced();
+            dropped += st.dropped();
+            if (st.maxDepth() > deepestDepth) {
+                deepestDepth = st.maxDepth();
+                deepest = c;
             }
         }
+        System.out.println("서버: 송신 큐 - 연결 " + connectedClients.size() + "개, 대기 프레임 " + totalDepth
+                + "개, 병합 " + coalesced + ", 버림 " + dropped + ", 느린 소비자 끊김 " + slowConsumerDisconnects.get()
+                + (deepest == null ? "" : ", 최대 깊이 " + deepestDepth + " [" + deepest.id + "]"));
+        System.out.println("서버: 수신 제한 - 버림 입력 " + rateLimited.get(ClientHandler.Inbound.INPUT.ordinal())
+                + ", 채팅 " + rateLimited.get(ClientHandler.Inbound.CHAT.ordinal())
+                + ", 요청 " + rateLimited.get(ClientHandler.Inbound.CONTROL.ordinal())
+                + ", 도배 끊김 " + floodDisconnects.get());
+        System.out.println("서버: 로비 - " + lobbyPublisher);
+        System.out.println("서버: 경기 기록 - " + matchLog);
+        System.out.println("서버: 보드 풀 - " + boardTemplates);
     }
 
-    private static List<String> readOrFallback(Path path, List<String> fallback) {
-        try {
-            if (Files.exists(path)) {
-                var lines = Files.readAllLines(path, StandardCharsets.UTF_8);
-                List<String> words = lines.stream().map(String::trim).filter(s -> !s.isEmpty()).toList();
-                System.out.println("서버: " + path + "에서 단어 " + words.size() + "개 불러옴.");
-                return words.isEmpty() ? fallback : words;
-            } else {
-                System.out.println("서버: " + path + " 파일을 찾지 못해 기본 단어를 사용합니다.");
-            }
-        } catch (Exception e) {
-            System.err.println("서버: " + path + " 파일 읽기 실패: " + e.getMessage());
-        }
-        return fallback;
-    }
-    
     public static void main(String[] args) {
-        new GameServer().start();
+        new GameServer(ServerConfig.fromArgs(args)).start();
     }
 }
 
 
 /**
  * (GameServer 클래스 바로 아래 두거나 별도 파일로 이동)
- * 한 클라이언트와 통신을 담당하는 클래스
+ * 한 클라이언트의 세션 상태와 메시지 처리를 담당하는 클래스
+ * - 실제 소켓 입출력은 ClientConnection(blocking / NIO)이 담당한다.
  */
-class ClientHandler implements Runnable {
-    private final Socket socket;
+class ClientHandler {
+    private final ClientConnection connection;
     private final GameServer server;
-    private ObjectOutputStream oos;
-    private ObjectInputStream ois;
     
-    private GameRoom currentRoom = null; // 현재 방
+    private volatile GameRoom currentRoom = null; // 현재 방
+    private volatile GameRoom spectating = null;  // 관전 중인 방 (참여 중인 방과 동시에 가질 수 없음)
     public final String id; // 연결된 ID
-    private String nickname = "Player";
+    private volatile String nickname = "Player";
+    private volatile MessageCodec codec = MessageCodec.DEFAULT; // 핸드셰이크에서 협상된 송신 코덱
+    private final OutboundQueue outbound;                         // 송신 큐 (전송 계층 writer가 비움)
+    private boolean disconnected = false;
+
+    /** 수신 속도 제한 종류 (종류별로 토큰 버킷을 따로 둔다) */
+    enum Inbound { INPUT, CHAT, CONTROL }
+
+    private static final long FLOOD_WINDOW_NANOS = 10_000_000_000L;
 
-    public ClientHandler(Socket socket, GameServer server) {
-        this.socket = socket;
+    // 수신 속도 제한 — 수신 스레드에서만 쓰므로 잠금 없음
+    private final TokenBucket[] buckets = new TokenBucket[Inbound.values().length];
+    private final int floodKick;
+    private long floodWindowStart = System.nanoTime();
+    private int floodDrops = 0;
+    private boolean flooded = false;
+    private boolean handshaken = false; // 첫 핸드셰이크를 받았는지
+
+    // 병합 키: 틱은 연결당 하나만 의미 있음
+    private static final Object TICK_KEY = new Object();
+
+    public ClientHandler(ClientConnection connection, GameServer server, ServerConfig config) {
+        this.connection = connection;
         this.server = server;
-        this.id = socket.getRemoteSocketAddress().toString();
+        this.id = connection.remoteId();
+        this.outbound = new OutboundQueue(config.outboundCapacity(), config.coalesceOutbound());
+        ServerConfig.RateLimits limits = config.limits();
+        buckets[Inbound.INPUT.ordinal()] = new TokenBucket(limits.inputRate(), limits.inputBurst());
+        buckets[Inbound.CHAT.ordinal()] = new TokenBucket(limits.chatRate(), limits.chatBurst());
+        buckets[Inbound.CONTROL.ordinal()] = new TokenBucket(limits.controlRate(), limits.controlBurst());
+        this.floodKick = limits.floodKick();
+    }
+
+    OutboundQueue outbound() {
+        return outbound;
+    }
+
+    public OutboundQueue.Stats outboundStats() {
+        return outbound.stats();
     }
     
     public void setCurrentRoom(GameRoom room) {
         this.currentRoom = room;
     }
 
+    /** 그 방에 있을 때만 해제 (퇴장 이벤트가 늦게 처리되는 사이 다른 방에 들어갔으면 그대로 둔다) */
+    void clearCurrentRoom(GameRoom room) {
+        if (currentRoom == room) currentRoom = null;
+    }
+
     public GameRoom getCurrentRoom() {
         return currentRoom;
     }
 
-    public String getNickname() {
-        return nickname;
+    public GameRoom getSpectating() {
+        return spectating;
     }
 
-    @Override
-    public void run() {
-        try {
-            oos = new ObjectOutputStream(socket.getOutputStream());
-            ois = new ObjectInputStream(socket.getInputStream());
+    void setSpectating(GameRoom room) {
+        this.spectating = room;
+    }
 
-            while (true) {
-                Object msg = ois.readObject();
+    /** 그 방을 관전 중일 때만 해제 (다른 방으로 옮긴 뒤 늦게 온 정리는 무시) */
+    void clearSpectating(GameRoom room) {
+        if (spectating == room) spectating = null;
+    }
 
-                // --- 로비/대기 메시지 ---
-                if (msg instanceof NetworkProtocol.Msg_C2S_Handshake req) {
-                    this.nickname = req.nickname();
-                    server.registerLobbyClient(this);
+    /** 방을 만들거나 참여하기 전에 관전을 끝낸다 */
+    private void stopSpectating() {
+        GameRoom room = spectating;
+        if (room != null) room.removeSpectator(this);
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
 
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_RequestRoomList) {
-                    server.sendRoomList(this);
+    /** 수신한 메시지 하나 처리 (전송 계층의 수신 스레드에서 호출) */
+    public void handleMessage(Object msg) {
+        if (!admit(msg)) return;
+        GameRoom currentRoom = this.currentRoom;
+
+        // --- 로비/대기 메시지 ---
+        if (msg instanceof NetworkProtocol.Msg_C2S_Handshake req) {
+            if (handshaken) return; // 두 번째부터는 무시 (게임 중 로비 재구독/응답 증폭 방지)
+            handshaken = true;
+            this.nickname = req.nickname();
+            this.codec = MessageCodec.negotiate(req.codecs());
+            sendMessage(new NetworkProtocol.Msg_S2C_HandshakeAck(codec.name()));
+            server.registerLobbyClient(this);
+
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_RoomQuery req) {
+            server.queryRooms(this, req);
+
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_CreateRoom req) {
+            stopSpectating();
+            server.handleCreateRoom(this, req.roomName(), req.password(), req.gameTimeSec(), req.chosenTeam(), req.teamSize());
+        
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_JoinRoom req) {
+            stopSpectating();
+            server.handleJoinRoom(this, req.roomName(), req.password());
 
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_CreateRoom req) {
-                    server.handleCreateRoom(this, req.roomName(), req.password(), req.gameTimeSec(), req.chosenTeam());
-                
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_JoinRoom req) {
-                    server.handleJoinRoom(this, req.roomName(), req.password());
-
-                // --- 대기/게임 중 메시지 ---
-                } else if (currentRoom != null) {
-                    
-                    if (msg instanceof NetworkProtocol.Msg_C2S_InputRequest req) {
-                        currentRoom.handleInput(this, req.team(), req.input());
-                    
-                    } else if (msg instanceof NetworkProtocol.Msg_C2S_LeaveRoom) {
-                        currentRoom.removePlayer(this);
-
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_StartGame) {
-                    currentRoom.startGameBy(this);
-
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_ToggleReady reqReady) {
-                    currentRoom.setReady(this, reqReady.ready());
-
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_WaitingChat reqChat) {
-                    currentRoom.broadcastWaitingChat(nickname, reqChat.text());
-                } else if (msg instanceof NetworkProtocol.Msg_C2S_SentenceInput req) {
-                    currentRoom.handleSentenceInput(this, req.team(), req.sentence());
-                }
-            }
-            }
-        } catch (EOFException | SocketException e) {
-            System.out.println("서버: 클라이언트[" + id + "] 연결 종료.");
-        } catch (IOException | ClassNotFoundException e) {
-            System.err.println("서버: 클라이언트[" + id + "] 스레드 오류 - " + e.getMessage());
-        } finally {
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_Spectate req) {
             if (currentRoom != null) {
+                sendMessage(new NetworkProtocol.Msg_S2C_RoomResponseFailure("방에 참여 중에는 관전할 수 없습니다."));
+            } else {
+                stopSpectating();
+                server.handleSpectate(this, req.roomName(), req.password());
+            }
+
+        // --- 대기/게임 중 메시지 ---
+        } else if (currentRoom != null) {
+            
+            if (msg instanceof NetworkProtocol.Msg_C2S_InputRequest req) {
+                currentRoom.handleInput(this, req.input());
+            
+            } else if (msg instanceof NetworkProtocol.Msg_C2S_ResyncRequest) {
+                currentRoom.handleResyncRequest(this);
+
+            } else if (msg instanceof NetworkProtocol.Msg_C2S_LeaveRoom) {
                 currentRoom.removePlayer(this);
+
+            } else if (msg instanceof NetworkProtocol.Msg_C2S_StartGame) {
+                currentRoom.startGameBy(this);
+
+            } else if (msg instanceof NetworkProtocol.Msg_C2S_ToggleReady reqReady) {
+                currentRoom.setReady(this, reqReady.ready());
+
+            } else if (msg instanceof NetworkProtocol.Msg_C2S_WaitingChat reqChat) {
+                currentRoom.broadcastWaitingChat(nickname, reqChat.text());
+            } else if (msg instanceof NetworkProtocol.Msg_C2S_SentenceInput req) {
+                currentRoom.handleSentenceInput(this, req.sentence());
             }
-            server.unregisterLobbyClient(this);
-            try { socket.close(); } catch (IOException e) {}
+
+        // --- 관전 중 메시지 ---
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_LeaveRoom) {
+            stopSpectating();
         }
     }
 
-    /** 특정 클라이언트에게 메시지 전송 */
-    public void sendMessage(Serializable message) {
+    /**
+     * 수신 속도 제한: 종류별 버킷이 비었으면 메시지를 버린다.
+     * - 연결의 첫 핸드셰이크와, 방/관전에서 실제로 나가는 요청은 세션 상태를 맞추는 데 꼭 필요해 제한하지 않는다.
+     *   (다시 보낸 핸드셰이크나 나갈 곳 없는 방 나가기는 CONTROL로 센다)
+     * - 10초 안에 floodKick개 넘게 버려지면 도배로 보고 연결을 끊는다.
+     */
+    private boolean admit(Object msg) {
+        if (flooded) return false; // 끊는 중 (이미 읽어 둔 나머지 프레임)
+        Inbound kind;
+        if (msg instanceof NetworkProtocol.Msg_C2S_InputRequest || msg instanceof NetworkProtocol.Msg_C2S_SentenceInput) {
+            kind = Inbound.INPUT;
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_WaitingChat) {
+            kind = Inbound.CHAT;
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_Handshake && !handshaken) {
+            return true;
+        } else if (msg instanceof NetworkProtocol.Msg_C2S_LeaveRoom && (currentRoom != null || spectating != null)) {
+            return true;
+        } else {
+            kind = Inbound.CONTROL;
+        }
+
+        long now = System.nanoTime();
+        if (buckets[kind.ordinal()].tryAcquire(now)) return true;
+
+        server.recordRateLimited(kind);
+        if (now - floodWindowStart > FLOOD_WINDOW_NANOS) {
+            floodWindowStart = now;
+            floodDrops = 0;
+        }
+        if (floodKick > 0 && ++floodDrops > floodKick) {
+            flooded = true;
+            System.err.println("서버: [" + id + "] 메시지 도배로 연결을 끊습니다. (" + kind + ")");
+            server.recordFloodDisconnect();
+            outbound.close();
+            connection.close();
+        }
+        return false;
+    }
+
+    /** 연결이 끊어졌을 때 방/로비 정리 (한 번만 수행) */
+    public void onDisconnected() {
+        synchronized (this) {
+            if (disconnected) return;
+            disconnected = true;
+        }
+        outbound.close();
+        GameRoom room = currentRoom;
+        if (room != null) {
+            room.removePlayer(this);
+        }
+        stopSpectating();
+        server.onClientDisconnected(this);
+    }
+
+    /** 특정 클라이언트에게 메시지 전송 (송신 큐에 넣고 바로 반환) */
+    public OutboundQueue.Result sendMessage(Serializable message) {
+        byte[] frame;
         try {
-            if (oos != null) {
-                oos.writeObject(message);
-                oos.flush();
-                oos.reset(); 
-            }
+            frame = MessageFrames.encode(codec, message);
+        } catch (IOException e) {
+            System.err.println("서버: [" + id + "] 메시지 인코딩 오류 - " + e.getMessage());
+            return OutboundQueue.Result.DROPPED;
+        }
+        return enqueue(message, frame);
+    }
+
+    /** 여러 연결이 공유하는 프레임 전송 (이 연결의 코덱으로 이미 인코딩된 바이트를 그대로 사용) */
+    public OutboundQueue.Result sendShared(SharedFrame shared) {
+        byte[] frame;
+        try {
+            frame = shared.frameFor(codec);
         } catch (IOException e) {
-            System.err.println("서버: [" + id + "] 메시지 전송 오류 - " + e.getMessage());
+            System.err.println("서버: [" + id + "] 메시지 인코딩 오류 - " + e.getMessage());
+            return OutboundQueue.Result.DROPPED;
         }
+        return enqueue(shared.message(), frame);
     }
-}
\ No newline at end of file
+
+    private OutboundQueue.Result enqueue(Object message, byte[] frame) {
+        OutboundQueue.Result result;
+        if (message instanceof NetworkProtocol.Msg_S2C_Tick) {
+            result = outbound.offer(frame, OutboundQueue.Kind.TICK, TICK_KEY);
+        } else if (message instanceof NetworkProtocol.Msg_S2C_RoomListDelta) {
+            // 델타끼리는 병합하지 않으므로 키 없이 넣는다 (버려지면 클라이언트가 버전 차이로 감지해 첫 페이지부터 다시 조회)
+            result = outbound.offer(frame, OutboundQueue.Kind.LOBBY, null);
+        } else {
+            result = outbound.offer(frame, OutboundQueue.Kind.NORMAL, null);
+        }
+
+        if (result == OutboundQueue.Result.OVERFLOW) {
+            System.err.println("서버: [" + id + "] 송신 큐가 가득 차 연결을 끊습니다. (느린 클라이언트)");
+            server.recordSlowConsumerDisconnect();
+            outbound.close();
+            connection.close();
+        } else if (result != OutboundQueue.Result.DROPPED) {
+            connection.outboundReady();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+import javax.imageio.ImageIO;
+import javax.swing.SwingUtilities;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 클라이언트 이미지 캐시 (resources/images 등)
+ * - 이미지 스레드 하나가 파일을 읽어 화면과 같은 형식(compatible image)으로 바꿔 두고, 원본과 크기별 축소본을 경로마다 한 번만 만든다.
+ * - 결과는 CompletableFuture로 돌려준다. 클라이언트 시작 때 미리 요청해 두면 (GameFrame.preloadImages) 창을 열 때는 디스크를 읽지 않는다.
+ * - 축소는 getScaledInstance(SCALE_SMOOTH) 대신 절반씩 줄이는 쌍선형 보간 (품질은 비슷하고 훨씬 빠르다).
+ * - 파일이 없거나 읽지 못하면 null로 완료된다 (쓰는 쪽에서 이미지 없이 그린다).
+ */
+public final class ImageAssets {
+
+    private static final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "image-assets");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final Map<String, CompletableFuture<BufferedImage>> cache = new ConcurrentHashMap<>();
+
+    private ImageAssets() {}
+
+    /** 원본 크기 이미지 */
+    public static CompletableFuture<BufferedImage> image(String path) {
+        return cache.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> read(p), loader));
+    }
+
+    /** w x h로 줄이거나 늘린 이미지 (크기별로 한 번만 만든다) */
+    public static CompletableFuture<BufferedImage> scaled(String path, int w, int h) {
+        CompletableFuture<BufferedImage> original = image(path); // computeIfAbsent 안에서 다시 부르지 않도록 먼저
+        return cache.computeIfAbsent(path + "@" + w + "x" + h,
+                key -> original.thenApplyAsync(src -> src == null ? null : scale(src, w, h), loader));
+    }
+
+    /** 이미 읽어 둔 이미지면 바로, 아니면 다 읽은 뒤 EDT에서 action 실행 (이미지가 없으면 실행하지 않음) */
+    public static void whenReady(CompletableFuture<BufferedImage> image, Consumer<BufferedImage> action) {
+        if (image.isDone() && SwingUtilities.isEventDispatchThread()) {
+            BufferedImage img = image.getNow(null);
+            if (img != null) action.accept(img);
+            return;
+        }
+        image.thenAccept(img -> {
+            if (img != null) SwingUtilities.invokeLater(() -> action.accept(img));
+        });
+    }
+
+    /** 파일 시스템 경로 → user.dir 기준 상대 경로 → 클래스패스 리소스 순으로 찾아 화면 형식으로 바꾼다 */
+    private static BufferedImage read(String path) {
+        try {
+            BufferedImage raw = null;
+            File f = new File(path);
+            File f2 = new File(System.getProperty("user.dir"), path);
+            java.net.URL res;
+            if (f.exists()) {
+                raw = ImageIO.read(f);
+            } else if (f2.exists()) {
+                raw = ImageIO.read(f2);
+            } else if ((res = ImageAssets.class.getResource("/" + path.replace('\\', '/'))) != null) {
+                raw = ImageIO.read(res);
+            }
+            if (raw == null) {
+                System.out.println("클라이언트: 이미지 " + path + " 없음");
+                return null;
+            }
+            return scale(raw, raw.getWidth(), raw.getHeight()); // 화면 형식으로 변환
+        } catch (Exception e) {
+            System.out.println("이미지 로드 실패: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** 크기가 절반 이하로 줄 때는 절반씩 여러 번 줄여 계단 현상 없이 축소 */
+    private static BufferedImage scale(BufferedImage src, int w, int h) {
+        BufferedImage cur = src;
+        int cw = src.getWidth();
+        int ch = src.getHeight();
+        do {
+            cw = cw / 2 >= w ? cw / 2 : w;
+            ch = ch / 2 >= h ? ch / 2 : h;
+            BufferedImage next = compatible(cw, ch, src.getTransparency());
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(cur, 0, 0, cw, ch, null);
+            } finally {
+                g.dispose();
+            }
+            cur = next;
+        } while (cw != w || ch != h);
+        return cur;
+    }
+
+    private static BufferedImage compatible(int w, int h, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(w, h, transparency == Transparency.OPAQUE
+                    ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(w, h, transparency);
+    }
+}
@@ -1,70 +1,43 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.awt.geom.AffineTransform;
-import java.io.File;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 이미지 배경을 사용하는 간단한 입력 다이얼로그.
- * - 이미지가 없으면 자동으로 `JOptionPane`로 폴백합니다.
+ * - 이미지가 없으면 자동으로 `JOptionPane`로 폴백합니다. (아직 읽는 중이면 이미지 없이 먼저 띄우고 다 읽으면 채웁니다)
  * - `flip`을 true로 하면 이미지를 좌우 반전합니다.
  */
 public class ImageInputDialog {
 
     public static String showInputDialog(Component parent, String message, String initialValue, String imagePath, boolean flip) {
-        // Try loading image from several locations so dialog works regardless of working dir.
-        BufferedImage loaded = null;
-        try {
-            File f = new File(imagePath);
-            if (f.exists()) {
-                System.out.println("ImageInputDialog: loading image from " + f.getAbsolutePath());
-                loaded = ImageIO.read(f);
-            } else {
-                File f2 = new File(System.getProperty("user.dir"), imagePath);
-                if (f2.exists()) {
-                    System.out.println("ImageInputDialog: loading image from user.dir relative path: " + f2.getAbsolutePath());
-                    loaded = ImageIO.read(f2);
-                } else {
-                    String classpathResource = imagePath.replace('\\', '/');
-                    if (!classpathResource.startsWith("/")) classpathResource = "/" + classpathResource;
-                    System.out.println("ImageInputDialog: trying classpath resource: " + classpathResource);
-                    try (var is = ImageInputDialog.class.getResourceAsStream(classpathResource)) {
-                        if (is != null) {
-                            loaded = ImageIO.read(is);
-                            System.out.println("ImageInputDialog: loaded image from classpath");
-                        }
-                    } catch (Exception ignore) {
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("ImageInputDialog: error while loading image: " + e.getMessage());
-        }
-
-        if (loaded == null) {
+        // Decoded once and cached (file, user.dir relative path, then classpath)
+        CompletableFuture<BufferedImage> original = ImageAssets.image(imagePath);
+        if (original.isDone() && original.getNow(null) == null) {
             System.out.println("ImageInputDialog: no image found, falling back to JOptionPane");
             return JOptionPane.showInputDialog(parent, message, initialValue);
         }
 
-        // Optionally flip horizontally
-        BufferedImage imgToShow = loaded;
-        if (flip) {
-            try {
-                AffineTransform tx = AffineTransform.getScaleInstance(-1, 1);
-                tx.translate(-loaded.getWidth(), 0);
-                AffineTransformOp op = new AffineTransformOp(tx, AffineTransformOp.TYPE_BILINEAR);
-                BufferedImage flipped = op.filter(loaded, null);
-                imgToShow = flipped;
-            } catch (Exception ex) {
-                System.err.println("ImageInputDialog: flip failed: " + ex.getMessage());
-            }
-        }
+        Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+        int maxW = (int) (screen.width * 0.8);
+        int maxH = (int) (screen.height * 0.8);
+        // scale once, preserving aspect ratio (the cache keeps one copy per size); flip off the EDT
+        CompletableFuture<BufferedImage> fitted = original.thenCompose(loaded -> {
+            if (loaded == null) return CompletableFuture.completedFuture(null);
+            double scale = Math.min(1.0, Math.min((double) maxW / loaded.getWidth(), (double) maxH / loaded.getHeight()));
+            int drawW = Math.max(1, (int) (loaded.getWidth() * scale));
+            int drawH = Math.max(1, (int) (loaded.getHeight() * scale));
+            if (drawW == loaded.getWidth() && drawH == loaded.getHeight()) return CompletableFuture.completedFuture(loaded);
+            return ImageAssets.scaled(imagePath, drawW, drawH);
+        });
+        if (flip) fitted = fitted.thenApplyAsync(ImageInputDialog::flipHorizontally);
+        final CompletableFuture<BufferedImage> image = fitted;
 
-        final BufferedImage finalImg = imgToShow;
         final String[] result = new String[1];
+        final BufferedImage[] shown = new BufferedImage[1]; // filled in on the EDT once decoded
 
         try {
             SwingUtilities.invokeAndWait(() -> {
@@ -112,19 +85,12 @@ public class ImageInputDialog {
                     @Override
                     protected void paintComponent(Graphics g) {
                         super.paintComponent(g);
+                        BufferedImage finalImg = shown[0];
                         if (finalImg != null) {
-                            // scale image preserving aspect ratio and center it
-                            int imgW = finalImg.getWidth();
-                            int imgH = finalImg.getHeight();
-                            Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
-                            int maxW = (int) (screen.width * 0.8);
-                            int maxH = (int) (screen.height * 0.8);
-                            double scale = Math.min(1.0, Math.min((double) maxW / imgW, (double) maxH / imgH));
-                            int drawW = (int) (imgW * scale);
-                            int drawH = (int) (imgH * scale);
-                            int x = (getWidth() - drawW) / 2;
-                            int y = (getHeight() - drawH) / 2;
-                            g.drawImage(finalImg, x, y, drawW, drawH, null);
+                            // already scaled to fit: just center it
+                            int x = (getWidth() - finalImg.getWidth()) / 2;
+                            int y = (getHeight() - finalImg.getHeight()) / 2;
+                            g.drawImage(finalImg, x, y, null);
                         }
                     }
                 };
@@ -186,17 +152,15 @@ public class ImageInputDialog {
                 });
 
                 dlg.getContentPane().add(container);
-                // choose dialog size based on scaled image but ensure minimums
-                Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
-                int maxW = (int) (screen.width * 0.8);
-                int maxH = (int) (screen.height * 0.8);
-                int imgW = finalImg.getWidth();
-                int imgH = finalImg.getHeight();
-                double scale = Math.min(1.0, Math.min((double) maxW / imgW, (double) maxH / imgH));
-                int dialogW = Math.max(480, (int) (imgW * scale));
-                int dialogH = Math.max(320, (int) (imgH * scale));
-                dlg.setSize(dialogW, dialogH);
+                // open at the minimum size; grow to the scaled image once it is ready (without blocking the EDT)
+                dlg.setSize(480, 320);
                 dlg.setLocationRelativeTo(parent);
+                ImageAssets.whenReady(image, img -> {
+                    shown[0] = img;
+                    dlg.setSize(Math.max(480, img.getWidth()), Math.max(320, img.getHeight()));
+                    dlg.setLocationRelativeTo(parent);
+                    imagePanel.repaint();
+                });
                 dlg.addWindowListener(new WindowAdapter() {
                     @Override
                     public void windowOpened(WindowEvent e) {
@@ -212,4 +176,18 @@ public class ImageInputDialog {
 
         return result[0];
     }
+
+    /** Mirror the image left-to-right (returns the original if the transform fails) */
+    private static BufferedImage flipHorizontally(BufferedImage src) {
+        if (src == null) return null;
+        try {
+            AffineTransform tx = AffineTransform.getScaleInstance(-1, 1);
+            tx.translate(-src.getWidth(), 0);
+            AffineTransformOp op = new AffineTransformOp(tx, AffineTransformOp.TYPE_BILINEAR);
+            return op.filter(src, null);
+        } catch (Exception ex) {
+            System.err.println("ImageInputDialog: flip failed: " + ex.getMessage());
+            return src;
+        }
+    }
 }
@@ -0,0 +1,169 @@
+import javax.swing.SwingUtilities;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * 클라이언트 수신 이벤트 큐 (수신 스레드 → EDT).
+ * - 메시지마다 invokeLater를 하나씩 넣는 대신, 수신 스레드는 이 큐에 넣기만 하고
+ *   EDT가 한 프레임(FRAME_MS)에 한 번 쌓인 것을 한꺼번에 처리한다. 넣은 순서는 그대로 지킨다.
+ * - 병합: 같은 키(틱, 보드 해시, 로비 방 목록 변경분, 대기방 인원)의 이벤트가 아직 처리 전이면
+ *   이전 것과 합쳐(merge) 뒤에 붙이고 이전 자리는 건너뛴다.
+ *   순서가 중요한 이벤트는 post(cut, event)로 넣어 그 키의 병합을 끊는다 (이전 것이 이 이벤트를 건너뛰어 합쳐지지 않음).
+ * - 지표: 대기 중인 이벤트 수, 병합 수, 처리 묶음 수, 넣은 뒤 EDT에서 실행되기까지의 지연.
+ */
+public class InboundQueue {
+
+    private static final int FRAME_MS = 16;
+
+    /** 큐 지표 (지연은 마이크로초, 병합된 이벤트는 처음 넣은 시각 기준) */
+    public record Stats(int depth, int maxDepth, long posted, long coalesced, long batches,
+                        long avgLatencyMicros, long maxLatencyMicros) {}
+
+    private static final class Entry {
+        final Object value;
+        final Consumer<Object> handler;
+        final long postedNanos;
+        boolean stale; // 뒤의 이벤트에 합쳐짐 (처리할 때 건너뜀)
+
+        Entry(Object value, Consumer<Object> handler, long postedNanos) {
+            this.value = value;
+            this.handler = handler;
+            this.postedNanos = postedNanos;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final ArrayDeque<Entry> running = new ArrayDeque<>(); // EDT가 처리 중인 묶음 (EDT에서만)
+    private final Map<Object, Entry> latestByKey = new HashMap<>();
+    private final javax.swing.Timer drainTimer;
+    private boolean scheduled = false; // 처리 예약됨 (invokeLater 또는 drainTimer)
+    private long lastDrainNanos = 0;
+    private int live = 0;
+
+    private int maxDepth = 0;
+    private long posted = 0;
+    private long coalesced = 0;
+    // 아래는 EDT에서만 갱신
+    private long batches = 0;
+    private long ran = 0;
+    private long latencyNanos = 0;
+    private long maxLatencyNanos = 0;
+
+    public InboundQueue() {
+        drainTimer = new javax.swing.Timer(FRAME_MS, e -> drain());
+        drainTimer.setRepeats(false);
+    }
+
+    /** 그대로 처리할 이벤트 (어느 스레드에서나) */
+    public void post(Runnable event) {
+        enqueue(null, null, event, v -> ((Runnable) v).run(), null);
+    }
+
+    /** 그대로 처리할 이벤트. 이보다 앞에 넣은 cut 키의 이벤트는 뒤에 오는 같은 키 이벤트와 합치지 않는다 */
+    public void post(Object cut, Runnable event) {
+        enqueue(null, cut, event, v -> ((Runnable) v).run(), null);
+    }
+
+    /**
+     * 병합할 수 있는 이벤트. 같은 key의 이벤트가 아직 처리 전이면 merge(이전 값, 새 값)으로 합친 값 하나만 처리한다.
+     * 합친 이벤트는 마지막으로 넣은 자리에서 처리된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void coalesce(Object key, T value, BinaryOperator<T> merge, Consumer<T> handler) {
+        enqueue(key, null, value, (Consumer<Object>) handler, (BinaryOperator<Object>) merge);
+    }
+
+    /** 현재 지표 (EDT에서 호출) */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(live, maxDepth, posted, coalesced, batches,
+                    ran == 0 ? 0 : latencyNanos / ran / 1000, maxLatencyNanos / 1000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Object key, Object cut, Object value, Consumer<Object> handler, BinaryOperator<Object> merge) {
+        long now = System.nanoTime();
+        boolean schedule;
+        long sinceDrain;
+        lock.lock();
+        try {
+            long postedAt = now;
+            if (cut != null) latestByKey.remove(cut);
+            if (key != null) {
+                Entry prev = latestByKey.get(key);
+                if (prev != null) {
+                    prev.stale = true;
+                    live--;
+                    coalesced++;
+                    value = merge.apply(prev.value, value);
+                    postedAt = prev.postedNanos;
+                }
+            }
+            Entry e = new Entry(value, handler, postedAt);
+            entries.addLast(e);
+            if (key != null) latestByKey.put(key, e);
+            live++;
+            posted++;
+            if (live > maxDepth) maxDepth = live;
+            schedule = !scheduled;
+            scheduled = true;
+            sinceDrain = now - lastDrainNanos;
+        } finally {
+            lock.unlock();
+        }
+        if (schedule) scheduleDrain(sinceDrain);
+    }
+
+    /** 지난 처리에서 한 프레임이 지났으면 바로, 아니면 남은 시간 뒤에 EDT에서 처리 */
+    private void scheduleDrain(long sinceDrainNanos) {
+        long waitMs = FRAME_MS - sinceDrainNanos / 1_000_000;
+        if (waitMs <= 0) {
+            SwingUtilities.invokeLater(this::drain);
+        } else {
+            drainTimer.setInitialDelay((int) waitMs);
+            drainTimer.restart();
+        }
+    }
+
+    /**
+     * 쌓인 이벤트를 처리 중인 묶음 뒤에 옮겨 차례로 실행.
+     * 이벤트가 모달 대화상자를 띄우면 그 안에서 다시 불릴 수 있는데, 이때도 앞 묶음의 남은 이벤트부터 처리해 순서를 지킨다.
+     */
+    private void drain() {
+        lock.lock();
+        try {
+            running.addAll(entries);
+            entries.clear();
+            latestByKey.clear(); // 꺼낸 이벤트는 더 이상 병합 대상이 아니다
+            live = 0;
+            scheduled = false;
+            lastDrainNanos = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+        batches++;
+        Entry e;
+        while ((e = running.pollFirst()) != null) {
+            if (e.stale) continue;
+            long latency = System.nanoTime() - e.postedNanos;
+            latencyNanos += latency;
+            if (latency > maxLatencyNanos) maxLatencyNanos = latency;
+            ran++;
+            try {
+                e.handler.accept(e.value);
+            } catch (RuntimeException ex) {
+                // 이벤트 하나의 오류로 나머지 화면 갱신이 멈추지 않도록 기록만 하고 계속
+                System.err.println("클라이언트: 수신 이벤트 처리 오류 - " + ex);
+                ex.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+import java.io.*;
+
+/**
+ * 기존 Java 직렬화 코덱 (폴백용).
+ * 메시지마다 독립적으로 직렬화하므로 클래스 디스크립터가 매번 실린다.
+ */
+public final class JavaSerialCodec implements MessageCodec {
+
+    public static final JavaSerialCodec INSTANCE = new JavaSerialCodec();
+
+    private JavaSerialCodec() {}
+
+    @Override
+    public byte id() { return 0; }
+
+    @Override
+    public String name() { return "java"; }
+
+    @Override
+    public byte[] encode(Serializable message) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(message);
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] buf, int off, int len) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buf, off, len))) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+}
@@ -2,17 +2,23 @@ import javax.swing.*;
 import java.awt.*;
 
 /**
- * '방 참여' 팝업 다이얼로그
+ * '방 참여' 팝업 다이얼로그 (spectate면 같은 입력으로 '관전' 요청)
  */
 public class JoinRoomDialog extends JDialog {
 
     private final GameClient client;
+    private final boolean spectate;
     private JTextField roomNameField;
     private JPasswordField passwordField;
 
     public JoinRoomDialog(JFrame parent, GameClient client) {
-        super(parent, "방 참여", true);
+        this(parent, client, false, "");
+    }
+
+    public JoinRoomDialog(JFrame parent, GameClient client, boolean spectate, String roomName) {
+        super(parent, spectate ? "방 관전" : "방 참여", true);
         this.client = client;
+        this.spectate = spectate;
         
         setLayout(new GridBagLayout());
         GridBagConstraints gbc = new GridBagConstraints();
@@ -23,7 +29,7 @@ public class JoinRoomDialog extends JDialog {
         gbc.gridx = 0; gbc.gridy = 0;
         add(new JLabel("방 이름:"), gbc);
         gbc.gridx = 1; gbc.gridy = 0; gbc.gridwidth = 2;
-        roomNameField = new JTextField(15);
+        roomNameField = new JTextField(roomName, 15);
         add(roomNameField, gbc);
 
         // 2. 비밀번호
@@ -34,7 +40,7 @@ public class JoinRoomDialog extends JDialog {
         add(passwordField, gbc);
         
         // 3. 버튼
-        JButton joinButton = new JButton("참여");
+        JButton joinButton = new JButton(spectate ? "관전" : "참여");
         JButton cancelButton = new JButton("취소");
         
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 0));
@@ -69,8 +75,12 @@ public class JoinRoomDialog extends JDialog {
             return;
         }
         
-        // GameClient를 통해 서버에 "방 참여 요청"
-        client.sendJoinRoomRequest(roomName, password);
+        // GameClient를 통해 서버에 "방 참여 요청" (또는 관전 요청)
+        if (spectate) {
+            client.sendSpectateRequest(roomName, password);
+        } else {
+            client.sendJoinRoomRequest(roomName, password);
+        }
         
         dispose();
     }
@@ -0,0 +1,511 @@
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 화면 없이 서버에 부하를 거는 봇 (GameClient 대신 NetworkProtocol 메시지를 직접 주고받는다).
+ * 1. 봇 (팀 인원 × 2)개가 한 방: 방장이 방을 만들고 나머지가 참여, 모두 준비하면 방장이 게임 시작.
+ *    게임이 끝나면 모두 방을 나가고 방장이 새 방을 만들어 반복한다. (방 생성/삭제, 로비 갱신도 함께 부하가 걸림)
+ * 2. 게임 중에는 GameStart로 받은 보드를 클라이언트처럼 따라가며 (서버 판정 결과 반영 또는 lock-step 계산)
+ *    상대 칸의 단어를 골라 설정한 속도(포아송 간격)로 입력한다. 일부는 일부러 빗나가게 보낸다.
+ * 3. 내 입력 → 서버 응답(결과/브로드캐스트) 수신까지의 지연(p50/p99), 초당 송수신 메시지 수, 연결 실패/끊김을
+ *    주기적으로 출력한다. 봇 수와 입력 속도를 올려 가며 지연이 급증하는 지점이 서버의 포화점이다.
+ *
+ * 예) java LoadBot --bots=500 --rate=3 --duration=120
+ *     java LoadBot --host=10.0.0.5 --bots=2000 --connect-rate=200 --codec=java
+ *     java LoadBot --bots=320 --team-size=8
+ */
+public class LoadBot {
+
+    /**
+     * @param bots         봇 수 (방 인원의 배수로 올림)
+     * @param connectRate  초당 새 연결 수 (연결 폭주 없이 천천히 늘리기)
+     * @param rate         봇 하나의 초당 입력 수
+     * @param missRatio    보드에 없는 단어로 보내는 입력 비율
+     * @param durationSec  전체 실행 시간
+     * @param gameSec      방 생성 시 게임 시간
+     * @param reportSec    중간 보고 주기
+     * @param teamSize     방 만들 때 팀당 인원 (1, 4, 8)
+     */
+    public record Options(String host, int port, int bots, int connectRate, double rate, double missRatio,
+                          int durationSec, int gameSec, int reportSec, MessageCodec codec, int teamSize) {
+
+        public static Options fromArgs(String[] args) {
+            String host = "localhost";
+            int port = 12345;
+            int bots = 100;
+            int connectRate = 50;
+            double rate = 2.0;
+            double missRatio = 0.1;
+            int durationSec = 60;
+            int gameSec = 60;
+            int reportSec = 5;
+            MessageCodec codec = BinaryCodec.INSTANCE;
+            int teamSize = 1;
+
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (!arg.startsWith("--") || eq < 0) {
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+                }
+                String key = arg.substring(2, eq);
+                String value = arg.substring(eq + 1);
+                switch (key) {
+                    case "host" -> host = value;
+                    case "port" -> port = Integer.parseInt(value);
+                    case "bots" -> bots = Integer.parseInt(value);
+                    case "connect-rate" -> connectRate = Integer.parseInt(value);
+                    case "rate" -> rate = Double.parseDouble(value);
+                    case "miss-ratio" -> missRatio = Double.parseDouble(value);
+                    case "duration" -> durationSec = Integer.parseInt(value);
+                    case "game-sec" -> gameSec = Integer.parseInt(value);
+                    case "report-sec" -> reportSec = Integer.parseInt(value);
+                    case "team-size" -> teamSize = Integer.parseInt(value);
+                    case "codec" -> {
+                        codec = MessageCodec.byName(value);
+                        if (codec == null) throw new IllegalArgumentException("알 수 없는 코덱: " + value);
+                    }
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+                }
+            }
+            int roomSize = 2 * Math.max(1, teamSize);
+            bots = Math.max(roomSize, (bots + roomSize - 1) / roomSize * roomSize);
+            return new Options(host, port, bots, Math.max(1, connectRate), rate, missRatio,
+                    durationSec, gameSec, Math.max(1, reportSec), codec, Math.max(1, teamSize));
+        }
+    }
+
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final Options options;
+    private final String runId = Long.toString(System.currentTimeMillis() % 100_000, 36);
+    private final List<Bot> bots = new ArrayList<>();
+    private volatile boolean stopping = false;
+
+    // 집계 (리더/타이핑 스레드가 동시에 기록)
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder inputs = new LongAdder();
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+    private final LongAdder roomFailures = new LongAdder();
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder unanswered = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final AtomicReference<LatencyHistogram> intervalLatency = new AtomicReference<>(new LatencyHistogram());
+
+    public LoadBot(Options options) {
+        this.options = options;
+    }
+
+    public void run() throws InterruptedException {
+        System.out.printf("부하봇: %s:%d 봇 %d개 (%d대%d), 초당 연결 %d, 봇당 초당 입력 %.1f, 빗나감 %.0f%%, %d초 실행 (코덱 %s)%n",
+                options.host(), options.port(), options.bots(), options.teamSize(), options.teamSize(),
+                options.connectRate(), options.rate(),
+                options.missRatio() * 100, options.durationSec(), options.codec().name());
+
+        long start = System.nanoTime();
+        long deadline = start + options.durationSec() * 1_000_000_000L;
+        Thread reporter = Thread.ofPlatform().daemon().name("loadbot-report").start(() -> reportLoop(start));
+
+        // 방 단위로 연결 (방장 → 참여자 순서로 연결한 뒤 방 생성)
+        int roomSize = 2 * options.teamSize();
+        long connectInterval = 1_000_000_000L / options.connectRate();
+        long nextConnect = System.nanoTime();
+        for (int g = 0; g < options.bots() / roomSize && System.nanoTime() < deadline; g++) {
+            String roomName = "bot-" + runId + "-" + g;
+            Group group = new Group();
+            Bot owner = new Bot(g * roomSize, roomName, true, group);
+            group.owner = owner;
+            boolean ok = owner.connect();
+            for (int i = 1; i < roomSize; i++) {
+                Bot joiner = new Bot(g * roomSize + i, roomName, false, group);
+                group.joiners.add(joiner);
+                ok = ok && joiner.connect();
+            }
+            if (ok) {
+                owner.send(new NetworkProtocol.Msg_C2S_CreateRoom(roomName, "", options.gameSec(), Team.YELLOW, options.teamSize()));
+            } else {
+                owner.close();
+                for (Bot joiner : group.joiners) joiner.close();
+            }
+            nextConnect += roomSize * connectInterval;
+            long wait = nextConnect - System.nanoTime();
+            if (wait > 0) Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+        }
+
+        long remaining = deadline - System.nanoTime();
+        if (remaining > 0) Thread.sleep(remaining / 1_000_000);
+
+        stopping = true;
+        reporter.interrupt();
+        for (Bot bot : bots) bot.close();
+        printSummary(System.nanoTime() - start);
+    }
+
+    // --- 보고 ---
+
+    private void reportLoop(long start) {
+        long lastSent = 0, lastReceived = 0, lastInputs = 0;
+        long last = start;
+        try {
+            while (!stopping) {
+                Thread.sleep(options.reportSec() * 1000L);
+                long now = System.nanoTime();
+                double secs = (now - last) / 1e9;
+                long s = sent.sum(), r = received.sum(), in = inputs.sum();
+                LatencyHistogram h = intervalLatency.getAndSet(new LatencyHistogram());
+                System.out.printf("부하봇: %4ds 연결 %d 게임 %d | 입력 %.0f/s 송신 %.0f/s 수신 %.0f/s | 지연 p50 %s p99 %s (%d건) | 실패 연결 %d 끊김 %d 방 %d 무응답 %d 재동기화 %d%n",
+                        (now - start) / 1_000_000_000L, connected.sum(), gamesStarted.sum(),
+                        (in - lastInputs) / secs, (s - lastSent) / secs, (r - lastReceived) / secs,
+                        millis(h.percentile(50)), millis(h.percentile(99)), h.count(),
+                        connectFailures.sum(), disconnects.sum(), roomFailures.sum(), unanswered.sum(), resyncs.sum());
+                lastSent = s;
+                lastReceived = r;
+                lastInputs = in;
+                last = now;
+            }
+        } catch (InterruptedException ignored) { }
+    }
+
+    private void printSummary(long elapsedNanos) {
+        double secs = elapsedNanos / 1e9;
+        System.out.println("부하봇: ===== 결과 =====");
+        System.out.printf("부하봇: 연결 성공 %d / 실패 %d, 실행 중 끊김 %d, 방 요청 실패 %d%n",
+                connected.sum(), connectFailures.sum(), disconnects.sum(), roomFailures.sum());
+        System.out.printf("부하봇: 게임 시작 %d회, 입력 %d건 (무응답 %d), 재동기화 %d회%n",
+                gamesStarted.sum(), inputs.sum(), unanswered.sum(), resyncs.sum());
+        System.out.printf("부하봇: 송신 %.0f msg/s, 수신 %.0f msg/s%n", sent.sum() / secs, received.sum() / secs);
+        System.out.printf("부하봇: 입력→응답 지연 p50 %s p90 %s p99 %s max %s (%d건)%n",
+                millis(totalLatency.percentile(50)), millis(totalLatency.percentile(90)),
+                millis(totalLatency.percentile(99)), millis(totalLatency.max()), totalLatency.count());
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2fms", micros / 1000.0);
+    }
+
+    private void recordLatency(long micros) {
+        totalLatency.record(micros);
+        intervalLatency.get().record(micros);
+    }
+
+    /** 한 방을 같이 쓰는 봇들 */
+    private static final class Group {
+        Bot owner;
+        final List<Bot> joiners = new ArrayList<>();
+        final AtomicInteger left = new AtomicInteger(); // 게임 후 방을 나간 참여자 수
+    }
+
+    // --- 봇 하나 (연결 하나) ---
+
+    private final class Bot {
+        private final int id;
+        private final String baseRoomName;
+        private final boolean owner;
+        private final Group group;
+        private volatile String roomName; // 방장만: 지금 방 이름 (게임마다 새 방)
+        private int round = 0;            // 방장만
+
+        private Socket socket;
+        private OutputStream out;
+        private volatile MessageCodec codec = MessageCodec.DEFAULT;
+        // 가상 스레드에서 보내므로 synchronized 대신 사용
+        private final ReentrantLock sendLock = new ReentrantLock();
+
+        private volatile Team myTeam;
+        private volatile GameModel model;
+        private volatile boolean playing = false;
+        private volatile boolean bonusTime = false;
+        private volatile boolean startRequested = false;
+        private volatile boolean resyncPending = false;
+        // 보낸 입력 (서버는 연결별로 순서대로 처리/브로드캐스트하므로 FIFO로 짝을 맞춘다)
+        private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+        Bot(int id, String roomName, boolean owner, Group group) {
+            this.id = id;
+            this.baseRoomName = roomName;
+            this.roomName = roomName;
+            this.owner = owner;
+            this.group = group;
+        }
+
+        /** (방장) 지금 방을 나가고 새 방을 만든다 — 참여자가 모두 나간 뒤 호출 */
+        void nextRoom() {
+            roomName = baseRoomName + "-" + (++round);
+            send(new NetworkProtocol.Msg_C2S_LeaveRoom());
+            send(new NetworkProtocol.Msg_C2S_CreateRoom(roomName, "", options.gameSec(), Team.YELLOW, options.teamSize()));
+        }
+
+        boolean connect() {
+            try {
+                socket = new Socket();
+                socket.setTcpNoDelay(true);
+                socket.connect(new InetSocketAddress(options.host(), options.port()), CONNECT_TIMEOUT_MS);
+                out = new BufferedOutputStream(socket.getOutputStream());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                send(new NetworkProtocol.Msg_C2S_Handshake("bot" + id, List.of(options.codec().name(), MessageCodec.DEFAULT.name())));
+                connected.increment();
+                bots.add(this);
+                Thread.ofVirtual().name("bot-read-" + id).start(() -> readLoop(in));
+                Thread.ofVirtual().name("bot-type-" + id).start(this::typeLoop);
+                return true;
+            } catch (IOException e) {
+                connectFailures.increment();
+                return false;
+            }
+        }
+
+        void send(Serializable message) {
+            sendLock.lock();
+            try {
+                MessageFrames.write(out, MessageFrames.encode(codec, message));
+                sent.increment();
+            } catch (IOException e) {
+                // 끊김은 리더 스레드가 집계
+            } finally {
+                sendLock.unlock();
+            }
+        }
+
+        void close() {
+            try {
+                if (socket != null) socket.close();
+            } catch (IOException ignored) { }
+        }
+
+        private void readLoop(DataInputStream in) {
+            try {
+                while (true) {
+                    Object msg = MessageFrames.read(in);
+                    received.increment();
+                    handle(msg);
+                }
+            } catch (IOException e) {
+                if (!stopping) {
+                    disconnects.increment();
+                    System.err.println("부하봇: bot" + id + " 연결 끊김 - " + e.getMessage());
+                }
+            } finally {
+                playing = false;
+            }
+        }
+
+        private void handle(Object msg) {
+            if (msg instanceof NetworkProtocol.Msg_S2C_HandshakeAck m) {
+                MessageCodec agreed = MessageCodec.byName(m.codec());
+                codec = (agreed != null) ? agreed : MessageCodec.DEFAULT;
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_EnterWaitingRoom m) {
+                myTeam = m.myTeam();
+                startRequested = false;
+                if (owner) {
+                    for (Bot joiner : group.joiners) joiner.send(new NetworkProtocol.Msg_C2S_JoinRoom(roomName, ""));
+                }
+                send(new NetworkProtocol.Msg_C2S_ToggleReady(true));
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_PlayerListUpdated m) {
+                if (owner && !playing && !startRequested && m.players().size() == 2 * options.teamSize()
+                        && m.players().stream().allMatch(NetworkProtocol.PlayerInfo::ready)) {
+                    startRequested = true;
+                    send(new NetworkProtocol.Msg_C2S_StartGame());
+                }
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_RoomResponseFailure m) {
+                roomFailures.increment();
+                System.err.println("부하봇: bot" + id + " 방 요청 실패 - " + m.reason());
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_GameStart m) {
+                Board board = m.board();
+                WordPool wordPool = m.serverFlips() ? null : WordPool.fromBoard(board);
+                model = new GameModel(board, TokenIndex.fromBoard(board), m.secondsLeft(), 1, wordPool);
+                myTeam = m.assignedTeam();
+                bonusTime = false;
+                resyncPending = false;
+                playing = true;
+                if (owner) gamesStarted.increment();
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_FlipResult m) {
+                GameModel current = model;
+                if (current != null) current.applyFlips(m.team(), m.flips(), m.yellowScore(), m.blueScore());
+                if (m.team() == myTeam) matchPending(m.input());
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_BroadcastInput m) {
+                GameModel current = model;
+                if (current != null) current.flipByInput(m.team(), m.input());
+                if (m.team() == myTeam) matchPending(m.input());
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_Tick m) {
+                GameModel current = model;
+                if (current != null) current.setSecondsLeft(m.secondsLeft());
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_BoardHash m) {
+                // 클라이언트(GameFrame)와 같은 규칙: 어긋나면 응답이 올 때까지 한 번만 요청
+                GameModel current = model;
+                if (current != null && !resyncPending && (current.boardHash() != m.hash()
+                        || current.getScore(Team.YELLOW) != m.yellowScore() || current.getScore(Team.BLUE) != m.blueScore())) {
+                    resyncPending = true;
+                    resyncs.increment();
+                    send(new NetworkProtocol.Msg_C2S_ResyncRequest());
+                }
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_BoardResync m) {
+                GameModel current = model;
+                if (current != null) {
+                    current.applyResync(m.board(), m.yellowScore(), m.blueScore(), m.yellowFlips(), m.blueFlips(), m.wordCursor());
+                }
+                resyncPending = false;
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusSentenceResult m) {
+                GameModel current = model;
+                if (current != null && m.success()) current.addScore(m.team(), GameModel.BONUS_SENTENCE_SCORE);
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusTimeStart m) {
+                // 보너스 타임에는 서버가 단어 입력을 무시한다 → 응답 없는 입력 정리, 문장 하나 시도
+                bonusTime = true;
+                dropPending();
+                if (!m.sentences().isEmpty()) {
+                    String sentence = m.sentences().get(ThreadLocalRandom.current().nextInt(m.sentences().size()));
+                    send(new NetworkProtocol.Msg_C2S_SentenceInput(sentence, myTeam));
+                }
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_BonusTimeEnd) {
+                bonusTime = false;
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_GameOver) {
+                playing = false;
+                model = null;
+                dropPending();
+                // 참여자가 모두 나간 뒤 방장에게 새 방을 만들게 한다 (같은 연결의 송신 순서로 나가기 → 참여가 보장됨)
+                if (!owner) {
+                    send(new NetworkProtocol.Msg_C2S_LeaveRoom());
+                    if (group.left.incrementAndGet() == group.joiners.size()) {
+                        group.left.set(0);
+                        group.owner.nextRoom();
+                    }
+                }
+            } else if (msg instanceof NetworkProtocol.Msg_S2C_OpponentLeft
+                    || msg instanceof NetworkProtocol.Msg_S2C_ReturnToLobby) {
+                playing = false;
+                model = null;
+                dropPending();
+            }
+        }
+
+        /**
+         * 우리 팀 입력의 응답 수신 → 보낸 순서대로 짝을 맞춰 지연 기록.
+         * - 팀 방에서는 팀원의 입력 결과도 오므로, 내 대기열에 없는 입력은 무시한다.
+         */
+        private void matchPending(String input) {
+            long now = System.nanoTime();
+            boolean mine = false;
+            for (Pending p : pending) {
+                if (p.input().equals(input)) {
+                    mine = true;
+                    break;
+                }
+            }
+            if (!mine) return;
+            Pending p;
+            while ((p = pending.poll()) != null) {
+                if (p.input().equals(input)) {
+                    recordLatency((now - p.sentAt()) / 1000);
+                    return;
+                }
+                unanswered.increment(); // 서버가 버린 입력 (보너스 타임 경계 등)
+            }
+        }
+
+        private void dropPending() {
+            while (pending.poll() != null) unanswered.increment();
+        }
+
+        /** 포아송 간격으로 단어 입력 */
+        private void typeLoop() {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            double meanMs = 1000.0 / Math.max(0.001, options.rate());
+            try {
+                while (!stopping && !socket.isClosed()) {
+                    Thread.sleep((long) (-Math.log(1 - rnd.nextDouble()) * meanMs));
+                    GameModel current = model;
+                    if (!playing || bonusTime || current == null) continue;
+
+                    String word = (rnd.nextDouble() < options.missRatio())
+                            ? "빗나감" + rnd.nextInt(1000)
+                            : pickOpponentWord(current.board(), rnd);
+                    pending.add(new Pending(word, System.nanoTime()));
+                    inputs.increment();
+                    send(new NetworkProtocol.Msg_C2S_InputRequest(myTeam, word));
+                }
+            } catch (InterruptedException ignored) { }
+        }
+
+        /** 상대 팀 칸의 단어 (사람이 화면을 보고 치는 것처럼). 못 찾으면 아무 칸 */
+        private String pickOpponentWord(Board board, ThreadLocalRandom rnd) {
+            Team opponent = myTeam.opponent();
+            int cell = rnd.nextInt(board.size());
+            for (int tries = 0; tries < board.size() && board.owner(cell) != opponent; tries++) {
+                cell = (cell + 1) % board.size();
+            }
+            return board.token(cell);
+        }
+    }
+
+    private record Pending(String input, long sentAt) {}
+
+    /**
+     * 마이크로초 지연 히스토그램 (로그 구간, 상대 오차 약 3%).
+     * - 여러 리더 스레드가 잠금 없이 기록한다.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB = 32; // 2배 구간마다 나누는 칸 수
+        private final AtomicLongArray counts = new AtomicLongArray(64 * SUB);
+        private final LongAdder total = new LongAdder();
+
+        void record(long micros) {
+            counts.incrementAndGet(index(Math.max(0, micros)));
+            total.increment();
+        }
+
+        long count() {
+            return total.sum();
+        }
+
+        /** p 백분위 값 (해당 구간의 하한, 마이크로초) */
+        long percentile(double p) {
+            long n = count();
+            if (n == 0) return 0;
+            long rank = (long) Math.ceil(n * p / 100.0);
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) return lowerBound(i);
+            }
+            return max();
+        }
+
+        long max() {
+            for (int i = counts.length() - 1; i >= 0; i--) {
+                if (counts.get(i) > 0) return lowerBound(i);
+            }
+            return 0;
+        }
+
+        private static int index(long v) {
+            if (v < SUB) return (int) v;
+            int shift = 63 - Long.numberOfLeadingZeros(v) - 5; // v >> shift 는 [SUB, 2*SUB)
+            return (shift + 1) * SUB + (int) ((v >> shift) - SUB);
+        }
+
+        private static long lowerBound(int index) {
+            if (index < SUB) return index;
+            int shift = index / SUB - 1;
+            return (long) (index % SUB + SUB) << shift;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        new LoadBot(Options.fromArgs(args)).run();
+        System.exit(0);
+    }
+}
@@ -5,14 +5,29 @@ import java.awt.image.BufferedImage;
 
 /**
  * 메인 로비 화면. 프로필과 룸 목록을 보여준다.
+ * - 룸 목록은 서버에서 조건(빈 자리/대기중/이름 검색/정렬)에 맞는 페이지 단위로 받아오고,
+ *   스크롤이 끝에 가까워지면 다음 페이지를 요청한다.
+ * - 이미 받은 방은 로비 델타로 갱신한다. (아직 받지 않은 구간의 새 방은 그 페이지를 받을 때 보인다)
  */
 public class LobbyFrame extends JFrame {
 
+    private static final int PAGE_SIZE = 50;
+    private static final int PREFETCH_ROWS = 10; // 끝에서 이만큼 남으면 다음 페이지 요청
+
     private final GameClient client;
     private final String nickname;
     private JLabel statusLabel;
     private DefaultListModel<NetworkProtocol.RoomInfo> roomListModel;
     private JList<NetworkProtocol.RoomInfo> roomList;
+    private JScrollPane roomScroll;
+
+    // 페이지 조회 상태 (EDT 전용)
+    private NetworkProtocol.RoomFilter filter = NetworkProtocol.RoomFilter.ALL;
+    private int requestId = 0;             // 진행 중인 조회 번호 (이전 조회의 늦은 응답은 버린다)
+    private boolean firstPagePending = false;
+    private boolean loading = false;
+    private boolean hasMore = false;
+    private long roomListVersion = -1;     // 목록이 반영하고 있는 로비 버전
 
     public LobbyFrame(GameClient client, String nickname) {
         super("판 뒤집기 - 로비");
@@ -38,6 +53,8 @@ public class LobbyFrame extends JFrame {
                 client.stop();
             }
         });
+
+        reloadRooms();
     }
 
     private JPanel buildProfilePanel() {
@@ -93,7 +110,7 @@ public class LobbyFrame extends JFrame {
 
         JButton refreshButton = new JButton("새로고침");
         refreshButton.addActionListener(e -> {
-            client.requestRoomList();
+            reloadRooms();
             setStatus("서버에 연결되어 있습니다.", new Color(0, 200, 255));
         });
 
@@ -101,6 +118,7 @@ public class LobbyFrame extends JFrame {
         header.setOpaque(false);
         header.add(title, BorderLayout.WEST);
         header.add(refreshButton, BorderLayout.EAST);
+        header.add(buildFilterPanel(), BorderLayout.SOUTH);
 
         roomListModel = new DefaultListModel<>();
         roomList = new JList<>(roomListModel);
@@ -128,13 +146,17 @@ public class LobbyFrame extends JFrame {
         scrollPane.setOpaque(false);
         scrollPane.getViewport().setOpaque(false);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> loadMoreIfNeeded());
+        roomScroll = scrollPane;
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 4));
         buttonPanel.setOpaque(false);
         JButton createRoomBtn = new JButton("방 만들기");
         JButton joinRoomBtn = new JButton("방 참여");
+        JButton spectateBtn = new JButton("관전");
         buttonPanel.add(createRoomBtn);
         buttonPanel.add(joinRoomBtn);
+        buttonPanel.add(spectateBtn);
 
         createRoomBtn.addActionListener(e -> {
             CreateRoomDialog dialog = new CreateRoomDialog(this, client);
@@ -146,6 +168,13 @@ public class LobbyFrame extends JFrame {
             dialog.setVisible(true);
         });
 
+        // 목록에서 고른 방이 있으면 이름을 채워서 연다
+        spectateBtn.addActionListener(e -> {
+            NetworkProtocol.RoomInfo selected = roomList.getSelectedValue();
+            JoinRoomDialog dialog = new JoinRoomDialog(this, client, true, selected == null ? "" : selected.name());
+            dialog.setVisible(true);
+        });
+
         statusLabel = new JLabel("서버에 연결되어 있습니다.");
         statusLabel.setForeground(new Color(200, 215, 230));
 
@@ -161,25 +190,118 @@ public class LobbyFrame extends JFrame {
         return panel;
     }
 
-    public void setRooms(java.util.List<NetworkProtocol.RoomInfo> rooms) {
-        roomListModel.clear();
-        for (NetworkProtocol.RoomInfo r : rooms) {
+    private JPanel buildFilterPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 4));
+        panel.setOpaque(false);
+
+        JCheckBox openOnly = new JCheckBox("빈 자리만");
+        JCheckBox notPlaying = new JCheckBox("대기중만");
+        JComboBox<String> sort = new JComboBox<>(new String[]{"이름순", "이름 역순"});
+        JTextField search = new JTextField(12);
+        search.setToolTipText("방 이름 앞부분으로 검색 (Enter)");
+
+        for (JCheckBox box : new JCheckBox[]{openOnly, notPlaying}) {
+            box.setOpaque(false);
+            box.setForeground(new Color(200, 215, 230));
+        }
+        JLabel searchLabel = new JLabel("검색");
+        searchLabel.setForeground(new Color(200, 215, 230));
+
+        Runnable apply = () -> {
+            filter = new NetworkProtocol.RoomFilter(openOnly.isSelected(), notPlaying.isSelected(),
+                    search.getText().trim(), sort.getSelectedIndex() == 1);
+            reloadRooms();
+        };
+        openOnly.addActionListener(e -> apply.run());
+        notPlaying.addActionListener(e -> apply.run());
+        sort.addActionListener(e -> apply.run());
+        search.addActionListener(e -> apply.run());
+
+        panel.add(openOnly);
+        panel.add(notPlaying);
+        panel.add(sort);
+        panel.add(searchLabel);
+        panel.add(search);
+        return panel;
+    }
+
+    // --- 방 목록 페이지 조회 ---
+
+    /** 현재 조건으로 첫 페이지부터 다시 조회 (기존 목록은 첫 페이지가 도착하면 교체) */
+    private void reloadRooms() {
+        requestId++;
+        firstPagePending = true;
+        loading = true;
+        hasMore = false;
+        client.queryRooms(requestId, filter, null, PAGE_SIZE);
+    }
+
+    /** 스크롤이 끝에 가까우면 (또는 목록이 화면을 다 채우지 못하면) 다음 페이지 요청 */
+    private void loadMoreIfNeeded() {
+        if (loading || !hasMore) return;
+        if (roomListModel.isEmpty()) { // 받은 방이 델타로 모두 빠짐
+            reloadRooms();
+            return;
+        }
+        BoundedRangeModel bar = roomScroll.getVerticalScrollBar().getModel();
+        int rowHeight = Math.max(1, bar.getMaximum() / roomListModel.size());
+        if (bar.getValue() + bar.getExtent() < bar.getMaximum() - PREFETCH_ROWS * rowHeight) return;
+
+        loading = true;
+        String after = roomListModel.get(roomListModel.size() - 1).name();
+        client.queryRooms(requestId, filter, after, PAGE_SIZE);
+    }
+
+    /** (S2C) 조회 결과 한 페이지 */
+    public void onRoomPage(NetworkProtocol.Msg_S2C_RoomPage page) {
+        if (page.requestId() != requestId) return; // 조건이 바뀌기 전의 응답
+        if (firstPagePending) {
+            firstPagePending = false;
+            roomListVersion = page.version();
+            roomListModel.clear();
+        }
+        // 델타로 끼워 넣는 방은 받은 구간 안쪽뿐이므로, 다음 페이지(마지막 방 이후)와 겹치지 않는다
+        for (NetworkProtocol.RoomInfo r : page.rooms()) {
             roomListModel.addElement(r);
         }
-        if (!rooms.isEmpty()) {
+        loading = false;
+        hasMore = page.hasMore();
+        if (roomList.getSelectedIndex() < 0 && !roomListModel.isEmpty()) {
             roomList.setSelectedIndex(0);
         }
+        SwingUtilities.invokeLater(this::loadMoreIfNeeded);
     }
 
-    public void upsertRoom(NetworkProtocol.RoomInfo room) {
-        int idx = findIndex(room.name());
-        if (idx >= 0) {
-            roomListModel.setElementAt(room, idx);
-        } else {
-            roomListModel.addElement(room);
+    /** (S2C) 로비 델타: 받은 방만 갱신하고, 조건에서 벗어난 방은 빼고, 받은 구간 안의 새 방은 정렬 위치에 넣는다 */
+    public void applyRoomListDelta(NetworkProtocol.Msg_S2C_RoomListDelta delta) {
+        if (firstPagePending) return;                      // 첫 페이지가 이 델타보다 최신이다
+        if (delta.version() <= roomListVersion) return;
+        if (delta.baseVersion() != roomListVersion) {      // 중간 델타가 빠짐
+            reloadRooms();
+            return;
+        }
+        roomListVersion = delta.version();
+
+        for (String name : delta.removed()) {
+            removeRoom(name);
+        }
+        for (NetworkProtocol.RoomInfo room : delta.updated()) {
+            int idx = findIndex(room.name());
+            if (!filter.matches(room)) {
+                if (idx >= 0) roomListModel.remove(idx);
+            } else if (idx >= 0) {
+                roomListModel.setElementAt(room, idx);
+            } else if (!hasMore || (!roomListModel.isEmpty() && filter.compare(room.name(), roomListModel.lastElement().name()) < 0)) {
+                insertSorted(room);
+            }
+        }
+        if (roomList.getSelectedIndex() < 0 && !roomListModel.isEmpty()) {
+            roomList.setSelectedIndex(0);
         }
-        roomList.setSelectedIndex(roomListModel.size() - 1);
-        roomList.ensureIndexIsVisible(roomListModel.size() - 1);
+    }
+
+    private void insertSorted(NetworkProtocol.RoomInfo room) {
+        roomListModel.add(lowerBound(room.name()), room);
     }
 
     public void removeRoom(String roomName) {
@@ -199,13 +321,20 @@ public class LobbyFrame extends JFrame {
         return selected == null ? "" : selected.name();
     }
 
+    /** 목록은 항상 filter 정렬 순서를 유지하므로 이진 탐색 */
     private int findIndex(String roomName) {
-        for (int i = 0; i < roomListModel.size(); i++) {
-            if (roomListModel.get(i).name().equals(roomName)) {
-                return i;
-            }
+        int i = lowerBound(roomName);
+        return (i < roomListModel.size() && roomListModel.get(i).name().equals(roomName)) ? i : -1;
+    }
+
+    private int lowerBound(String roomName) {
+        int lo = 0, hi = roomListModel.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (filter.compare(roomListModel.get(mid).name(), roomName) < 0) lo = mid + 1;
+            else hi = mid;
         }
-        return -1;
+        return lo;
     }
 
     private Icon createAvatarIcon(int size) {
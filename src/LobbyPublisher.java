@@ -0,0 +1,178 @@
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로비 방 목록 구독/조회 관리.
+ * - 방 목록은 이름 순 인덱스(ConcurrentSkipListMap)에서 조건에 맞는 한 페이지씩만 잘라 보낸다. (queryPage)
+ * - 방 생성/참여/퇴장/게임 시작·종료는 roomChanged()로 "바뀐 방 이름"만 표시하고 바로 반환한다.
+ * - flushMs 간격으로 바뀐 방들을 하나의 버전 델타(Msg_S2C_RoomListDelta)로 묶어,
+ *   코덱별로 한 번만 인코딩한 같은 프레임을 모든 구독자에게 보낸다. (방 N개 x 클라이언트 M명 쓰기 → 주기당 M번)
+ * - 같은 주기 안에서 한 방이 여러 번 바뀌어도 최신 상태 하나만 나간다.
+ * - 송신 큐가 밀린 구독자에게는 델타를 더 쌓지 않고 건너뛴다. 밀림이 풀리면 다음 델타(바뀐 방이 없으면
+ *   현재 버전만 담은 빈 델타)를 보내고, 클라이언트는 baseVersion이 자기 버전과 다르므로 첫 페이지부터 다시 조회한다.
+ *   전체 목록은 어디에서도 보내지 않는다.
+ */
+public class LobbyPublisher {
+
+    /** 한 페이지 최대 방 수 (클라이언트가 더 크게 요청해도 잘라낸다) */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ConcurrentNavigableMap<String, GameRoom> rooms;
+    private final int lagDepth; // 송신 큐 깊이가 이 이상이면 밀린 구독자로 본다
+
+    private final ReentrantLock dirtyLock = new ReentrantLock();
+    private Set<String> dirty = new HashSet<>();
+
+    // 구독자 -> 델타를 건너뛰어 버전 표시가 필요한지 (publishLock 안에서만 접근)
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Map<ClientHandler, Boolean> subscribers = new HashMap<>();
+    private long version = 0;
+    private volatile boolean behindPending = false; // 버전 표시가 필요한 구독자가 있음 (바뀐 방이 없어도 flush)
+
+    // 지표
+    private long deltasPublished = 0;
+    private long deltasSkipped = 0;
+
+    public LobbyPublisher(ConcurrentNavigableMap<String, GameRoom> rooms, RoomScheduler scheduler, int flushMs, int outboundCapacity) {
+        this.rooms = rooms;
+        this.lagDepth = Math.max(1, outboundCapacity / 2);
+        scheduler.scheduleAtFixedRate(this::flush, flushMs, flushMs);
+    }
+
+    /** 구독 시작: 이후 델타를 받는다 (목록 자체는 클라이언트가 queryPage로 필요한 만큼 조회) */
+    public void subscribe(ClientHandler client) {
+        publishLock.lock();
+        try {
+            subscribers.put(client, false);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    public void unsubscribe(ClientHandler client) {
+        publishLock.lock();
+        try {
+            subscribers.remove(client);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 방을 afterName 다음부터 최대 limit개 조회.
+     * 이름 접두어는 인덱스 구간으로 바로 좁히고, 나머지 조건은 구간을 순회하며 거른다.
+     */
+    public void queryPage(ClientHandler client, NetworkProtocol.Msg_C2S_RoomQuery req) {
+        NetworkProtocol.RoomFilter filter = req.filter() == null ? NetworkProtocol.RoomFilter.ALL : req.filter();
+        int limit = Math.max(1, Math.min(req.limit(), MAX_PAGE_SIZE));
+
+        NavigableMap<String, GameRoom> range = rooms;
+        String prefix = filter.namePrefix();
+        if (prefix != null && !prefix.isEmpty()) {
+            range = rooms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+        if (filter.descending()) range = range.descendingMap();
+        if (req.afterName() != null) range = range.tailMap(req.afterName(), false);
+
+        // 델타 발행과 같은 락 안에서 만들고 큐에 넣으므로, 클라이언트는 항상 이 페이지(version) 다음에 version+1 델타를 받는다
+        publishLock.lock();
+        try {
+            List<NetworkProtocol.RoomInfo> page = new ArrayList<>(limit);
+            boolean hasMore = false;
+            for (GameRoom room : range.values()) {
+                NetworkProtocol.RoomInfo info = room.toRoomInfo();
+                if (!filter.matches(info)) continue;
+                if (page.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                page.add(info);
+            }
+            client.sendMessage(new NetworkProtocol.Msg_S2C_RoomPage(req.requestId(), version, page, hasMore));
+            if (subscribers.containsKey(client)) subscribers.put(client, false);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /** 방 정보가 바뀌었거나 방이 사라졌음을 표시 (다음 주기에 반영) */
+    public void roomChanged(String roomName) {
+        dirtyLock.lock();
+        try {
+            dirty.add(roomName);
+        } finally {
+            dirtyLock.unlock();
+        }
+    }
+
+    /** 방 타이머 스레드에서 flushMs마다 호출 */
+    private void flush() {
+        Set<String> changed;
+        dirtyLock.lock();
+        try {
+            if (dirty.isEmpty() && !behindPending) return;
+            changed = dirty;
+            dirty = new HashSet<>();
+        } finally {
+            dirtyLock.unlock();
+        }
+
+        publishLock.lock();
+        try {
+            SharedFrame delta;
+            if (changed.isEmpty()) {
+                // 바뀐 방 없이 밀렸던 구독자만 있음: 현재 버전만 알려 준다 (버전이 같은 클라이언트는 무시)
+                delta = new SharedFrame(new NetworkProtocol.Msg_S2C_RoomListDelta(version, version, List.of(), List.of()));
+            } else {
+                // 방 정보는 보내는 시점의 최신 상태로 만든다 (표시 후 사라진 방은 제거로 처리)
+                List<NetworkProtocol.RoomInfo> updated = new ArrayList<>();
+                List<String> removed = new ArrayList<>();
+                for (String name : changed) {
+                    GameRoom room = rooms.get(name);
+                    if (room != null) {
+                        updated.add(room.toRoomInfo());
+                    } else {
+                        removed.add(name);
+                    }
+                }
+                long base = version++;
+                deltasPublished++;
+                delta = new SharedFrame(new NetworkProtocol.Msg_S2C_RoomListDelta(base, version, updated, removed));
+            }
+
+            boolean anyBehind = false;
+            for (Map.Entry<ClientHandler, Boolean> e : subscribers.entrySet()) {
+                ClientHandler client = e.getKey();
+                if (client.outboundStats().depth() >= lagDepth) {
+                    // 밀린 구독자에게는 더 쌓지 않는다 (풀리면 버전 차이로 첫 페이지부터 다시 조회)
+                    if (!changed.isEmpty()) {
+                        e.setValue(true);
+                        deltasSkipped++;
+                    }
+                } else if (changed.isEmpty() && !e.getValue()) {
+                    continue;
+                } else if (client.sendShared(delta) == OutboundQueue.Result.DROPPED) {
+                    e.setValue(true); // 델타가 빠졌으니 다음 주기에 버전을 다시 알린다
+                    deltasSkipped++;
+                } else {
+                    e.setValue(false);
+                }
+                anyBehind |= e.getValue();
+            }
+            behindPending = anyBehind;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        publishLock.lock();
+        try {
+            return "구독자 " + subscribers.size() + "명, 버전 " + version + ", 델타 " + deltasPublished + "회, 델타 건너뜀 " + deltasSkipped + "회";
+        } finally {
+            publishLock.unlock();
+        }
+    }
+}
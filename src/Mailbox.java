@@ -0,0 +1,82 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 하나의 이벤트 큐 (액터 우편함)
+ * - 어느 스레드에서나 넣을 수 있고, 넣은 순서대로 한 번에 하나씩 공용 실행기에서 실행한다.
+ *   그래서 방 상태는 잠금 없이 그 순간 우편함을 처리 중인 스레드("방 스레드") 하나만 만진다.
+ * - 처리 중이 아닐 때만 실행기에 처리 작업을 하나 넣으므로, 방이 수천 개여도 스레드 수는 실행기 크기 그대로다.
+ * - 한 번에 BATCH개까지만 처리하고 남으면 실행기에 다시 넣는다 (바쁜 방 하나가 실행기 스레드를 붙잡지 않도록).
+ * - 멈춘 상태로 만들 수 있다: start() 전에 넣은 이벤트는 쌓아 두기만 한다 (방을 목록에 등록하기 전의 방장 입장).
+ */
+public final class Mailbox implements Executor {
+
+    private static final int BATCH = 64;
+
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1; // 처리 작업이 실행기에 들어갔거나 처리 중
+    private static final int HELD = 2;      // start() 전
+
+    private final String name;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public Mailbox(String name, Executor executor, boolean held) {
+        this.name = name;
+        this.executor = executor;
+        this.state = new AtomicInteger(held ? HELD : IDLE);
+    }
+
+    /** 이벤트를 넣고 바로 반환 (방 스레드에서 넣으면 지금 처리 중인 이벤트 다음에 실행) */
+    @Override
+    public void execute(Runnable event) {
+        pending.incrementAndGet();
+        queue.offer(event);
+        trySchedule();
+    }
+
+    /** 멈춘 우편함을 풀어 쌓인 이벤트부터 처리 */
+    public void start() {
+        if (state.compareAndSet(HELD, IDLE) && !queue.isEmpty()) trySchedule();
+    }
+
+    /** 아직 처리하지 않은 이벤트 수 */
+    public int pending() {
+        return pending.get();
+    }
+
+    private void trySchedule() {
+        if (!state.compareAndSet(IDLE, SCHEDULED)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            state.set(IDLE);
+            System.err.println("서버: 방[" + name + "] 이벤트 실행 거부 - " + e.getMessage());
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH; i++) {
+                Runnable event = queue.poll();
+                if (event == null) break;
+                pending.decrementAndGet();
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    // 이벤트 하나의 오류로 방 전체가 멈추지 않도록 기록만 하고 계속
+                    System.err.println("서버: 방[" + name + "] 이벤트 처리 오류 - " + e);
+                    e.printStackTrace();
+                }
+            }
+        } finally {
+            state.set(IDLE);
+        }
+        // IDLE로 바꾸기 직전에 들어온 이벤트는 넣은 쪽의 예약이 실패했으므로 여기서 다시 예약
+        if (!queue.isEmpty()) trySchedule();
+    }
+}
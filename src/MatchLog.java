@@ -0,0 +1,254 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경기 기록 (추가 전용 이벤트 로그)
+ * - 게임 하나 = 파일 하나 (dir/방이름-시작시각.fliplog). 시작 상태(보드, 단어 순서, 점수) 뒤에
+ *   받아들인 입력, 보너스 문장/결과, 검증 해시, 종료를 일어난 순서대로 붙인다. MatchReplay가 읽는다.
+ * - 방 스레드(GameRoom 액터)는 이벤트를 작은 byte[]로 인코딩해 큐에 넣기만 하고, 파일 쓰기는 기록 스레드 하나가 맡는다.
+ * - 큐가 가득 차면 그 경기의 나머지 이벤트는 버린다 (게임을 기다리게 하지 않음). 종료 이벤트가 없는 파일은 중단된 기록이다.
+ * - 오래 이벤트가 없어 닫은 파일은 다음 이벤트가 오면 이어 붙여 다시 연다 (처음부터 다시 쓰지 않음).
+ * - 파일 형식: "FLIPLOG1" + 레코드들 — 레코드 = [varint 길이][1바이트 종류][필드], 필드 인코딩은 BinaryCodec과 같다.
+ */
+public class MatchLog {
+
+    static final byte[] MAGIC = "FLIPLOG1".getBytes(StandardCharsets.US_ASCII);
+
+    // --- 이벤트 종류 — 한 번 정한 번호는 바꾸지 않는다 ---
+    /** 방 이름, 팀 인원, 판정 방식, 시작 시각, 게임 시간, 입력당 최대 뒤집기, 보드 seed, 보드, 점수/뒤집기 수, 단어 위치, 단어 순서 */
+    static final byte EV_START = 1;
+    /** 틱, 시작 후 ms, 팀, 입력, 뒤집힌 칸 수 */
+    static final byte EV_INPUT = 2;
+    /** 틱, 보드 해시, 노랑/파랑 점수 (클라이언트에 보낸 검증 해시와 같은 시점) */
+    static final byte EV_CHECKPOINT = 3;
+    /** 틱, 보너스 문장들 */
+    static final byte EV_BONUS_START = 4;
+    /** 틱, 팀, 문장, 성공 여부 */
+    static final byte EV_BONUS_RESULT = 5;
+    /** 틱 */
+    static final byte EV_BONUS_END = 6;
+    /** 틱, 노랑/파랑 점수 */
+    static final byte EV_END = 7;
+
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final long IDLE_FLUSH_MS = 1000;
+    private static final long STALE_CLOSE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    /** 기록 스레드로 넘기는 레코드 하나 (last면 파일을 닫는다) */
+    private record Chunk(Recorder owner, byte[] payload, boolean last) {}
+
+    private final Path dir;
+    private final ArrayBlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** 기록하지 않는 경우 (dir이 비어 있음) 에 쓰는 빈 기록기 */
+    private static final Recorder DISABLED = new Recorder(null, null);
+
+    /** dir이 null이거나 비어 있으면 기록하지 않는다 */
+    public MatchLog(String dir) {
+        this.dir = (dir == null || dir.isBlank()) ? null : Path.of(dir);
+        if (this.dir != null) {
+            Thread t = new Thread(this::writerLoop, "match-log");
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    public boolean enabled() {
+        return dir != null;
+    }
+
+    /** 게임 시작 시 (방 스레드에서) 시작 상태를 기록하고 그 경기의 기록기를 돌려준다 */
+    public Recorder begin(String roomName, int teamSize, ServerConfig.FlipSync flipSync, GameModel model, int seconds) {
+        if (dir == null) return DISABLED;
+        String safeName = roomName.replaceAll("[^0-9A-Za-z가-힣_-]", "_");
+        Path file = dir.resolve(safeName + "-" + LocalDateTime.now().format(FILE_TIME) + ".fliplog");
+        Recorder rec = new Recorder(this, file);
+        Board board = model.board();
+        List<String> words = model.wordOrder();
+        BinaryCodec.Writer w = new BinaryCodec.Writer(256 + board.size() * 2 + words.size() * 8)
+                .tag(EV_START).string(roomName).varUInt(teamSize).string(flipSync.name())
+                .varLong(System.currentTimeMillis()).varUInt(seconds).varUInt(model.maxFlipPerInput())
+                .varLong(WordPool.computeSeed(board)).compactBoard(board)
+                .varInt(model.getScore(Team.YELLOW)).varInt(model.getScore(Team.BLUE))
+                .varInt(model.getFlips(Team.YELLOW)).varInt(model.getFlips(Team.BLUE))
+                .varUInt(model.wordCursor()).stringList(words);
+        files.incrementAndGet();
+        rec.emit(w, false);
+        return rec;
+    }
+
+    /**
+     * 경기 하나의 기록기. 방 스레드에서만 호출하므로 이벤트 순서가 게임 상태 변경 순서와 같다.
+     * - tick: 게임 시작 후 지난 초 (남은 시간 기준)
+     */
+    public static final class Recorder {
+        private final MatchLog log;
+        private final Path file;
+        private final long startNanos = System.nanoTime();
+        private volatile boolean truncated = false;
+        private boolean created = false; // 파일을 만들고 MAGIC을 썼는지 (기록 스레드에서만 접근)
+
+        private Recorder(MatchLog log, Path file) {
+            this.log = log;
+            this.file = file;
+        }
+
+        public void input(int tick, Team team, String input, int flips) {
+            if (log == null) return;
+            int offsetMs = (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            emit(new BinaryCodec.Writer(16 + input.length() * 3)
+                    .tag(EV_INPUT).varUInt(tick).varUInt(offsetMs).team(team).string(input).varUInt(flips), false);
+        }
+
+        public void checkpoint(int tick, long hash, int yellowScore, int blueScore) {
+            if (log == null) return;
+            emit(new BinaryCodec.Writer(24).tag(EV_CHECKPOINT).varUInt(tick).varLong(hash)
+                    .varInt(yellowScore).varInt(blueScore), false);
+        }
+
+        public void bonusStart(int tick, List<String> sentences) {
+            if (log == null) return;
+            emit(new BinaryCodec.Writer(64).tag(EV_BONUS_START).varUInt(tick).stringList(sentences), false);
+        }
+
+        public void bonusResult(int tick, Team team, String sentence, boolean success) {
+            if (log == null) return;
+            emit(new BinaryCodec.Writer(32).tag(EV_BONUS_RESULT).varUInt(tick).team(team).string(sentence).bool(success), false);
+        }
+
+        public void bonusEnd(int tick) {
+            if (log == null) return;
+            emit(new BinaryCodec.Writer(8).tag(EV_BONUS_END).varUInt(tick), false);
+        }
+
+        /** 경기 종료 (파일을 닫는다) */
+        public void end(int tick, int yellowScore, int blueScore) {
+            if (log == null) return;
+            emit(new BinaryCodec.Writer(16).tag(EV_END).varUInt(tick).varInt(yellowScore).varInt(blueScore), true);
+        }
+
+        private void emit(BinaryCodec.Writer w, boolean last) {
+            if (truncated) return;
+            if (log.queue.offer(new Chunk(this, w.toByteArray(), last))) {
+                log.events.incrementAndGet();
+                return;
+            }
+            truncated = true;
+            log.dropped.incrementAndGet();
+            System.err.println("서버: 경기 기록 큐가 가득 차 이후 기록을 버립니다 - " + file.getFileName());
+        }
+    }
+
+    // --- 기록 스레드 ---
+
+    private static final class OpenFile {
+        final OutputStream out;
+        long lastWriteNanos = System.nanoTime();
+
+        OpenFile(OutputStream out) {
+            this.out = out;
+        }
+    }
+
+    private void writerLoop() {
+        Map<Recorder, OpenFile> open = new HashMap<>();
+        byte[] lenBuf = new byte[5];
+        while (true) {
+            Chunk c;
+            try {
+                c = queue.poll(IDLE_FLUSH_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (c == null) {
+                flushIdle(open);
+                continue;
+            }
+            OpenFile f = open.get(c.owner());
+            if (f == null && c.owner().truncated) continue; // 쓰기 실패로 닫은 파일을 다시 만들지 않음
+            try {
+                if (f == null) {
+                    Recorder owner = c.owner();
+                    if (owner.created) { // 멈춰서 닫았던 파일: 뒤에 이어 쓴다
+                        f = new OpenFile(new BufferedOutputStream(Files.newOutputStream(owner.file, StandardOpenOption.APPEND), 64 * 1024));
+                    } else {
+                        Files.createDirectories(dir);
+                        f = new OpenFile(new BufferedOutputStream(Files.newOutputStream(owner.file), 64 * 1024));
+                        f.out.write(MAGIC);
+                        owner.created = true;
+                    }
+                    open.put(owner, f);
+                }
+                int n = 0, v = c.payload().length;
+                while ((v & ~0x7F) != 0) {
+                    lenBuf[n++] = (byte) ((v & 0x7F) | 0x80);
+                    v >>>= 7;
+                }
+                lenBuf[n++] = (byte) v;
+                f.out.write(lenBuf, 0, n);
+                f.out.write(c.payload());
+                f.lastWriteNanos = System.nanoTime();
+                if (c.last()) {
+                    open.remove(c.owner());
+                    f.out.close();
+                }
+            } catch (IOException e) {
+                System.err.println("서버: 경기 기록 쓰기 실패 - " + c.owner().file + ": " + e.getMessage());
+                open.remove(c.owner());
+                if (f != null) closeQuietly(f);
+                c.owner().truncated = true; // 이후 이벤트는 버림 (기록 스레드에서 바꾸므로 조금 늦게 반영될 수 있다)
+            }
+        }
+    }
+
+    /** 큐가 잠시 비면 버퍼를 내려 쓰고, 종료 이벤트 없이 오래 멈춘 파일은 닫는다 (다음 이벤트가 오면 이어 쓰기로 다시 연다) */
+    private void flushIdle(Map<Recorder, OpenFile> open) {
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<Recorder, OpenFile>> it = open.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Recorder, OpenFile> e = it.next();
+            try {
+                e.getValue().out.flush();
+                if (now - e.getValue().lastWriteNanos > STALE_CLOSE_NANOS) {
+                    e.getValue().out.close();
+                    it.remove();
+                }
+            } catch (IOException ex) {
+                System.err.println("서버: 경기 기록 쓰기 실패 - " + e.getKey().file + ": " + ex.getMessage());
+                it.remove();
+                closeQuietly(e.getValue());
+                e.getKey().truncated = true; // 버퍼에 있던 이벤트가 빠졌으니 이어 쓰지 않는다
+            }
+        }
+    }
+
+    /** 쓰기에 실패한 파일을 닫아 핸들과 버퍼를 놓아줌 (닫기 오류는 무시) */
+    private static void closeQuietly(OpenFile f) {
+        try {
+            f.out.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public String toString() {
+        return dir == null ? "꺼짐" : "파일 " + files.get() + "개, 이벤트 " + events.get() + "개, 버림 " + dropped.get() + " (" + dir + ")";
+    }
+}
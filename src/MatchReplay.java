@@ -0,0 +1,220 @@
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경기 기록(MatchLog) 재생기 — 화면 없이 GameModel만 다시 돌린다.
+ * - 시작 보드/단어 순서/점수로 새 모델을 만들고, 기록된 입력을 같은 순서로 flipByInput에 다시 넣는다.
+ *   버킷 순서와 단어 순서가 보드 내용만으로 정해지므로 서버가 계산한 결과와 같아야 한다.
+ * - stateAt(tick): 그 틱까지의 이벤트만 반영한 모델 (분쟁 확인용)
+ * - verify(): 끝까지 재생하며 입력별 뒤집힌 칸 수, 검증 해시, 최종 점수를 기록과 비교
+ * - 기록 파일 묶음은 그대로 성능 회귀 측정용 입력이 된다 (--repeat로 반복 재생 시간 측정).
+ *
+ * 사용 예) java MatchReplay matches/방1-20250101-120000-000.fliplog --tick=30
+ *         java MatchReplay matches/*.fliplog --repeat=200
+ */
+public class MatchReplay {
+
+    /** 경기 시작 정보 */
+    public record Header(String roomName, int teamSize, String flipSync, long startedAtMillis, int seconds,
+                         int maxFlipPerInput, long seed) {}
+
+    /** 기록된 이벤트 (tick: 게임 시작 후 지난 초) */
+    public sealed interface Event permits Input, Checkpoint, BonusStart, BonusResult, BonusEnd, End {
+        int tick();
+    }
+    public record Input(int tick, int offsetMs, Team team, String input, int flips) implements Event {}
+    public record Checkpoint(int tick, long hash, int yellowScore, int blueScore) implements Event {}
+    public record BonusStart(int tick, List<String> sentences) implements Event {}
+    public record BonusResult(int tick, Team team, String sentence, boolean success) implements Event {}
+    public record BonusEnd(int tick) implements Event {}
+    public record End(int tick, int yellowScore, int blueScore) implements Event {}
+
+    /** 끝까지 재생한 결과 (problems가 비어 있으면 기록과 일치) */
+    public record Verification(int inputs, int flips, List<String> problems, GameModel finalState, long nanos) {
+        public boolean ok() { return problems.isEmpty(); }
+    }
+
+    private final Header header;
+    private final Board startBoard;
+    private final int[] startScores;  // 노랑 점수, 파랑 점수, 노랑 뒤집기, 파랑 뒤집기
+    private final int wordCursor;
+    private final List<String> wordOrder;
+    private final List<Event> events;
+
+    private MatchReplay(Header header, Board startBoard, int[] startScores, int wordCursor, List<String> wordOrder, List<Event> events) {
+        this.header = header;
+        this.startBoard = startBoard;
+        this.startScores = startScores;
+        this.wordCursor = wordCursor;
+        this.wordOrder = wordOrder;
+        this.events = events;
+    }
+
+    public Header header() { return header; }
+    public List<Event> events() { return events; }
+
+    /** 기록이 종료 이벤트로 끝나는지 (아니면 서버 중단/큐 넘침으로 잘린 기록) */
+    public boolean complete() {
+        return !events.isEmpty() && events.get(events.size() - 1) instanceof End;
+    }
+
+    public static MatchReplay read(Path file) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        int magic = MatchLog.MAGIC.length;
+        if (data.length < magic || !Arrays.equals(data, 0, magic, MatchLog.MAGIC, 0, magic)) {
+            throw new StreamCorruptedException("경기 기록 파일이 아닙니다: " + file);
+        }
+        BinaryCodec.Reader records = new BinaryCodec.Reader(data, magic, data.length - magic);
+
+        Header header = null;
+        Board board = null;
+        int[] scores = null;
+        int cursor = 0;
+        List<String> words = null;
+        List<Event> events = new ArrayList<>();
+        while (records.remaining() > 0) {
+            BinaryCodec.Reader r;
+            try {
+                r = records.slice(records.count());
+            } catch (IOException e) {
+                break; // 마지막 레코드가 쓰다 만 상태 (서버 중단) — 그 앞까지만 쓴다
+            }
+            byte type = r.tag();
+            if (header == null && type != MatchLog.EV_START) {
+                throw new StreamCorruptedException("시작 이벤트가 없습니다: " + file);
+            }
+            switch (type) {
+                case MatchLog.EV_START -> {
+                    header = new Header(r.string(), r.varUInt(), r.string(), r.varLong(), r.varUInt(), r.varUInt(), r.varLong());
+                    board = r.compactBoard();
+                    scores = new int[]{r.varInt(), r.varInt(), r.varInt(), r.varInt()};
+                    cursor = r.varUInt();
+                    words = r.stringList();
+                }
+                case MatchLog.EV_INPUT -> events.add(new Input(r.varUInt(), r.varUInt(), r.team(), r.string(), r.varUInt()));
+                case MatchLog.EV_CHECKPOINT -> events.add(new Checkpoint(r.varUInt(), r.varLong(), r.varInt(), r.varInt()));
+                case MatchLog.EV_BONUS_START -> events.add(new BonusStart(r.varUInt(), r.stringList()));
+                case MatchLog.EV_BONUS_RESULT -> events.add(new BonusResult(r.varUInt(), r.team(), r.string(), r.bool()));
+                case MatchLog.EV_BONUS_END -> events.add(new BonusEnd(r.varUInt()));
+                case MatchLog.EV_END -> events.add(new End(r.varUInt(), r.varInt(), r.varInt()));
+                default -> { } // 나중에 추가된 종류는 건너뜀 (길이로 구분되므로 뒤 레코드는 그대로 읽힌다)
+            }
+        }
+        if (header == null) throw new StreamCorruptedException("빈 경기 기록: " + file);
+        return new MatchReplay(header, board, scores, cursor, words, List.copyOf(events));
+    }
+
+    /** 시작 상태의 새 모델 (시작 보드는 복사해서 쓰므로 여러 번 재생해도 된다) */
+    private GameModel startModel() {
+        Board board = new Board(startBoard.rows(), startBoard.cols());
+        TokenDictionary dict = board.dictionary();
+        for (int i = 0; i < startBoard.size(); i++) {
+            board.set(i, startBoard.owner(i), dict.intern(startBoard.token(i)));
+        }
+        GameModel model = new GameModel(board, TokenIndex.fromBoard(board), header.seconds(), header.maxFlipPerInput(),
+                WordPool.inOrder(board, wordOrder));
+        // 점수/뒤집기 수/단어 위치는 재동기화 경로로 맞춘다 (같은 보드라 칸은 그대로)
+        model.applyResync(board, startScores[0], startScores[1], startScores[2], startScores[3], wordCursor);
+        return model;
+    }
+
+    /** tick초까지 (그 틱에 기록된 이벤트 포함) 반영한 모델 */
+    public GameModel stateAt(int tick) {
+        return run(tick, null);
+    }
+
+    /** 끝까지 재생하며 기록과 비교 */
+    public Verification verify() {
+        List<String> problems = new ArrayList<>();
+        long t0 = System.nanoTime();
+        GameModel model = run(Integer.MAX_VALUE, problems);
+        long nanos = System.nanoTime() - t0;
+        int inputs = 0;
+        for (Event e : events) if (e instanceof Input) inputs++;
+        if (!complete()) problems.add("종료 이벤트 없음 (잘린 기록)");
+        return new Verification(inputs, model.getFlips(Team.YELLOW) + model.getFlips(Team.BLUE), problems, model, nanos);
+    }
+
+    private GameModel run(int untilTick, List<String> problems) {
+        GameModel model = startModel();
+        int lastTick = 0;
+        for (Event e : events) {
+            if (e.tick() > untilTick) break;
+            lastTick = e.tick();
+            if (e instanceof Input in) {
+                int flipped = model.flipByInput(in.team(), in.input()).size();
+                if (problems != null && flipped != in.flips()) {
+                    problems.add(in.tick() + "초 입력 '" + in.input() + "' (" + in.team() + "): 기록 " + in.flips() + "칸, 재생 " + flipped + "칸");
+                }
+            } else if (e instanceof BonusResult br) {
+                if (br.success()) model.addScore(br.team(), GameModel.BONUS_SENTENCE_SCORE);
+            } else if (e instanceof Checkpoint cp) {
+                if (problems != null && (model.boardHash() != cp.hash()
+                        || model.getScore(Team.YELLOW) != cp.yellowScore() || model.getScore(Team.BLUE) != cp.blueScore())) {
+                    problems.add(cp.tick() + "초 검증 해시/점수 불일치");
+                }
+            } else if (e instanceof End end) {
+                if (problems != null && (model.getScore(Team.YELLOW) != end.yellowScore() || model.getScore(Team.BLUE) != end.blueScore())) {
+                    problems.add("최종 점수 불일치: 기록 " + end.yellowScore() + "/" + end.blueScore()
+                            + ", 재생 " + model.getScore(Team.YELLOW) + "/" + model.getScore(Team.BLUE));
+                }
+            }
+        }
+        model.setSecondsLeft(header.seconds() - (untilTick == Integer.MAX_VALUE ? lastTick : untilTick));
+        return model;
+    }
+
+    /** 실행 인자: 기록 파일들 [--tick=N] [--repeat=N] */
+    public static void main(String[] args) throws IOException {
+        int tick = -1;
+        int repeat = 1;
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--tick=")) tick = Integer.parseInt(arg.substring("--tick=".length()));
+            else if (arg.startsWith("--repeat=")) repeat = Math.max(1, Integer.parseInt(arg.substring("--repeat=".length())));
+            else files.add(Path.of(arg));
+        }
+        if (files.isEmpty()) {
+            System.err.println("사용법: java MatchReplay <기록 파일>... [--tick=N] [--repeat=N]");
+            return;
+        }
+
+        List<MatchReplay> replays = new ArrayList<>();
+        int failed = 0;
+        for (Path file : files) {
+            MatchReplay replay = read(file);
+            replays.add(replay);
+            Header h = replay.header();
+            Verification v = replay.verify();
+            System.out.println("재생: " + file.getFileName() + " [" + h.roomName() + ", " + h.teamSize() + "대" + h.teamSize()
+                    + ", " + h.flipSync() + "] 이벤트 " + replay.events().size() + "개, 입력 " + v.inputs()
+                    + "개, 최종 " + v.finalState().getScore(Team.YELLOW) + "/" + v.finalState().getScore(Team.BLUE)
+                    + (v.ok() ? " - 기록과 일치" : " - 불일치 " + v.problems().size() + "건"));
+            for (String p : v.problems().subList(0, Math.min(5, v.problems().size()))) System.out.println("  " + p);
+            if (!v.ok()) failed++;
+            if (tick >= 0) {
+                GameModel at = replay.stateAt(tick);
+                System.out.println("  " + tick + "초 시점: 노랑 " + at.getScore(Team.YELLOW) + "점/" + at.getFlips(Team.YELLOW)
+                        + "판, 파랑 " + at.getScore(Team.BLUE) + "점/" + at.getFlips(Team.BLUE) + "판, 보드 해시 "
+                        + Long.toHexString(at.boardHash()));
+            }
+        }
+
+        if (repeat > 1) {
+            long inputs = 0;
+            long t0 = System.nanoTime();
+            for (int i = 0; i < repeat; i++) {
+                for (MatchReplay replay : replays) inputs += replay.verify().inputs();
+            }
+            double ms = (System.nanoTime() - t0) / 1e6;
+            System.out.printf("재생 성능: %d회 x %d경기, 입력 %d개, %.1f ms (입력당 %.0f ns)%n",
+                    repeat, replays.size(), inputs, ms, ms * 1e6 / Math.max(1, inputs));
+        }
+        if (failed > 0) System.exit(1);
+    }
+}
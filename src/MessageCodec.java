@@ -0,0 +1,53 @@
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * NetworkProtocol 메시지 ↔ 바이트 변환기.
+ * - 프레임 본문 첫 바이트에 codec id가 실리므로, 수신 측은 어떤 코덱으로 인코딩됐든 디코딩할 수 있다.
+ * - 송신 코덱은 Msg_C2S_Handshake / Msg_S2C_HandshakeAck 으로 협상한다.
+ */
+public interface MessageCodec {
+
+    /** 프레임에 기록되는 코덱 식별자 */
+    byte id();
+
+    /** 핸드셰이크에서 쓰는 코덱 이름 */
+    String name();
+
+    byte[] encode(Serializable message) throws IOException;
+
+    Object decode(byte[] buf, int off, int len) throws IOException;
+
+    // --- 등록된 코덱 ---
+
+    /** 협상 전(핸드셰이크)과 폴백에 쓰는 기본 코덱 */
+    MessageCodec DEFAULT = JavaSerialCodec.INSTANCE;
+
+    List<MessageCodec> ALL = List.of(JavaSerialCodec.INSTANCE, BinaryCodec.INSTANCE);
+
+    static MessageCodec byId(byte id) {
+        for (MessageCodec c : ALL) {
+            if (c.id() == id) return c;
+        }
+        return null;
+    }
+
+    static MessageCodec byName(String name) {
+        for (MessageCodec c : ALL) {
+            if (c.name().equalsIgnoreCase(name)) return c;
+        }
+        return null;
+    }
+
+    /** 클라이언트가 선호 순으로 보낸 목록 중 서버가 지원하는 첫 코덱 (없으면 기본 코덱) */
+    static MessageCodec negotiate(List<String> preferred) {
+        if (preferred != null) {
+            for (String name : preferred) {
+                MessageCodec c = byName(name);
+                if (c != null) return c;
+            }
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,57 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+
+/**
+ * 메시지 프레이밍 유틸.
+ * - 한 프레임 = [4바이트 길이(big-endian)] + [1바이트 codec id] + [코덱이 인코딩한 메시지 바이트]
+ * - blocking 소켓과 NIO 채널이 같은 형식을 쓰므로, 클라이언트는 서버 전송 모드와 무관하게 접속할 수 있다.
+ * - 메시지마다 독립적으로 인코딩하므로 스트림 상태가 누적되지 않는다 (기존 oos.reset()과 같은 효과).
+ */
+public final class MessageFrames {
+
+    /** 길이 헤더 크기 */
+    public static final int HEADER_BYTES = 4;
+    /** 비정상 클라이언트로부터 서버 메모리를 지키기 위한 최대 프레임 크기 */
+    public static final int MAX_FRAME_BYTES = 1 << 20;
+
+    private MessageFrames() {}
+
+    /** 메시지를 주어진 코덱으로 인코딩해 길이 헤더가 붙은 완성된 프레임으로 반환 */
+    public static byte[] encode(MessageCodec codec, Serializable message) throws IOException {
+        byte[] payload = codec.encode(message);
+        byte[] frame = new byte[HEADER_BYTES + 1 + payload.length];
+        ByteBuffer.wrap(frame).putInt(0, 1 + payload.length);
+        frame[HEADER_BYTES] = codec.id();
+        System.arraycopy(payload, 0, frame, HEADER_BYTES + 1, payload.length);
+        return frame;
+    }
+
+    /** 프레임 본문(길이 헤더 제외)을 codec id에 맞는 코덱으로 디코딩 */
+    public static Object decode(byte[] buf, int off, int len) throws IOException {
+        if (len < 1) throw new StreamCorruptedException("빈 프레임");
+        MessageCodec codec = MessageCodec.byId(buf[off]);
+        if (codec == null) throw new StreamCorruptedException("알 수 없는 코덱 id: " + buf[off]);
+        return codec.decode(buf, off + 1, len - 1);
+    }
+
+    /** blocking 스트림에서 프레임 하나를 읽어 메시지로 반환 (EOF면 EOFException) */
+    public static Object read(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        checkLength(len);
+        byte[] body = new byte[len];
+        in.readFully(body);
+        return decode(body, 0, len);
+    }
+
+    /** blocking 스트림에 완성된 프레임을 기록하고 flush */
+    public static void write(OutputStream out, byte[] frame) throws IOException {
+        out.write(frame);
+        out.flush();
+    }
+
+    public static void checkLength(int len) throws IOException {
+        if (len < 0 || len > MAX_FRAME_BYTES) {
+            throw new StreamCorruptedException("잘못된 프레임 길이: " + len);
+        }
+    }
+}
@@ -10,22 +10,47 @@ public class NetworkProtocol {
     public record RoomInfo(String name, int seconds, int currentPlayers, int maxPlayers, boolean playing) implements Serializable {}
     public record PlayerInfo(String nickname, Team team, boolean ready, boolean owner) implements Serializable {}
 
+    /**
+     * 로비 방 목록 조회 조건. 서버는 방 이름 순 인덱스에서 이 조건으로 페이지를 잘라 보내고,
+     * 클라이언트는 같은 조건으로 델타를 걸러 이미 받은 목록에 반영한다.
+     */
+    public record RoomFilter(boolean openOnly, boolean notPlaying, String namePrefix, boolean descending) implements Serializable {
+        public static final RoomFilter ALL = new RoomFilter(false, false, "", false);
+
+        public boolean matches(RoomInfo r) {
+            if (openOnly && r.currentPlayers() >= r.maxPlayers()) return false;
+            if (notPlaying && r.playing()) return false;
+            return namePrefix == null || namePrefix.isEmpty() || r.name().startsWith(namePrefix);
+        }
+
+        /** 목록 정렬 순서 (이름 오름차순, descending이면 내림차순) */
+        public int compare(String a, String b) {
+            return descending ? b.compareTo(a) : a.compareTo(b);
+        }
+    }
+
     // --- C -> S (클라이언트 -> 서버) ---
 
-    /** 첫 연결 후 닉네임 전달 */
-    public record Msg_C2S_Handshake(String nickname) implements Serializable {}
+    /** 첫 연결 후 닉네임 전달 (+ 선호 순 코덱 이름 목록, 항상 기본 코덱으로 인코딩) */
+    public record Msg_C2S_Handshake(String nickname, List<String> codecs) implements Serializable {}
 
-    /** 방 만들기 요청 */
-    public record Msg_C2S_CreateRoom(String roomName, String password, int gameTimeSec, Team chosenTeam) implements Serializable {}
+    /** 방 만들기 요청 (teamSize: 팀당 인원 — 1이면 1대1, 4면 4대4) */
+    public record Msg_C2S_CreateRoom(String roomName, String password, int gameTimeSec, Team chosenTeam, int teamSize) implements Serializable {}
 
     /** 방 참여 요청 */
     public record Msg_C2S_JoinRoom(String roomName, String password) implements Serializable {}
 
-    /** 로비 룸 목록 요청 */
-    public record Msg_C2S_RequestRoomList() implements Serializable {}
+    /** 게임방 관전 요청 (관전을 그만둘 때는 Msg_C2S_LeaveRoom) */
+    public record Msg_C2S_Spectate(String roomName, String password) implements Serializable {}
+
+    /** 로비 방 목록 한 페이지 조회 (afterName 다음부터 최대 limit개, afterName이 null이면 처음부터) */
+    public record Msg_C2S_RoomQuery(int requestId, RoomFilter filter, String afterName, int limit) implements Serializable {}
 
-    /** 게임 내 입력 */
+    /** 게임 내 입력 (팀 방에서는 서버가 보낸 사람의 명단 팀으로 판정한다) */
     public record Msg_C2S_InputRequest(Team team, String input) implements Serializable {}
+
+    /** 게임 중: 보드 해시가 서버와 달라 전체 상태를 다시 요청 */
+    public record Msg_C2S_ResyncRequest() implements Serializable {}
     
     /** 게임방에서 나가기 (게임 도중 종료) */
     public record Msg_C2S_LeaveRoom() implements Serializable {}
@@ -42,14 +67,14 @@ public class NetworkProtocol {
     
     // --- S -> C (서버 -> 클라이언트) ---
 
-    /** 현재 로비 룸 목록 전체 */
-    public record Msg_S2C_RoomList(List<RoomInfo> rooms) implements Serializable {}
+    /** 핸드셰이크 응답: 이후 양방향 메시지에 쓸 코덱 */
+    public record Msg_S2C_HandshakeAck(String codec) implements Serializable {}
 
-    /** 특정 룸 정보 갱신 */
-    public record Msg_S2C_RoomUpdated(RoomInfo room) implements Serializable {}
+    /** 로비 룸 목록 변경분: baseVersion 상태에 적용하면 version 상태가 된다 (updated는 추가/갱신, removed는 제거된 방 이름) */
+    public record Msg_S2C_RoomListDelta(long baseVersion, long version, List<RoomInfo> updated, List<String> removed) implements Serializable {}
 
-    /** 룸이 사라짐 */
-    public record Msg_S2C_RoomRemoved(String roomName) implements Serializable {}
+    /** 방 목록 조회 결과 (version: 조회 시점의 로비 버전, hasMore: 다음 페이지 존재 여부) */
+    public record Msg_S2C_RoomPage(int requestId, long version, List<RoomInfo> rooms, boolean hasMore) implements Serializable {}
 
     /** 방 생성/참여 실패 응답 */
     public record Msg_S2C_RoomResponseFailure(String reason) implements Serializable {}
@@ -63,14 +88,49 @@ public class NetworkProtocol {
     /** 대기방 채팅 브로드캐스트 */
     public record Msg_S2C_WaitingChat(String sender, String text) implements Serializable {}
     
-    /** 게임 시작 */
-    public record Msg_S2C_GameStart(Team assignedTeam, Board board, int secondsLeft) implements Serializable {}
-
-    /** 게임 입력 처리 브로드캐스트 */
+    /**
+     * 게임 시작
+     * - serverFlips: true면 입력 결과가 Msg_S2C_FlipResult로 오므로 클라이언트는 입력을 다시 계산하지 않는다.
+     *   false면 기존 lock-step 방식 (Msg_S2C_BroadcastInput을 받아 각자 GameModel로 계산).
+     */
+    public record Msg_S2C_GameStart(Team assignedTeam, Board board, int secondsLeft, boolean serverFlips) implements Serializable {}
+
+    /** 게임 입력 처리 브로드캐스트 (lock-step 모드) */
     public record Msg_S2C_BroadcastInput(Team team, String input) implements Serializable {}
 
-    /** 게임 1초 경과 브로드캐스트 */
-    public record Msg_S2C_Tick() implements Serializable {}
+    /** 뒤집힌 칸 하나: 칸 번호(r * cols + c), 새 소유 팀, 새 토큰 */
+    public record CellFlip(int cell, Team owner, String token) implements Serializable {}
+
+    /**
+     * 서버가 판정한 입력 결과 (서버 판정 모드). 클라이언트는 그대로 반영만 한다.
+     * - 뒤집힌 칸이 있으면 방 전체에, 빗나간 입력(flips가 빈 목록)은 보낸 사람에게만 보낸다.
+     * - 점수는 서버 모델의 현재 값 (보너스 점수 포함)
+     */
+    public record Msg_S2C_FlipResult(Team team, String input, List<CellFlip> flips, int yellowScore, int blueScore) implements Serializable {}
+
+    /**
+     * 보드 검증 (N틱마다). 클라이언트는 자기 모델의 보드 해시/점수와 비교해 다르면 Msg_C2S_ResyncRequest를 보낸다.
+     * - 입력 결과와 같은 순서로 전달되므로, 받는 시점의 클라이언트 모델은 서버가 보낸 시점의 모델과 같아야 한다.
+     */
+    public record Msg_S2C_BoardHash(long hash, int yellowScore, int blueScore) implements Serializable {}
+
+    /**
+     * 전체 상태 재동기화 (요청한 클라이언트에게만).
+     * - wordCursor: 서버 WordPool의 다음 단어 위치 — lock-step 클라이언트가 이후 입력에서 같은 단어를 뽑도록 맞춘다.
+     */
+    public record Msg_S2C_BoardResync(Board board, int yellowScore, int blueScore, int yellowFlips, int blueFlips,
+                                      int wordCursor) implements Serializable {}
+
+    /**
+     * 관전 시작/따라잡기용 방 상태 (관전자에게만).
+     * - board: 게임 중이 아니면 null. 게임 중이면 이어서 오는 입력 결과/틱을 이 보드에 반영한다.
+     * - 관전자 송출이 밀려 이벤트를 놓치면 남은 이벤트 대신 이 스냅샷을 다시 받는다.
+     */
+    public record Msg_S2C_SpectateSnapshot(RoomInfo room, List<PlayerInfo> players, Board board, int secondsLeft,
+                                           int yellowScore, int blueScore, int yellowFlips, int blueFlips) implements Serializable {}
+
+    /** 게임 1초 경과 브로드캐스트 (남은 시간을 실어 보내므로, 밀린 틱은 최신 것 하나로 병합할 수 있다) */
+    public record Msg_S2C_Tick(int secondsLeft) implements Serializable {}
     
     /** 게임 종료 브로드캐스트 */
     public record Msg_S2C_GameOver() implements Serializable {}
@@ -0,0 +1,237 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * java.nio Selector 기반 전송 계층 (--transport=nio).
+ * - accept 전용 스레드 1개 + 소수의 I/O 스레드(IoLoop). 연결은 I/O 스레드에 라운드로빈 배정.
+ * - 연결마다 읽기 버퍼를 두고, 프레임이 완성되면 I/O 스레드에서 ClientHandler로 바로 전달한다.
+ * - 송신은 ClientHandler의 OutboundQueue에 쌓이고, outboundReady()가 I/O 스레드를 깨워
+ *   소켓이 받아주는 만큼 여러 프레임을 모아(gathering write) 내보낸다.
+ */
+public class NioServer {
+
+    private static final int INITIAL_READ_BUFFER = 8 * 1024;
+    private static final int MAX_GATHER_FRAMES = 16;
+
+    private final int port;
+    private final GameServer server;
+    private final IoLoop[] loops;
+    private int nextLoop = 0;
+
+    public NioServer(int port, int ioThreads, GameServer server) {
+        this.port = port;
+        this.server = server;
+        this.loops = new IoLoop[Math.max(1, ioThreads)];
+    }
+
+    /** 호출한 스레드가 accept 루프를 돈다 (GameServer.start와 동일하게 반환하지 않음) */
+    public void run() throws IOException {
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new IoLoop();
+            Thread t = new Thread(loops[i], "nio-io-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+
+        try (ServerSocketChannel acceptor = ServerSocketChannel.open()) {
+            acceptor.bind(new InetSocketAddress(port));
+            System.out.println("서버(NIO): " + port + " 포트에서 클라이언트 대기 중... (I/O 스레드 " + loops.length + "개)");
+
+            while (true) {
+                SocketChannel ch = acceptor.accept();
+                ch.configureBlocking(false);
+                ch.socket().setTcpNoDelay(true);
+                System.out.println("서버: 클라이언트 연결: " + ch.getRemoteAddress());
+
+                IoLoop loop = loops[nextLoop++ % loops.length];
+                Connection conn = new Connection(ch, loop);
+                conn.handler = server.createHandler(conn);
+                loop.execute(conn::register);
+            }
+        }
+    }
+
+    /** 셀렉터 하나를 돌리는 I/O 스레드 */
+    private static final class IoLoop implements Runnable {
+        private final Selector selector;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        IoLoop() throws IOException {
+            this.selector = Selector.open();
+        }
+
+        /** I/O 스레드에서 실행할 작업 예약 (등록, 쓰기 관심 설정 등) */
+        void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    selector.select();
+                } catch (IOException e) {
+                    System.err.println("서버(NIO): select 오류 - " + e.getMessage());
+                    continue;
+                }
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    Connection conn = (Connection) key.attachment();
+                    if (!key.isValid()) {
+                        conn.closeNow();
+                        continue;
+                    }
+                    if (key.isReadable()) conn.onReadable();
+                    if (key.isValid() && key.isWritable()) conn.flush();
+                }
+            }
+        }
+    }
+
+    /** NIO 연결 하나: 읽기 버퍼 + 소켓에 아직 다 못 쓴 프레임들 */
+    private static final class Connection implements ClientConnection {
+        private final SocketChannel ch;
+        private final IoLoop loop;
+        private final String id;
+        private final ByteBuffer[] writing = new ByteBuffer[MAX_GATHER_FRAMES]; // I/O 스레드 전용
+        private int writingCount = 0;
+        private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private ByteBuffer readBuf = ByteBuffer.allocate(INITIAL_READ_BUFFER);
+        private SelectionKey key;
+        private ClientHandler handler;
+
+        Connection(SocketChannel ch, IoLoop loop) throws IOException {
+            this.ch = ch;
+            this.loop = loop;
+            this.id = ch.getRemoteAddress().toString();
+        }
+
+        @Override
+        public String remoteId() {
+            return id;
+        }
+
+        void register() {
+            try {
+                key = ch.register(loop.selector, SelectionKey.OP_READ, this);
+            } catch (IOException e) {
+                System.err.println("서버(NIO): [" + id + "] 등록 실패 - " + e.getMessage());
+                closeNow();
+            }
+        }
+
+        void onReadable() {
+            try {
+                int n = ch.read(readBuf);
+                if (n < 0) {
+                    System.out.println("서버: 클라이언트[" + id + "] 연결 종료.");
+                    closeNow();
+                    return;
+                }
+                readBuf.flip();
+                while (readBuf.remaining() >= MessageFrames.HEADER_BYTES) {
+                    int start = readBuf.position();
+                    int len = readBuf.getInt(start);
+                    MessageFrames.checkLength(len);
+                    int total = MessageFrames.HEADER_BYTES + len;
+                    if (readBuf.remaining() < total) {
+                        if (readBuf.capacity() < total) grow(total);
+                        break;
+                    }
+                    Object msg = MessageFrames.decode(readBuf.array(), readBuf.arrayOffset() + start + MessageFrames.HEADER_BYTES, len);
+                    readBuf.position(start + total);
+                    handler.handleMessage(msg);
+                }
+                readBuf.compact();
+            } catch (IOException e) {
+                System.err.println("서버: 클라이언트[" + id + "] 수신 오류 - " + e.getMessage());
+                closeNow();
+            } catch (RuntimeException e) {
+                System.err.println("서버: 클라이언트[" + id + "] 메시지 처리 오류 - " + e);
+                closeNow();
+            }
+        }
+
+        /** 아직 처리하지 않은 바이트를 유지한 채 읽기 버퍼 확장 (flip 된 상태에서 호출) */
+        private void grow(int atLeast) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(atLeast, readBuf.capacity() * 2));
+            bigger.put(readBuf);
+            bigger.flip();
+            readBuf = bigger;
+        }
+
+        @Override
+        public void outboundReady() {
+            if (closed.get()) return;
+            if (flushScheduled.compareAndSet(false, true)) {
+                loop.execute(this::flush);
+            }
+        }
+
+        /** I/O 스레드에서만 호출: 송신 큐에서 프레임을 모아 소켓이 받아주는 만큼 쓰고, 남으면 OP_WRITE 대기 */
+        void flush() {
+            if (closed.get() || key == null) return;
+            OutboundQueue outbound = handler.outbound();
+            try {
+                while (true) {
+                    while (writingCount < writing.length) {
+                        byte[] frame = outbound.poll();
+                        if (frame == null) break;
+                        writing[writingCount++] = ByteBuffer.wrap(frame);
+                    }
+                    if (writingCount == 0) break;
+
+                    ch.write(writing, 0, writingCount);
+                    int done = 0;
+                    while (done < writingCount && !writing[done].hasRemaining()) done++;
+                    System.arraycopy(writing, done, writing, 0, writingCount - done);
+                    for (int i = writingCount - done; i < writingCount; i++) writing[i] = null;
+                    writingCount -= done;
+
+                    if (writingCount > 0) {
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                }
+                key.interestOps(SelectionKey.OP_READ);
+                flushScheduled.set(false);
+                // set(false) 직전에 들어온 프레임이 있으면 다시 예약
+                if (!outbound.isEmpty() && flushScheduled.compareAndSet(false, true)) {
+                    loop.execute(this::flush);
+                }
+            } catch (IOException e) {
+                System.err.println("서버: [" + id + "] 메시지 전송 오류 - " + e.getMessage());
+                closeNow();
+            }
+        }
+
+        /** 다른 스레드(예: 느린 소비자 끊기)에서의 종료는 I/O 스레드로 넘긴다 */
+        @Override
+        public void close() {
+            loop.execute(this::closeNow);
+        }
+
+        /** I/O 스레드에서 호출 */
+        void closeNow() {
+            if (!closed.compareAndSet(false, true)) return;
+            try { ch.close(); } catch (IOException e) {}
+            handler.onDisconnected();
+        }
+    }
+}
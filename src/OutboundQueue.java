@@ -0,0 +1,215 @@
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연결 하나의 송신 큐 (ClientHandler.sendMessage → 전송 계층의 writer가 비움).
+ * - 호출 스레드(방 타이머, 다른 클라이언트의 요청 처리 등)는 큐에 넣고 바로 돌아가므로,
+ *   느린 클라이언트 하나가 방/로비 브로드캐스트 전체를 막지 않는다.
+ * - 느린 소비자 정책
+ *   1) 병합: 같은 키(틱 등)의 새 메시지가 들어오면 큐에 남은 이전 것은 버리고 새 것을 뒤에 붙인다.
+ *      키가 null이면 병합하지 않고 키 관리도 하지 않는다 (서로 이어지는 로비 델타처럼 하나도 대체할 수 없는 것).
+ *   2) 버림: 큐가 가득 차면 가장 오래된 로비 갱신부터 버린다 (다음 갱신/목록 요청으로 복구 가능).
+ *   3) 끊기: 버릴 수 있는 것이 없는데도 가득 차 있으면 OVERFLOW를 돌려주고, 호출 측이 연결을 끊는다.
+ */
+public class OutboundQueue {
+
+    /** 메시지 종류 (정책 적용 기준) */
+    public enum Kind {
+        /** 게임 진행 메시지 — 절대 버리지 않음 */
+        NORMAL,
+        /** 로비 방 정보 — 같은 방의 최신 상태만 의미 있음, 가득 차면 버림 */
+        LOBBY,
+        /** 1초 틱 — 최신 남은 시간만 의미 있음 */
+        TICK
+    }
+
+    public enum Result { QUEUED, COALESCED, DROPPED, OVERFLOW }
+
+    /** 연결별 큐 지표 */
+    public record Stats(int depth, int maxDepth, long enqueued, long coalesced, long dropped) {}
+
+    private static final class Entry {
+        final byte[] frame;
+        final Kind kind;
+        final Object key;
+        boolean stale; // 병합/버림으로 무효화됨 (꺼낼 때 건너뜀)
+
+        Entry(byte[] frame, Kind kind, Object key) {
+            this.frame = frame;
+            this.kind = kind;
+            this.key = key;
+        }
+    }
+
+    private final int capacity;
+    private final boolean coalesce;
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final Map<Object, Entry> latestByKey = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int live = 0; // stale이 아닌 항목 수 (= 큐 깊이)
+    private boolean closed = false;
+
+    private int maxDepth = 0;
+    private long enqueued = 0;
+    private long coalesced = 0;
+    private long dropped = 0;
+
+    public OutboundQueue(int capacity, boolean coalesce) {
+        this.capacity = Math.max(1, capacity);
+        this.coalesce = coalesce;
+    }
+
+    /**
+     * 프레임을 큐에 넣는다.
+     * @param key 병합 키 (kind가 NORMAL이거나 key가 null이면 병합하지 않음)
+     */
+    public Result offer(byte[] frame, Kind kind, Object key) {
+        lock.lock();
+        try {
+            if (closed) return Result.DROPPED;
+
+            Result result = Result.QUEUED;
+            if (coalesce && kind != Kind.NORMAL && key != null) {
+                Entry previous = latestByKey.get(key);
+                if (previous != null && !previous.stale) {
+                    previous.stale = true;
+                    live--;
+                    coalesced++;
+                    result = Result.COALESCED;
+                }
+            }
+
+            if (live >= capacity && !dropOldestLobby()) {
+                if (kind == Kind.LOBBY) {
+                    dropped++;
+                    return Result.DROPPED;
+                }
+                return Result.OVERFLOW;
+            }
+
+            if (entries.size() >= capacity * 2) compact();
+
+            Entry e = new Entry(frame, kind, key);
+            entries.addLast(e);
+            if (kind != Kind.NORMAL && key != null) latestByKey.put(key, e);
+            live++;
+            enqueued++;
+            if (live > maxDepth) maxDepth = live;
+            notEmpty.signal();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean dropOldestLobby() {
+        for (Entry e : entries) {
+            if (!e.stale && e.kind == Kind.LOBBY) {
+                e.stale = true;
+                live--;
+                dropped++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 무효화된 항목이 쌓여 큐 자체가 커지지 않도록 정리 (소비자가 멈춰 있을 때만 발생) */
+    private void compact() {
+        var it = entries.iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.stale) {
+                it.remove();
+                if (e.key != null && latestByKey.get(e.key) == e) {
+                    latestByKey.remove(e.key);
+                }
+            }
+        }
+    }
+
+    /** 보낼 프레임을 꺼낸다 (없으면 null) — NIO writer용 */
+    public byte[] poll() {
+        lock.lock();
+        try {
+            return pollLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 보낼 프레임이 생길 때까지 대기 (닫히면 null) — blocking writer용 */
+    public byte[] take() throws InterruptedException {
+        lock.lock();
+        try {
+            byte[] frame;
+            while ((frame = pollLocked()) == null) {
+                if (closed) return null;
+                notEmpty.await();
+            }
+            return frame;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] pollLocked() {
+        Entry e;
+        while ((e = entries.pollFirst()) != null) {
+            if (e.key != null && latestByKey.get(e.key) == e) {
+                latestByKey.remove(e.key);
+            }
+            if (!e.stale) {
+                live--;
+                return e.frame;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return live == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 아직 보내지 않은 프레임 수 */
+    public int depth() {
+        lock.lock();
+        try {
+            return live;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 더 이상 받지 않고, 대기 중인 writer를 깨운다 */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            entries.clear();
+            latestByKey.clear();
+            live = 0;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(live, maxDepth, enqueued, coalesced, dropped);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 서버 전체가 공유하는 방 타이머 (해시드 타이밍 휠).
+ * - 스레드 하나가 tickMs 간격으로 휠을 한 칸씩 돌며, 그 칸에 만기가 된 작업을 콜백 실행기로 넘긴다.
+ * - 방마다 Timer 스레드를 만들지 않으므로, 방이 수백 개여도 타이머 스레드는 1개다.
+ * - 등록/취소는 어느 스레드에서나 O(1): 등록은 큐를 거쳐 다음 틱에 칸에 들어가고, 취소는 표시만 하고 휠이 지나갈 때 버린다.
+ * - 고정 주기 작업은 "이전 예정 시각 + 주기"로 다시 등록하므로 지연이 누적되지 않는다.
+ * - 콜백 시작 시각과 예정 시각의 차이(지연)를 모아 lagStats()로 보여준다.
+ */
+public class RoomScheduler {
+
+    /** 예약 취소 핸들 */
+    public interface Task {
+        void cancel();
+    }
+
+    /** 타이머 지연 통계 (콜백이 실제로 시작된 시각 - 예정 시각) */
+    public record LagStats(long fired, double meanMs, long p50Ms, long p99Ms, long maxMs, int pending) {
+        @Override
+        public String toString() {
+            return String.format("실행 %d회, 평균 %.2fms, p50 %dms, p99 %dms, 최대 %dms, 대기 작업 %d개",
+                    fired, meanMs, p50Ms, p99Ms, maxMs, pending);
+        }
+    }
+
+    private static final int DEFAULT_TICK_MS = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512; // 10ms x 512 = 한 바퀴 5.12초
+    private static final int LAG_HISTOGRAM_MS = 2048;  // 그 이상은 마지막 칸에 모은다
+
+    private final long tickNanos;
+    private final ArrayList<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Executor callbackExecutor;
+    private final long startNanos;
+    private final AtomicInteger pending = new AtomicInteger();
+    private long tick = 0; // 휠 스레드 전용
+
+    // --- 지연 통계 ---
+    private final AtomicLongArray lagHistogram = new AtomicLongArray(LAG_HISTOGRAM_MS + 1);
+    private final LongAdder lagCount = new LongAdder();
+    private final LongAdder lagSumMicros = new LongAdder();
+    private final AtomicLong lagMaxMs = new AtomicLong();
+
+    /**
+     * @param tickMs           휠 한 칸의 시간 (타이머 정밀도)
+     * @param wheelSize        칸 수 (2의 거듭제곱으로 올림)
+     * @param callbackExecutor 콜백 실행기 — 휠 스레드는 시간만 재고 콜백은 여기서 실행한다
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RoomScheduler(int tickMs, int wheelSize, Executor callbackExecutor) {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        this.wheel = new ArrayList[size];
+        for (int i = 0; i < size; i++) wheel[i] = new ArrayList<>();
+        this.mask = size - 1;
+        this.callbackExecutor = callbackExecutor;
+        this.startNanos = System.nanoTime();
+
+        Thread worker = new Thread(this::runWheel, "room-timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 방 타이머용 스케줄러: 가상 스레드 모드면 콜백을 가상 스레드에서, 아니면 코어 수만큼의 공용 풀에서 실행.
+     * 방 우편함(Mailbox)도 이 실행기를 함께 쓰므로 방 이벤트 처리 스레드는 이 풀이 전부다.
+     */
+    public static RoomScheduler forMode(ServerConfig.Threads threads) {
+        Executor callbacks;
+        if (threads == ServerConfig.Threads.VIRTUAL) {
+            callbacks = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            AtomicInteger n = new AtomicInteger();
+            callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "room-timer-worker-" + n.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return new RoomScheduler(DEFAULT_TICK_MS, DEFAULT_WHEEL_SIZE, callbacks);
+    }
+
+    /** 콜백 실행기 (방 우편함이 이벤트를 처리할 때도 쓴다) */
+    public Executor executor() {
+        return callbackExecutor;
+    }
+
+    public Task scheduleAtFixedRate(Runnable action, long initialDelayMs, long periodMs) {
+        return add(new Timeout(action, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelayMs),
+                TimeUnit.MILLISECONDS.toNanos(Math.max(1, periodMs))));
+    }
+
+    public Task schedule(Runnable action, long delayMs) {
+        return add(new Timeout(action, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs), 0));
+    }
+
+    private Task add(Timeout t) {
+        pending.incrementAndGet();
+        pendingAdds.add(t);
+        return t;
+    }
+
+    public LagStats lagStats() {
+        long count = lagCount.sum();
+        double mean = count == 0 ? 0 : lagSumMicros.sum() / 1000.0 / count;
+        return new LagStats(count, mean, lagPercentile(count, 0.50), lagPercentile(count, 0.99), lagMaxMs.get(), pending.get());
+    }
+
+    /** 통계 구간 초기화 (주기적으로 로그를 남길 때 사용) */
+    public void resetLagStats() {
+        for (int i = 0; i < lagHistogram.length(); i++) lagHistogram.set(i, 0);
+        lagCount.reset();
+        lagSumMicros.reset();
+        lagMaxMs.set(0);
+    }
+
+    private long lagPercentile(long count, double q) {
+        if (count == 0) return 0;
+        long target = (long) Math.ceil(count * q);
+        long seen = 0;
+        for (int ms = 0; ms < lagHistogram.length(); ms++) {
+            seen += lagHistogram.get(ms);
+            if (seen >= target) return ms;
+        }
+        return LAG_HISTOGRAM_MS;
+    }
+
+    private void recordLag(long lagNanos) {
+        long micros = Math.max(0, lagNanos / 1000);
+        long ms = micros / 1000;
+        lagHistogram.incrementAndGet((int) Math.min(ms, LAG_HISTOGRAM_MS));
+        lagCount.increment();
+        lagSumMicros.add(micros);
+        lagMaxMs.accumulateAndGet(ms, Math::max);
+    }
+
+    // --- 휠 스레드 ---
+
+    private void runWheel() {
+        while (true) {
+            long tickDeadline = startNanos + (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = tickDeadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+            transferPendingAdds();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPendingAdds() {
+        Timeout t;
+        while ((t = pendingAdds.poll()) != null) {
+            if (t.cancelled) {
+                pending.decrementAndGet();
+                continue;
+            }
+            long due = (t.deadline - startNanos) / tickNanos;
+            if (due < tick) due = tick; // 이미 지난 작업은 이번 칸에서 실행
+            t.remainingRounds = (due - tick) >> Integer.numberOfTrailingZeros(wheel.length);
+            wheel[(int) (due & mask)].add(t);
+        }
+    }
+
+    /** 현재 칸을 돌며 만기 작업 실행, 남은 바퀴 차감, 취소된 작업 제거 (제자리 압축) */
+    private void expire(ArrayList<Timeout> bucket) {
+        int keep = 0;
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Timeout t = bucket.get(i);
+            if (t.cancelled) {
+                pending.decrementAndGet();
+            } else if (t.remainingRounds > 0) {
+                t.remainingRounds--;
+                bucket.set(keep++, t);
+            } else {
+                fire(t);
+            }
+        }
+        for (int i = bucket.size() - 1; i >= keep; i--) bucket.remove(i);
+    }
+
+    private void fire(Timeout t) {
+        long deadline = t.deadline;
+        try {
+            callbackExecutor.execute(() -> t.run(deadline));
+        } catch (RejectedExecutionException e) {
+            System.err.println("서버: 방 타이머 작업 거부 - " + e.getMessage());
+        }
+        if (t.periodNanos > 0) {
+            t.deadline += t.periodNanos;
+            pendingAdds.add(t); // 다음 틱에 다시 칸에 넣는다
+        } else {
+            pending.decrementAndGet();
+        }
+    }
+
+    /** 휠에 등록된 작업 하나 */
+    private final class Timeout implements Task {
+        private final Runnable action;
+        private final long periodNanos;
+        private long deadline;        // 휠 스레드가 갱신
+        private long remainingRounds; // 휠 스레드 전용
+        private volatile boolean cancelled = false;
+
+        Timeout(Runnable action, long deadline, long periodNanos) {
+            this.action = action;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        void run(long scheduledAt) {
+            if (cancelled) return;
+            recordLag(System.nanoTime() - scheduledAt);
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                System.err.println("서버: 방 타이머 작업 오류 - " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * 서버 시작 옵션. `--이름=값` 형식의 인자로 지정한다.
+ * 예) java GameServer --transport=nio --io-threads=4
+ *     java GameServer --threads=virtual
+ *     java GameServer --outbound-capacity=512 --outbound-coalesce=false
+ *     java GameServer --lobby-flush-ms=250
+ *     java GameServer --flip-sync=lockstep --checksum-ticks=3
+ *     java GameServer --input-rate=10 --input-burst=20 --flood-kick=0
+ *     java GameServer --max-spectators=50
+ *     java GameServer --match-log-dir=       (경기 기록 끔)
+ *     java GameServer --board-pool=32
+ *
+ * @param transport blocking(연결당 스레드, 기본값) 또는 nio(셀렉터 기반)
+ * @param ioThreads nio 모드의 I/O 스레드 수
+ * @param threads   platform(기본값) 또는 virtual — blocking 연결 처리와 방 타이머 콜백을 가상 스레드에서 실행
+ * @param outboundCapacity 연결당 송신 큐 최대 프레임 수 — 로비 갱신을 버려도 넘치면 그 연결을 끊는다
+ * @param coalesceOutbound 송신 큐에 쌓인 틱을 최신 것 하나로 병합할지 여부
+ * @param lobbyFlushMs 로비 방 목록 변경분을 모아 보내는 주기
+ * @param flipSync  server(기본값, 서버가 뒤집기 결과를 보냄) 또는 lockstep(입력만 중계하고 클라이언트가 각자 계산)
+ * @param checksumTicks 게임 중 보드 해시를 보내는 주기(틱 수) — 클라이언트가 어긋남을 감지해 재동기화를 요청한다 (0이면 끔)
+ * @param limits    연결별 수신 메시지 속도 제한
+ * @param maxSpectators 방 하나의 최대 관전자 수
+ * @param matchLogDir 경기 기록(MatchLog) 파일을 쓸 폴더 (비어 있으면 기록하지 않음)
+ * @param boardPool 방 생성용으로 미리 만들어 둘 보드 수 (0이면 방을 만들 때마다 생성)
+ */
+public record ServerConfig(Transport transport, int ioThreads, Threads threads,
+                           int outboundCapacity, boolean coalesceOutbound, int lobbyFlushMs, FlipSync flipSync,
+                           int checksumTicks, RateLimits limits, int maxSpectators,
+                           String matchLogDir, int boardPool) {
+
+    public enum Transport { BLOCKING, NIO }
+
+    public enum Threads { PLATFORM, VIRTUAL }
+
+    public enum FlipSync { SERVER, LOCKSTEP }
+
+    /**
+     * 연결별 수신 속도 제한 (초당 개수 / 한 번에 몰아 보낼 수 있는 개수). 초당 개수가 0이면 제한하지 않는다.
+     *
+     * @param inputRate   게임 입력(단어/보너스 문장)
+     * @param chatRate    대기방 채팅
+     * @param controlRate 그 밖의 요청 (방 목록 조회, 방 생성/참여, 준비, 재동기화 등)
+     * @param floodKick   10초 안에 이만큼 버려지면 도배로 보고 연결을 끊는다 (0이면 끊지 않음)
+     */
+    public record RateLimits(int inputRate, int inputBurst, int chatRate, int chatBurst,
+                             int controlRate, int controlBurst, int floodKick) { }
+
+    public static ServerConfig defaults() {
+        return new ServerConfig(Transport.BLOCKING, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), Threads.PLATFORM,
+                256, true, 100, FlipSync.SERVER, 5, new RateLimits(15, 30, 2, 5, 10, 30, 300), 200, "matches", 8);
+    }
+
+    public static ServerConfig fromArgs(String[] args) {
+        ServerConfig def = defaults();
+        Transport transport = def.transport();
+        int ioThreads = def.ioThreads();
+        Threads threads = def.threads();
+        int outboundCapacity = def.outboundCapacity();
+        boolean coalesceOutbound = def.coalesceOutbound();
+        int lobbyFlushMs = def.lobbyFlushMs();
+        FlipSync flipSync = def.flipSync();
+        int checksumTicks = def.checksumTicks();
+        RateLimits l = def.limits();
+        int inputRate = l.inputRate(), inputBurst = l.inputBurst();
+        int chatRate = l.chatRate(), chatBurst = l.chatBurst();
+        int controlRate = l.controlRate(), controlBurst = l.controlBurst();
+        int floodKick = l.floodKick();
+        int maxSpectators = def.maxSpectators();
+        String matchLogDir = def.matchLogDir();
+        int boardPool = def.boardPool();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "transport" -> transport = Transport.valueOf(value.toUpperCase(java.util.Locale.ROOT));
+                case "io-threads" -> ioThreads = Integer.parseInt(value);
+                case "threads" -> threads = Threads.valueOf(value.toUpperCase(java.util.Locale.ROOT));
+                case "outbound-capacity" -> outboundCapacity = Integer.parseInt(value);
+                case "outbound-coalesce" -> coalesceOutbound = Boolean.parseBoolean(value);
+                case "lobby-flush-ms" -> lobbyFlushMs = Integer.parseInt(value);
+                case "flip-sync" -> flipSync = FlipSync.valueOf(value.toUpperCase(java.util.Locale.ROOT));
+                case "checksum-ticks" -> checksumTicks = Integer.parseInt(value);
+                case "input-rate" -> inputRate = Integer.parseInt(value);
+                case "input-burst" -> inputBurst = Integer.parseInt(value);
+                case "chat-rate" -> chatRate = Integer.parseInt(value);
+                case "chat-burst" -> chatBurst = Integer.parseInt(value);
+                case "control-rate" -> controlRate = Integer.parseInt(value);
+                case "control-burst" -> controlBurst = Integer.parseInt(value);
+                case "flood-kick" -> floodKick = Integer.parseInt(value);
+                case "max-spectators" -> maxSpectators = Integer.parseInt(value);
+                case "match-log-dir" -> matchLogDir = value;
+                case "board-pool" -> boardPool = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+        return new ServerConfig(transport, ioThreads, threads, outboundCapacity, coalesceOutbound, lobbyFlushMs, flipSync, checksumTicks,
+                new RateLimits(inputRate, inputBurst, chatRate, chatBurst, controlRate, controlBurst, floodKick), maxSpectators, matchLogDir, boardPool);
+    }
+}
@@ -0,0 +1,35 @@
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 연결에 같은 메시지를 보낼 때 쓰는 공유 프레임.
+ * - 코덱별로 처음 요청될 때 한 번만 인코딩하고, 이후에는 같은 byte[]를 모든 연결의 송신 큐에 넣는다.
+ * - 송신 큐와 writer는 프레임을 읽기만 하므로 공유해도 안전하다.
+ */
+public final class SharedFrame {
+
+    private final Serializable message;
+    // codec id -> 완성된 프레임 (id는 0부터 연속으로 부여되어 있다)
+    private final AtomicReferenceArray<byte[]> frames = new AtomicReferenceArray<>(MessageCodec.ALL.size());
+
+    public SharedFrame(Serializable message) {
+        this.message = message;
+    }
+
+    public Serializable message() {
+        return message;
+    }
+
+    /** 해당 코덱으로 인코딩된 프레임 (동시에 처음 요청되면 두 번 인코딩될 수 있지만 결과는 같다) */
+    public byte[] frameFor(MessageCodec codec) throws IOException {
+        byte[] frame = frames.get(codec.id());
+        if (frame == null) {
+            frame = MessageFrames.encode(codec, message);
+            if (!frames.compareAndSet(codec.id(), null, frame)) {
+                frame = frames.get(codec.id());
+            }
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,127 @@
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클라이언트 효과음 (resources/sounds)
+ * - 오디오 스레드 하나가 시작할 때 효과음 파일을 한 번만 디코딩해 효과음마다 Clip을 POOL개씩 열어 둔다.
+ * - play는 요청만 넣고 바로 반환한다 (EDT 등 어느 스레드에서나). 재생은 오디오 스레드가 쉬고 있는 Clip을 처음으로 되감아 시작.
+ * - 풀이 모두 재생 중이거나 같은 효과음을 방금(MERGE_NANOS 안에) 틀었으면 그 요청은 버린다. 요청 큐가 가득 차도 버린다.
+ * - 오디오 장치가 없거나 파일이 없으면 경고를 한 번만 찍고 소리 없이 계속한다.
+ */
+public final class SoundEngine {
+
+    static final String BELL = "bell.wav";
+    static final String FINISH = "finish.wav";
+
+    private static final Path DIR = Path.of("resources", "sounds");
+    private static final String[] SOUNDS = {BELL, FINISH};
+    private static final int POOL = 4;
+    private static final long MERGE_NANOS = 30_000_000L; // 한 번에 여러 칸이 뒤집혀도 소리는 한 번
+    private static final ArrayBlockingQueue<String> requests = new ArrayBlockingQueue<>(16);
+    private static final AtomicBoolean started = new AtomicBoolean();
+
+    private SoundEngine() {}
+
+    /** 오디오 스레드를 시작해 효과음을 미리 디코딩 (클라이언트 시작 시 1회, 바로 반환) */
+    public static void preload() {
+        if (!started.compareAndSet(false, true)) return;
+        Thread thread = new Thread(SoundEngine::run, "sound");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 효과음 재생 요청 (바로 반환) */
+    public static void play(String name) {
+        preload();
+        requests.offer(name); // 가득 차 있으면 버림
+    }
+
+    /** 효과음 하나의 Clip 풀. 오디오 스레드만 쓴다 */
+    private static final class Voices {
+        final Clip[] clips;
+        final long lengthNanos;
+        final long[] busyUntil;
+        long lastStart = Long.MIN_VALUE / 2;
+
+        Voices(Clip[] clips) {
+            this.clips = clips;
+            this.lengthNanos = clips[0].getMicrosecondLength() * 1000;
+            this.busyUntil = new long[clips.length];
+        }
+
+        /** 쉬고 있는 Clip으로 재생. 병합되었거나 모두 재생 중이면 false (요청을 버림) */
+        boolean play(long now) {
+            if (now - lastStart < MERGE_NANOS) return false;
+            for (int i = 0; i < clips.length; i++) {
+                if (now - busyUntil[i] < 0) continue;
+                Clip clip = clips[i];
+                clip.stop();
+                clip.setFramePosition(0);
+                clip.start();
+                busyUntil[i] = now + lengthNanos;
+                lastStart = now;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static void run() {
+        Map<String, Voices> voices = new HashMap<>();
+        for (String name : SOUNDS) {
+            try {
+                voices.put(name, open(name));
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                // 오디오 장치가 없음: 다른 효과음도 안 되므로 더 시도하지 않는다
+                System.err.println("클라이언트: 효과음을 쓸 수 없습니다 - " + e.getMessage());
+                break;
+            } catch (UnsupportedAudioFileException | IOException e) {
+                System.err.println("클라이언트: 효과음 " + DIR.resolve(name) + " 읽기 실패 - " + e.getMessage());
+            }
+        }
+        try {
+            while (true) {
+                String name = requests.take();
+                Voices v = voices.get(name);
+                if (v != null) v.play(System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 파일을 한 번 디코딩해 같은 PCM 데이터로 Clip POOL개를 연다 */
+    private static Voices open(String name)
+            throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+        AudioFormat format;
+        byte[] pcm;
+        try (AudioInputStream in = AudioSystem.getAudioInputStream(DIR.resolve(name).toFile())) {
+            format = in.getFormat();
+            pcm = in.readAllBytes();
+        }
+        int length = format.getFrameSize() > 0 ? pcm.length - pcm.length % format.getFrameSize() : pcm.length;
+        Clip[] clips = new Clip[POOL];
+        try {
+            for (int i = 0; i < POOL; i++) {
+                clips[i] = AudioSystem.getClip();
+                clips[i].open(format, pcm, 0, length);
+            }
+        } catch (LineUnavailableException | RuntimeException e) {
+            for (Clip clip : clips) {
+                if (clip != null) clip.close();
+            }
+            throw e;
+        }
+        return new Voices(clips);
+    }
+}
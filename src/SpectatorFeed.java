@@ -0,0 +1,138 @@
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관전자 송출 버퍼 (방마다 하나)
+ * - 방이 참여자에게 보낸 SharedFrame을 고정 크기 링에 순번과 함께 넣기만 한다 (방 스레드, O(1), 추가 인코딩 없음).
+ * - 관전자마다 커서를 두고, RoomScheduler 스레드의 펌프가 커서부터 링을 따라가며 관전자 송신 큐에 같은 프레임을 넣는다.
+ *   그래서 방 브로드캐스트 비용은 관전자 수와 무관하고, 느린 관전자가 방을 막지 않는다.
+ * - 관전자 송신 큐가 MAX_LAG개 넘게 밀려 있으면 그 관전자는 잠시 건너뛴다. 그 사이 링이 한 바퀴 돌아
+ *   커서 위치가 덮어써지면, 놓친 이벤트 대신 최신 스냅샷을 받고 커서를 현재 위치로 옮긴다.
+ *   (스냅샷은 방 이벤트로 요청하고, 방 스레드가 보낸 뒤 resumeAt으로 커서를 알려 줄 때까지 그 관전자는 쉰다)
+ */
+public class SpectatorFeed {
+
+    /** 링 크기 (2의 거듭제곱) */
+    static final int CAPACITY = 512;
+    private static final int MASK = CAPACITY - 1;
+    /** 관전자 송신 큐에 이만큼 쌓여 있으면 더 넣지 않고 다음 펌프로 미룬다 */
+    static final int MAX_LAG = 64;
+    private static final long RETRY_MS = 50;
+
+    private record Entry(long seq, SharedFrame frame) {}
+
+    private static final class Spectator {
+        final ClientHandler client;
+        long cursor;       // 다음에 보낼 순번 (pumpLock 안에서만 바꾼다)
+        boolean resyncing; // 스냅샷을 요청해 두고 기다리는 중
+
+        Spectator(ClientHandler client, long cursor) {
+            this.client = client;
+            this.cursor = cursor;
+        }
+    }
+
+    private final GameRoom room;
+    private final RoomScheduler scheduler;
+    private final AtomicReferenceArray<Entry> ring = new AtomicReferenceArray<>(CAPACITY);
+    private volatile long head = 0; // 다음에 넣을 순번 (방 스레드에서만 증가)
+    private final CopyOnWriteArrayList<Spectator> spectators = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean pumpScheduled = new AtomicBoolean();
+    private final ReentrantLock pumpLock = new ReentrantLock();
+
+    public SpectatorFeed(GameRoom room, RoomScheduler scheduler) {
+        this.room = room;
+        this.scheduler = scheduler;
+    }
+
+    public int size() {
+        return spectators.size();
+    }
+
+    /** 관전자 등록 (방 스레드에서, 스냅샷을 보낸 직후) — 그 뒤에 들어오는 이벤트부터 받는다 */
+    void add(ClientHandler client) {
+        spectators.add(new Spectator(client, head));
+    }
+
+    boolean remove(ClientHandler client) {
+        return spectators.removeIf(s -> s.client == client);
+    }
+
+    /** 모든 관전자를 내보내고 목록을 비움 (방이 없어질 때) */
+    void closeAll(java.util.function.Consumer<ClientHandler> onRemoved) {
+        for (Spectator s : spectators) onRemoved.accept(s.client);
+        spectators.clear();
+    }
+
+    /** 다음에 넣을 순번 (방 스레드에서 읽으면 스냅샷 시점과 일치) */
+    long head() {
+        return head;
+    }
+
+    /** 방 스레드에서 호출: 참여자에게 보낸 프레임을 관전 링에 넣고 펌프를 예약 */
+    void publish(SharedFrame frame) {
+        if (spectators.isEmpty()) return;
+        long seq = head;
+        ring.set((int) (seq & MASK), new Entry(seq, frame));
+        head = seq + 1;
+        schedulePump(0);
+    }
+
+    /** 방 스레드가 스냅샷을 보낸 뒤 호출: 그 관전자를 seq부터 다시 보낸다 */
+    void resumeAt(ClientHandler client, long seq) {
+        pumpLock.lock();
+        try {
+            for (Spectator s : spectators) {
+                if (s.client == client) {
+                    s.cursor = seq;
+                    s.resyncing = false;
+                }
+            }
+        } finally {
+            pumpLock.unlock();
+        }
+        schedulePump(0);
+    }
+
+    private void schedulePump(long delayMs) {
+        if (pumpScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::pump, delayMs);
+        }
+    }
+
+    private void pump() {
+        pumpScheduled.set(false);
+        boolean behind = false;
+        pumpLock.lock();
+        try {
+            long end = head;
+            for (Spectator s : spectators) {
+                if (!drain(s, end)) behind = true;
+            }
+        } finally {
+            pumpLock.unlock();
+        }
+        if (behind) schedulePump(RETRY_MS);
+    }
+
+    /** 한 관전자에게 end 앞까지 보냄. 송신 큐가 밀려 다 못 보냈으면 false */
+    private boolean drain(Spectator s, long end) {
+        if (s.resyncing) return true;
+        OutboundQueue queue = s.client.outbound();
+        while (s.cursor < end) {
+            if (queue.depth() >= MAX_LAG) return false;
+            Entry e = ring.get((int) (s.cursor & MASK));
+            if (e == null || e.seq() != s.cursor) {
+                // 놓친 이벤트가 이미 덮어써짐: 방에 최신 스냅샷을 요청하고 건너뛴다
+                s.resyncing = true;
+                room.resendSpectatorSnapshot(s.client, end - s.cursor);
+                return true;
+            }
+            s.cursor++;
+            s.client.sendShared(e.frame());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * 토큰 버킷 (연결별 수신 메시지 속도 제한)
+ * - 초당 ratePerSec개씩 채워지고 burst개까지 모인다. 메시지 하나가 토큰 하나를 쓴다.
+ * - 토큰은 나노초 단위 적립액(credit)으로 들고 있어 상태가 long 두 개뿐이고, tryAcquire는 객체를 만들지 않는다.
+ * - 한 연결의 수신 스레드에서만 호출하므로 잠금을 쓰지 않는다.
+ * - ratePerSec가 0이면 제한하지 않는다.
+ */
+public class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private long credit;     // 모인 토큰 × nanosPerToken
+    private long lastNanos;
+
+    public TokenBucket(int ratePerSec, int burst) {
+        this.nanosPerToken = ratePerSec > 0 ? 1_000_000_000L / ratePerSec : 0;
+        this.capacityNanos = nanosPerToken * Math.max(1, burst);
+        this.credit = capacityNanos; // 처음에는 가득 찬 상태
+        this.lastNanos = System.nanoTime();
+    }
+
+    /** 토큰 하나를 쓸 수 있으면 쓰고 true, 비었으면 false */
+    public boolean tryAcquire(long nowNanos) {
+        if (nanosPerToken == 0) return true;
+        credit = Math.min(capacityNanos, credit + (nowNanos - lastNanos));
+        lastNanos = nowNanos;
+        if (credit < nanosPerToken) return false;
+        credit -= nanosPerToken;
+        return true;
+    }
+}
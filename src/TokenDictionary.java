@@ -0,0 +1,83 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 보드 토큰 사전: 토큰 문자열 ↔ int id.
+ * - id: 화면에 보이는 원래 문자열(raw) 단위. 같은 문자열은 항상 같은 id.
+ * - key: 정규화(TokenIndex.norm) 결과 단위. "Apple"과 "ａｐｐｌｅ"는 id는 다르지만 key는 같다.
+ * - 보드와 WordPool을 만들 때 모든 토큰을 미리 등록(intern)하므로, 게임 중에는 읽기만 한다.
+ *   → 입력은 한 번 정규화한 뒤 keyOf()의 해시 조회 한 번으로 key를 얻고, 이후 인덱스 조회는 int로만 한다.
+ * - id는 생성 순서대로 부여되므로 서버와 클라이언트의 id가 다를 수 있다 (네트워크로는 문자열을 보낸다).
+ */
+public class TokenDictionary implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String[] texts = new String[64];
+    private int[] keys = new int[64];
+    private int size = 0;
+    private int keyCount = 0;
+    // 조회용 맵은 texts에서 다시 만들 수 있으므로 직렬화하지 않는다
+    private transient Map<String, Integer> idByText = new HashMap<>();
+    private transient Map<String, Integer> keyByNorm = new HashMap<>();
+
+    /** 토큰을 등록하고 id 반환 (이미 있으면 기존 id) */
+    public int intern(String text) {
+        Integer id = idByText.get(text);
+        if (id != null) return id;
+
+        String norm = TokenIndex.norm(text);
+        Integer key = keyByNorm.get(norm);
+        if (key == null) {
+            key = keyCount++;
+            keyByNorm.put(norm, key);
+        }
+        if (size == texts.length) {
+            texts = Arrays.copyOf(texts, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        texts[size] = text;
+        keys[size] = key;
+        idByText.put(text, size);
+        return size++;
+    }
+
+    /** id의 원래 문자열 (복사 없이 등록된 문자열 그대로) */
+    public String text(int id) {
+        return texts[id];
+    }
+
+    /** id의 정규화 key */
+    public int key(int id) {
+        return keys[id];
+    }
+
+    /** 입력 문자열의 정규화 key (등록된 토큰 중 같은 것이 없으면 -1) */
+    public int keyOf(String rawInput) {
+        Integer key = keyByNorm.get(TokenIndex.norm(rawInput));
+        return key == null ? -1 : key;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        idByText = new HashMap<>();
+        keyByNorm = new HashMap<>();
+        for (int id = 0; id < size; id++) {
+            idByText.put(texts[id], id);
+            keyByNorm.putIfAbsent(TokenIndex.norm(texts[id]), keys[id]);
+        }
+    }
+
+    /** 등록된 토큰 수 */
+    public int size() {
+        return size;
+    }
+
+    /** 서로 다른 정규화 key 수 */
+    public int keyCount() {
+        return keyCount;
+    }
+}
@@ -6,20 +6,40 @@ import java.util.*;
  * 보드를 전수검색(O(rows*cols))하지 않고 빠르게 찾기 위한 인덱스.
  *
  * 구조
- * - byOwner: 팀 → (정규화된 토큰 문자열 → 좌표 목록)
+ * - buckets[팀][정규화 key] = 그 팀이 소유한, 해당 key 토큰 칸들의 번호(r * cols + c) 배열
  *   => 팀별로 자기 소유 칸들을 토큰 기준으로 묶어 둔다.
+ * - key는 TokenDictionary가 부여한 int이므로 조회/갱신에 문자열 해시·정규화·박싱이 없다.
+ * - 버킷은 칸 번호 오름차순으로 유지한다. 뒤집을 칸(맨 앞)이 갱신 이력과 무관하게 보드 내용만으로 정해지므로,
+ *   보드를 통째로 받아 인덱스를 다시 만든 클라이언트(재동기화)도 서버와 같은 칸을 고른다.
  *
  * 정규화(norm) 전략
  * - 사진 속 UI처럼 한글/영문/전각/공백 혼용 가능성을 고려해
  *   trim + NFKC + toLowerCase(Locale.ROOT) 조합을 사용.
  * - 이렇게 하면 "Apple", "Ａｐｐｌｅ"(전각), " apple " 등이 동일하게 취급된다.
+ * - 보드 토큰은 사전에 등록할 때 한 번, 입력은 flipByInput에서 한 번만 정규화한다.
  */
 public class TokenIndex {
 
-    private final Map<Team, Map<String, List<Pos>>> byOwner = new EnumMap<>(Team.class);
+    private final TokenDictionary dict;
+    private final int cols;
+    private final int[][][] buckets = new int[Team.values().length][][]; // [팀][key] -> 칸 번호들
+    private final int[][] sizes = new int[Team.values().length][];      // [팀][key] -> 사용 중인 개수
 
-    public TokenIndex() {
-        for (Team t : Team.values()) byOwner.put(t, new HashMap<>());
+    public TokenIndex(TokenDictionary dict, int cols) {
+        this.dict = dict;
+        this.cols = cols;
+        int keys = Math.max(16, dict.keyCount());
+        for (Team t : Team.values()) {
+            buckets[t.ordinal()] = new int[keys][];
+            sizes[t.ordinal()] = new int[keys];
+        }
+    }
+
+    /** 보드의 모든 칸을 행 우선 순서로 등록한 인덱스 (서버/클라이언트가 같은 순서를 갖도록) */
+    public static TokenIndex fromBoard(Board board) {
+        TokenIndex idx = new TokenIndex(board.dictionary(), board.cols());
+        board.forEachCell((cell, owner, tokenId) -> idx.add(owner, tokenId, cell));
+        return idx;
     }
 
     /** 입력·보드 토큰 모두에 동일 적용될 정규화 규칙 */
@@ -30,29 +50,76 @@ public class TokenIndex {
         return nfkc.toLowerCase(Locale.ROOT);
     }
 
-    /** 보드 초기화/뒤집기 후 인덱스에 칸을 등록 */
-    public void add(Team owner, String rawToken, Pos pos) {
-        String token = norm(rawToken);
-        byOwner.get(owner).computeIfAbsent(token, k -> new ArrayList<>()).add(pos);
+    /** 보드 초기화/뒤집기 후 인덱스에 칸을 등록 (칸 번호 순서 자리에 끼워 넣음) */
+    public void add(Team owner, int tokenId, int cell) {
+        int key = dict.key(tokenId);
+        int t = owner.ordinal();
+        ensureKey(t, key);
+        int[] bucket = buckets[t][key];
+        int n = sizes[t][key];
+        if (bucket == null) {
+            bucket = buckets[t][key] = new int[2];
+        } else if (n == bucket.length) {
+            bucket = buckets[t][key] = Arrays.copyOf(bucket, n * 2);
+        }
+        // fromBoard는 칸 번호 순으로 넣으므로 대부분 맨 뒤에 붙는다
+        int at = (n == 0 || bucket[n - 1] < cell) ? n : Arrays.binarySearch(bucket, 0, n, cell);
+        if (at >= 0 && at < n) return; // 이미 있음
+        if (at < 0) at = -at - 1;
+        System.arraycopy(bucket, at, bucket, at + 1, n - at);
+        bucket[at] = cell;
+        sizes[t][key] = n + 1;
+    }
+
+    /** 뒤집기 직전에 ‘기존 소유 팀’의 인덱스에서 제거 (남은 칸의 순서는 유지) */
+    public void remove(Team owner, int tokenId, int cell) {
+        int key = dict.key(tokenId);
+        int t = owner.ordinal();
+        if (key >= sizes[t].length) return;
+        int[] bucket = buckets[t][key];
+        int n = sizes[t][key];
+        if (n == 0) return;
+        int i = Arrays.binarySearch(bucket, 0, n, cell);
+        if (i < 0) return;
+        System.arraycopy(bucket, i + 1, bucket, i, n - i - 1);
+        sizes[t][key] = n - 1;
+    }
+
+    /** 모든 칸 제거 (재동기화로 보드를 통째로 바꿀 때) */
+    public void clear() {
+        for (int[] s : sizes) Arrays.fill(s, 0);
+    }
+
+    /** 특정 팀이 소유한, 정규화 key가 같은 칸 수 */
+    public int count(Team owner, int key) {
+        int[] s = sizes[owner.ordinal()];
+        return (key < 0 || key >= s.length) ? 0 : s[key];
     }
 
-    /** 뒤집기 직전에 ‘기존 소유 팀’의 인덱스에서 제거 */
-    public void remove(Team owner, String rawToken, Pos pos) {
-        String token = norm(rawToken);
-        var map  = byOwner.get(owner);
-        var list = map.get(token);
-        if (list == null) return;
-        list.remove(pos);
-        if (list.isEmpty()) map.remove(token);
+    /** count()개 중 i번째 칸 번호 (r * cols + c, 오름차순) */
+    public int cellAt(Team owner, int key, int i) {
+        return buckets[owner.ordinal()][key][i];
     }
 
     /**
      * 특정 팀이 소유한 칸 중에서, 주어진 토큰을 가진 좌표들을 반환.
      * - 실전에서는 항상 "상대 팀"을 대상으로 조회한다.
+     * - 복사본을 만들어 돌려주므로 게임 로직의 핫패스에서는 count/cellAt을 쓴다.
      */
     public List<Pos> positionsOf(Team owner, String rawToken) {
-        String token = norm(rawToken);
-        var list = byOwner.get(owner).get(token);
-        return (list == null) ? List.of() : List.copyOf(list);
+        int key = dict.keyOf(rawToken);
+        int n = count(owner, key);
+        if (n == 0) return List.of();
+        List<Pos> list = new ArrayList<>(n);
+        int[] bucket = buckets[owner.ordinal()][key];
+        for (int i = 0; i < n; i++) list.add(new Pos(bucket[i] / cols, bucket[i] % cols));
+        return list;
+    }
+
+    private void ensureKey(int t, int key) {
+        if (key < sizes[t].length) return;
+        int len = Math.max(key + 1, sizes[t].length * 2);
+        buckets[t] = Arrays.copyOf(buckets[t], len);
+        sizes[t] = Arrays.copyOf(sizes[t], len);
     }
 }
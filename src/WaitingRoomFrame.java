@@ -183,36 +183,51 @@ public class WaitingRoomFrame extends JFrame {
         chatInput.setText("");
     }
 
-    /** 서버에서 받은 플레이어 목록 업데이트 */
+    /** 서버에서 받은 플레이어 목록 업데이트 (팀 방이면 한 칸에 팀원을 줄마다 표시) */
     public void updatePlayers(List<NetworkProtocol.PlayerInfo> players) {
-        String yellowName = "빈 자리";
-        String blueName = "빈 자리";
+        StringBuilder yellowNames = new StringBuilder();
+        StringBuilder blueNames = new StringBuilder();
+        int yellowCount = 0, blueCount = 0;
         iAmOwner = false;
         amReady = false;
         for (NetworkProtocol.PlayerInfo p : players) {
-            String name = p.nickname();
-            if (p.team() == myTeam) {
+            String name = escape(p.nickname());
+            // 같은 팀에 여러 명이 있을 수 있으므로 닉네임까지 같아야 나
+            if (p.team() == myTeam && p.nickname().equals(client.getNickname())) {
                 name = name + " (나)";
                 if (p.owner()) iAmOwner = true;
                 amReady = p.ready();
             }
             String readyTag = p.ready() ? " - 준비" : "";
             if (p.team() == Team.YELLOW) {
-                yellowName = name + readyTag;
+                yellowNames.append(name).append(readyTag).append("<br>");
+                yellowCount++;
             } else if (p.team() == Team.BLUE) {
-                blueName = name + readyTag;
+                blueNames.append(name).append(readyTag).append("<br>");
+                blueCount++;
             }
         }
-        yellowSlot.setText(yellowName);
-        blueSlot.setText(blueName);
+        int teamSize = Math.max(1, roomInfo.maxPlayers() / 2);
+        yellowSlot.setText(slotText(yellowNames, yellowCount, teamSize));
+        blueSlot.setText(slotText(blueNames, blueCount, teamSize));
 
         readyButton.setText(amReady ? "준비 해제" : "준비!");
 
-        boolean allReady = players.size() >= 2 && players.stream().allMatch(NetworkProtocol.PlayerInfo::ready);
+        boolean allReady = yellowCount > 0 && blueCount > 0 && players.stream().allMatch(NetworkProtocol.PlayerInfo::ready);
         startButton.setVisible(iAmOwner);
         startButton.setEnabled(iAmOwner && allReady);
     }
 
+    private static String slotText(StringBuilder names, int count, int teamSize) {
+        if (count == 0 && teamSize == 1) return "빈 자리";
+        for (int i = count; i < teamSize; i++) names.append("빈 자리<br>");
+        return "<html><center>" + names + "</center></html>";
+    }
+
+    private static String escape(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
     /** 채팅 로그 추가 */
     public void appendChat(String sender, String text) {
         chatArea.append(sender + ": " + text + "\n");
@@ -0,0 +1,74 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단어 목록(resources/word.txt) 캐시
+ * - 한 번 읽어 걸러 둔(공백 제거, 빈 줄/8자 넘는 단어 제외) 불변 목록을 서버 방 생성과 WordPool이 함께 쓴다.
+ * - 파일 수정 시각을 최대 1초에 한 번 확인해 바뀌었으면 다시 읽는다. 다시 읽는 동안 다른 스레드는 기존 목록을 쓴다.
+ * - 파일이 없거나 읽지 못하면 빈 목록 (대체 단어는 쓰는 쪽에서 정한다).
+ */
+public final class WordCorpus {
+
+    /** 너무 긴 단어는 겹침 방지를 위해 제외 */
+    static final int MAX_LEN = 8;
+    private static final Path PATH = Path.of("resources", "word.txt");
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** 읽어 둔 목록. version은 다시 읽을 때마다 1씩 늘어난다 (미리 만든 보드가 예전 목록인지 확인용) */
+    public record Snapshot(List<String> words, long version) {}
+
+    private static final ReentrantLock reloadLock = new ReentrantLock();
+    private static volatile Snapshot current;
+    private static volatile long lastCheckNanos;
+    private static FileTime loadedTime; // reloadLock 안에서만 사용
+
+    private WordCorpus() {}
+
+    public static Snapshot current() {
+        Snapshot s = current;
+        if (s != null && System.nanoTime() - lastCheckNanos < CHECK_INTERVAL_NANOS) return s;
+        if (s == null) {
+            reloadLock.lock(); // 첫 사용: 다 읽을 때까지 기다린다
+        } else if (!reloadLock.tryLock()) {
+            return s;          // 다른 스레드가 확인 중이면 기존 목록 사용
+        }
+        try {
+            reloadIfChanged();
+            return current;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static void reloadIfChanged() {
+        lastCheckNanos = System.nanoTime();
+        FileTime time = null;
+        try {
+            if (Files.exists(PATH)) time = Files.getLastModifiedTime(PATH);
+        } catch (IOException ignored) { }
+        if (current != null && java.util.Objects.equals(time, loadedTime)) return;
+
+        List<String> words = List.of();
+        if (time != null) {
+            try {
+                words = Files.readAllLines(PATH, StandardCharsets.UTF_8).stream()
+                        .map(String::trim)
+                        .filter(w -> !w.isEmpty() && w.length() <= MAX_LEN)
+                        .toList();
+                System.out.println(PATH + "에서 단어 " + words.size() + "개 불러옴.");
+            } catch (IOException e) {
+                System.err.println(PATH + " 파일 읽기 실패: " + e.getMessage());
+            }
+        } else if (current == null) {
+            System.out.println(PATH + " 파일을 찾지 못해 기본 단어를 사용합니다.");
+        }
+        loadedTime = time;
+        current = new Snapshot(words, current == null ? 0 : current.version() + 1);
+    }
+}
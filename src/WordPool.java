@@ -1,78 +1,96 @@
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 /**
- * 단어 공급기: word.txt(UTF-8) → 필터 → 섞은 뒤 순차 제공.
+ * 단어 공급기: word.txt(UTF-8, WordCorpus가 걸러 둔 목록) → 섞은 뒤 순차 제공.
  * - seed를 보드 상태로부터 계산해 서버/클라이언트에서 동일 순서를 보장.
  * - 너무 긴 단어(>8자)는 제거하고, 없으면 현재 보드에 있는 토큰으로 대체.
+ * - 섞은 순서의 단어들을 보드 사전에 미리 등록해 두고 id로 내준다. (게임 중 사전이 바뀌지 않음)
  */
 public class WordPool {
 
-    private final List<String> pool;
+    private final int[] pool; // 보드 TokenDictionary id
     private int idx = 0;
 
-    private WordPool(List<String> pool) {
+    private WordPool(int[] pool) {
         this.pool = pool;
     }
 
     public static WordPool fromBoard(Board board) {
-        List<String> words = readWords();
+        return fromBoard(board, WordCorpus.current().words());
+    }
+
+    /** 주어진 단어 목록(WordCorpus 목록)으로 구성 — 비어 있으면 보드 토큰을 쓴다 */
+    static WordPool fromBoard(Board board, List<String> words) {
         if (words.isEmpty()) {
             // 최소한 현재 보드 토큰으로라도 구성
-            words = new ArrayList<>();
-            for (int r = 0; r < board.rows(); r++) {
-                for (int c = 0; c < board.cols(); c++) {
-                    words.add(board.get(r, c).token());
-                }
+            words = new ArrayList<>(board.size());
+            for (int i = 0; i < board.size(); i++) {
+                words.add(board.token(i));
             }
         }
+        return fromWords(board, words);
+    }
+
+    /** 주어진 단어 목록으로 구성 (목록은 보드 seed로 섞인다) */
+    static WordPool fromWords(Board board, List<String> words) {
+        words = new ArrayList<>(words);
         long seed = computeSeed(board);
         Collections.shuffle(words, new Random(seed));
-        return new WordPool(words);
+
+        // 섞은 순서는 문자열 기준이므로 서버/클라이언트의 사전 id가 달라도 같은 단어 순서가 된다
+        TokenDictionary dict = board.dictionary();
+        int[] ids = new int[words.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = dict.intern(words.get(i));
+        return new WordPool(ids);
+    }
+
+    /** 섞지 않고 주어진 순서 그대로 구성 (경기 기록 재생: 기록된 단어 순서를 그대로 쓴다) */
+    static WordPool inOrder(Board board, List<String> ordered) {
+        TokenDictionary dict = board.dictionary();
+        int[] ids = new int[ordered.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = dict.intern(ordered.get(i));
+        return new WordPool(ids);
+    }
+
+    /** 공급 순서의 단어들 (경기 기록용) */
+    public List<String> words(TokenDictionary dict) {
+        List<String> list = new ArrayList<>(pool.length);
+        for (int id : pool) list.add(dict.text(id));
+        return list;
     }
 
-    /** 현재 토큰(avoid)와 다르거나, 더 이상 없으면 순환하여 반환 */
-    public synchronized String nextToken(String avoid) {
-        if (pool.isEmpty()) return avoid;
-        int attempts = pool.size();
+    /** 현재 토큰(avoid)와 다르거나, 더 이상 없으면 순환하여 반환 (토큰 id) */
+    public synchronized int nextToken(int avoid) {
+        if (pool.length == 0) return avoid;
+        int attempts = pool.length;
         while (attempts-- > 0) {
-            String candidate = pool.get(idx++ % pool.size());
-            if (!candidate.equals(avoid)) return candidate;
+            int candidate = pool[idx++ % pool.length];
+            if (candidate != avoid) return candidate;
         }
-        return pool.get(idx++ % pool.size());
+        return pool[idx++ % pool.length];
     }
 
-    private static List<String> readWords() {
-        Path path = Path.of("resources", "word.txt");
-        try {
-            if (Files.exists(path)) {
-                var lines = Files.readAllLines(path, StandardCharsets.UTF_8);
-                List<String> ws = lines.stream()
-                        .map(String::trim)
-                        .filter(s -> !s.isEmpty() && s.length() <= 8)
-                        .toList();
-                if (!ws.isEmpty()) return new ArrayList<>(ws);
-            }
-        } catch (Exception ignored) { }
-        return List.of();
+    /** 다음 단어 위치 (재동기화 때 서버 위치를 클라이언트에 전달) */
+    public synchronized int position() {
+        return idx;
+    }
+
+    public synchronized void seek(int position) {
+        idx = Math.max(0, position);
     }
 
-    private static long computeSeed(Board board) {
+    static long computeSeed(Board board) {
         long h = 1469598103934665603L; // FNV-1a 64bit offset
         h ^= board.rows(); h *= 1099511628211L;
         h ^= board.cols(); h *= 1099511628211L;
-        for (int r = 0; r < board.rows(); r++) {
-            for (int c = 0; c < board.cols(); c++) {
-                String t = board.get(r, c).token();
-                for (int k = 0; k < t.length(); k++) {
-                    h ^= t.charAt(k);
-                    h *= 1099511628211L;
-                }
+        for (int i = 0; i < board.size(); i++) { // 행 우선 순서 = 칸 번호 순서
+            String t = board.token(i);
+            for (int k = 0; k < t.length(); k++) {
+                h ^= t.charAt(k);
+                h *= 1099511628211L;
             }
         }
         return h;